@@ -2,7 +2,7 @@
 let conversationId = null;
 let projectName = 'default-project'; // Vector Store용 프로젝트 이름
 let isTyping = false;
-let apiPath = '/api/chat'; // 기본 API 경로
+let apiPath = '/api/chat/stream'; // 기본 API 경로 (토큰 스트리밍)
 
 // DOM 요소
 const chatForm = document.getElementById('chatForm');
@@ -82,11 +82,16 @@ async function handleSubmit(e) {
             throw new Error('서버 오류가 발생했습니다.');
         }
         
-        const data = await response.text();
-        hideTypingIndicator();
-        
-        // 응답은 plain text 형식
-        appendMessage(data, 'assistant');
+        if (apiPath.endsWith('/stream')) {
+            // 응답은 SSE 형식 (토큰이 도착하는 대로 출력)
+            await streamAnswer(response.body);
+        } else {
+            const data = await response.text();
+            hideTypingIndicator();
+            
+            // 응답은 plain text 형식
+            appendMessage(data, 'assistant');
+        }
         
     } catch (error) {
         console.error('Error:', error);
@@ -99,7 +104,65 @@ async function handleSubmit(e) {
     }
 }
 
-// 메시지 추가
+// SSE 토큰 스트림 출력: token(data: {"text": "..."}) 반복 → done, 실패 시 error
+async function streamAnswer(body) {
+    const reader = body.getReader();
+    const decoder = new TextDecoder('utf-8');
+    let buffer = '';
+    let content = '';
+    let contentDiv = null;
+    
+    while (true) {
+        const { value, done } = await reader.read();
+        if (done) break;
+        buffer += decoder.decode(value, { stream: true });
+        // 이벤트는 빈 줄로 구분되므로 완성된 이벤트만 처리하고 나머지는 다음 청크와 결합
+        const events = buffer.split(/\r?\n\r?\n/);
+        buffer = events.pop();
+        for (const rawEvent of events) {
+            const event = parseSseEvent(rawEvent);
+            if (event.name === 'error') {
+                throw new Error(JSON.parse(event.data).text);
+            }
+            if (event.name !== 'token') continue;
+            
+            // 첫 토큰이 도착하면 타이핑 인디케이터를 답변 말풍선으로 교체
+            if (!contentDiv) {
+                hideTypingIndicator();
+                contentDiv = appendMessage('', 'assistant');
+            }
+            content += JSON.parse(event.data).text;
+            // 닫히지 않은 태그가 있으면 다음 토큰까지 기다렸다가 렌더링
+            if (content.lastIndexOf('<') <= content.lastIndexOf('>')) {
+                contentDiv.innerHTML = content;
+                scrollToBottom();
+            }
+        }
+    }
+    
+    hideTypingIndicator();
+    if (!contentDiv) {
+        contentDiv = appendMessage('', 'assistant');
+    }
+    contentDiv.innerHTML = content;
+    scrollToBottom();
+}
+
+// SSE 이벤트 한 건(event:/data: 줄) 파싱
+function parseSseEvent(rawEvent) {
+    let name = 'message';
+    const data = [];
+    for (const line of rawEvent.split(/\r?\n/)) {
+        if (line.startsWith('event:')) {
+            name = line.substring(6).trim();
+        } else if (line.startsWith('data:')) {
+            data.push(line.substring(5).replace(/^ /, ''));
+        }
+    }
+    return { name, data: data.join('\n') };
+}
+
+// 메시지 추가 (내용 엘리먼트 반환)
 function appendMessage(content, role) {
     const messageDiv = document.createElement('div');
     messageDiv.className = `message ${role}`;
@@ -125,6 +188,7 @@ function appendMessage(content, role) {
     
     messagesContainer.appendChild(messageDiv);
     scrollToBottom();
+    return contentDiv;
 }
 
 // 타이핑 인디케이터 표시
@@ -62,6 +62,54 @@ springai.printAnswerStreamText = async function (responseBody, targetId, chatPan
   }
 };
 
+// ##### SSE(text/event-stream) 토큰 스트리밍 응답을 출력하는 함수 #####
+// 서버 이벤트: token(data: {"text": "..."}) 반복 → done, 실패 시 error
+springai.printAnswerSse = async function (responseBody, targetId, chatPanelId) {
+  const targetElement = document.getElementById(targetId);
+  const reader = responseBody.getReader();
+  const decoder = new TextDecoder("utf-8");
+  let buffer = "";
+  let content = "";
+  while (true) {
+    const { value, done } = await reader.read();
+    if (done) break;
+    buffer += decoder.decode(value, { stream: true });
+    // 이벤트는 빈 줄로 구분되므로 완성된 이벤트만 처리하고 나머지는 다음 청크와 결합
+    const events = buffer.split(/\r?\n\r?\n/);
+    buffer = events.pop();
+    for (const rawEvent of events) {
+      const event = springai.parseSseEvent(rawEvent);
+      if (event.name === "error") {
+        content += `<div class="text-danger">${JSON.parse(event.data).text}</div>`;
+      } else if (event.name === "token") {
+        content += JSON.parse(event.data).text;
+      } else {
+        continue;
+      }
+      if (!springai.isOpenTagIncomplete(content)) {
+        // 마크다운 코드 블록 제거
+        targetElement.innerHTML = content.replace(/```html\n?/g, '').replace(/```\n?/g, '');
+      }
+    }
+    springai.scrollToHeight(chatPanelId);
+  }
+  targetElement.innerHTML = content.replace(/```html\n?/g, '').replace(/```\n?/g, '');
+};
+
+// ##### SSE 이벤트 한 건(event:/data: 줄)을 파싱하는 함수 #####
+springai.parseSseEvent = function (rawEvent) {
+  let name = "message";
+  const data = [];
+  for (const line of rawEvent.split(/\r?\n/)) {
+    if (line.startsWith("event:")) {
+      name = line.substring(6).trim();
+    } else if (line.startsWith("data:")) {
+      data.push(line.substring(5).replace(/^ /, ""));
+    }
+  }
+  return { name: name, data: data.join("\n") };
+};
+
 // ##### 태그가 정상적으로 <>으로 구성되어 있는지 체크하는 함수 #####
 // innerHTML은 <div 같이 텍스트가 추가되면 무시해버리기 때문에 다음 청크의 >까지
 // 결합해서 innerHTML에 추가해야 함
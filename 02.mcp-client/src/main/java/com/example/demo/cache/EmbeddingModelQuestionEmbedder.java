@@ -0,0 +1,18 @@
+package com.example.demo.cache;
+
+import org.springframework.ai.embedding.EmbeddingModel;
+
+// Spring AI EmbeddingModel (기본: OpenAI 임베딩 API) 을 사용하는 임베더
+public class EmbeddingModelQuestionEmbedder implements QuestionEmbedder {
+
+  private final EmbeddingModel embeddingModel;
+
+  public EmbeddingModelQuestionEmbedder(EmbeddingModel embeddingModel) {
+    this.embeddingModel = embeddingModel;
+  }
+
+  @Override
+  public float[] embed(String text) {
+    return QuestionEmbedder.normalize(embeddingModel.embed(text));
+  }
+}
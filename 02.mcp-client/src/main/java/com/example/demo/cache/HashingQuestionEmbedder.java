@@ -0,0 +1,48 @@
+package com.example.demo.cache;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 외부 호출 없이 동작하는 결정적(deterministic) 임베더
+ *
+ * 정규화한 문장의 글자 2-gram / 3-gram 과 단어를 feature hashing 으로 고정 차원 벡터에 누적한다.
+ * 표현이 조금 다른 같은 질문("서울 지역 사용자 알려줘" / "서울 지역 사용자 알려 주세요")을 가깝게 만들지만 의미는 모르므로,
+ * 운영에서는 EmbeddingModel 임베더를 쓰고 이 임베더는 테스트나 API 비용 없이 돌려볼 때 사용한다.
+ */
+public class HashingQuestionEmbedder implements QuestionEmbedder {
+
+  private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private final int dimensions;
+
+  public HashingQuestionEmbedder(int dimensions) {
+    this.dimensions = dimensions;
+  }
+
+  @Override
+  public float[] embed(String text) {
+    String normalized = NON_WORD.matcher(Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT))
+        .replaceAll(" ").strip();
+    float[] vector = new float[dimensions];
+    String padded = " " + normalized + " ";
+    for (int n = 2; n <= 3; n++) {
+      for (int i = 0; i + n <= padded.length(); i++) {
+        add(vector, padded.substring(i, i + n), 1f);
+      }
+    }
+    for (String word : normalized.split(" ")) {
+      if (!word.isEmpty()) {
+        add(vector, "w:" + word, 2f);
+      }
+    }
+    return QuestionEmbedder.normalize(vector);
+  }
+
+  // 해시 값의 한 비트로 부호를 정해 충돌로 인한 편향을 줄임
+  private void add(float[] vector, String feature, float weight) {
+    int hash = feature.hashCode() * 0x9E3779B9;
+    vector[Math.floorMod(hash >>> 1, dimensions)] += (hash >>> 31) == 0 ? weight : -weight;
+  }
+}
@@ -0,0 +1,213 @@
+package com.example.demo.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 코사인 유사도(정규화 벡터의 내적) 기반 HNSW 근사 최근접 이웃 인덱스
+ *
+ * - 계층마다 각 노드가 최대 m 개(0층은 2m 개)의 이웃을 가지는 그래프로, 위층에서 greedy 로 내려오며 탐색한다.
+ * - 삭제는 tombstone 으로 처리해 탐색 경로로는 쓰되 결과에서는 제외하고, 삭제 노드가 살아 있는 노드보다 많아지면 재구축한다.
+ * - 동기화하지 않으므로 호출하는 쪽(SemanticAnswerCache)에서 잠금을 잡는다.
+ */
+class HnswIndex {
+
+  private final int m;
+  private final int maxNeighborsLayer0;
+  private final int efConstruction;
+  private final double levelMultiplier;
+  private final Random random;
+
+  private final Map<Long, Node> nodes = new HashMap<>();
+  private Node entryPoint;
+  private int deleted = 0;
+
+  HnswIndex(int m, int efConstruction, long seed) {
+    this.m = m;
+    this.maxNeighborsLayer0 = m * 2;
+    this.efConstruction = Math.max(efConstruction, m);
+    this.levelMultiplier = 1 / Math.log(m);
+    this.random = new Random(seed);
+  }
+
+  record Match(long id, double similarity) {
+  }
+
+  int size() {
+    return nodes.size() - deleted;
+  }
+
+  // id 는 인덱스 안에서 유일해야 함 (SemanticAnswerCache 는 증가하는 번호 사용)
+  void add(long id, float[] vector) {
+    int level = (int) Math.floor(-Math.log(1 - random.nextDouble()) * levelMultiplier);
+    Node node = new Node(id, vector, level);
+    nodes.put(id, node);
+    if (entryPoint == null) {
+      entryPoint = node;
+      return;
+    }
+
+    Node current = entryPoint;
+    for (int layer = entryPoint.level; layer > level; layer--) {
+      current = greedy(vector, current, layer);
+    }
+    for (int layer = Math.min(level, entryPoint.level); layer >= 0; layer--) {
+      List<Candidate> candidates = searchLayer(vector, current, efConstruction, layer);
+      int maxNeighbors = layer == 0 ? maxNeighborsLayer0 : m;
+      for (Candidate candidate : candidates.subList(0, Math.min(m, candidates.size()))) {
+        node.neighbors.get(layer).add(candidate.node);
+        connect(candidate.node, node, layer, maxNeighbors);
+      }
+      current = candidates.get(0).node;
+    }
+    if (level > entryPoint.level) {
+      entryPoint = node;
+    }
+  }
+
+  void remove(long id) {
+    Node node = nodes.get(id);
+    if (node == null || node.deleted) {
+      return;
+    }
+    node.deleted = true;
+    deleted++;
+    if (deleted > nodes.size() / 2) {
+      rebuild();
+    }
+  }
+
+  void clear() {
+    nodes.clear();
+    entryPoint = null;
+    deleted = 0;
+  }
+
+  // 유사도가 높은 순으로 최대 k 개 (삭제된 항목 제외)
+  List<Match> search(float[] query, int k, int ef) {
+    if (entryPoint == null) {
+      return List.of();
+    }
+    Node current = entryPoint;
+    for (int layer = entryPoint.level; layer > 0; layer--) {
+      current = greedy(query, current, layer);
+    }
+    List<Match> matches = new ArrayList<>(k);
+    for (Candidate candidate : searchLayer(query, current, Math.max(ef, k), 0)) {
+      if (!candidate.node.deleted) {
+        matches.add(new Match(candidate.node.id, candidate.similarity));
+        if (matches.size() == k) {
+          break;
+        }
+      }
+    }
+    return matches;
+  }
+
+  // 이웃 수가 상한을 넘으면 가장 먼 이웃부터 제거
+  private void connect(Node from, Node to, int layer, int maxNeighbors) {
+    List<Node> neighbors = from.neighbors.get(layer);
+    neighbors.add(to);
+    if (neighbors.size() > maxNeighbors) {
+      neighbors.sort(Comparator.comparingDouble((Node neighbor) -> similarity(from.vector, neighbor.vector)).reversed());
+      neighbors.subList(maxNeighbors, neighbors.size()).clear();
+    }
+  }
+
+  private Node greedy(float[] query, Node start, int layer) {
+    Node current = start;
+    double best = similarity(query, current.vector);
+    boolean improved = true;
+    while (improved) {
+      improved = false;
+      for (Node neighbor : current.neighbors.get(layer)) {
+        double similarity = similarity(query, neighbor.vector);
+        if (similarity > best) {
+          best = similarity;
+          current = neighbor;
+          improved = true;
+        }
+      }
+    }
+    return current;
+  }
+
+  // 한 계층에서 ef 개 후보를 유지하며 탐색, 유사도 내림차순으로 반환
+  private List<Candidate> searchLayer(float[] query, Node start, int ef, int layer) {
+    Set<Node> visited = new HashSet<>();
+    PriorityQueue<Candidate> frontier = new PriorityQueue<>(Comparator.comparingDouble(Candidate::similarity).reversed());
+    PriorityQueue<Candidate> results = new PriorityQueue<>(Comparator.comparingDouble(Candidate::similarity));
+    Candidate first = new Candidate(start, similarity(query, start.vector));
+    visited.add(start);
+    frontier.add(first);
+    results.add(first);
+
+    while (!frontier.isEmpty()) {
+      Candidate closest = frontier.poll();
+      if (results.size() >= ef && closest.similarity < results.peek().similarity) {
+        break;
+      }
+      for (Node neighbor : closest.node.neighbors.get(layer)) {
+        if (!visited.add(neighbor)) {
+          continue;
+        }
+        Candidate candidate = new Candidate(neighbor, similarity(query, neighbor.vector));
+        if (results.size() < ef || candidate.similarity > results.peek().similarity) {
+          frontier.add(candidate);
+          results.add(candidate);
+          if (results.size() > ef) {
+            results.poll();
+          }
+        }
+      }
+    }
+    List<Candidate> sorted = new ArrayList<>(results);
+    sorted.sort(Comparator.comparingDouble(Candidate::similarity).reversed());
+    return sorted;
+  }
+
+  private void rebuild() {
+    List<Node> live = nodes.values().stream().filter(node -> !node.deleted).toList();
+    clear();
+    for (Node node : live) {
+      add(node.id, node.vector);
+    }
+  }
+
+  static double similarity(float[] a, float[] b) {
+    double dot = 0;
+    for (int i = 0; i < a.length; i++) {
+      dot += a[i] * b[i];
+    }
+    return dot;
+  }
+
+  private record Candidate(Node node, double similarity) {
+  }
+
+  private static final class Node {
+
+    private final long id;
+    private final float[] vector;
+    private final int level;
+    private final List<List<Node>> neighbors;
+    private boolean deleted;
+
+    private Node(long id, float[] vector, int level) {
+      this.id = id;
+      this.vector = vector;
+      this.level = level;
+      this.neighbors = new ArrayList<>(level + 1);
+      for (int i = 0; i <= level; i++) {
+        neighbors.add(new ArrayList<>());
+      }
+    }
+  }
+}
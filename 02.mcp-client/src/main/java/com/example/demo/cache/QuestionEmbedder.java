@@ -0,0 +1,29 @@
+package com.example.demo.cache;
+
+/**
+ * 질문 문장을 임베딩 벡터로 변환 (SemanticAnswerCache 에서 사용)
+ *
+ * 반환 벡터는 길이 1로 정규화되어 있어야 한다. (코사인 유사도 = 내적)
+ */
+@FunctionalInterface
+public interface QuestionEmbedder {
+
+  float[] embed(String text);
+
+  // 길이 1로 정규화 (영벡터는 그대로)
+  static float[] normalize(float[] vector) {
+    double norm = 0;
+    for (float value : vector) {
+      norm += value * value;
+    }
+    if (norm == 0) {
+      return vector;
+    }
+    float scale = (float) (1 / Math.sqrt(norm));
+    float[] normalized = new float[vector.length];
+    for (int i = 0; i < vector.length; i++) {
+      normalized[i] = vector[i] * scale;
+    }
+    return normalized;
+  }
+}
@@ -0,0 +1,262 @@
+package com.example.demo.cache;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.example.demo.config.AnswerCacheProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 질문 유사도 기반 답변 캐시
+ *
+ * - 질문을 QuestionEmbedder 로 임베딩해 HnswIndex 에서 가장 비슷한 이전 질문을 찾고,
+ *   유사도가 chat.answer-cache.similarity-threshold 이상이면 그 답변을 그대로 사용한다.
+ * - 유사도만으로는 "ID 1 사용자" 와 "ID 2 사용자" 를 구분하지 못하므로, 질문의 숫자 / 따옴표로 감싼 값 /
+ *   영문 단어와 이메일 / chat.answer-cache.entity-names 가 모두 같아야 적중으로 본다.
+ * - 답변을 만드는 동안 chat.answer-cache.cacheable-tools 에 없는 도구를 호출했으면 저장하지 않는다.
+ * - 답변은 chat.answer-cache.ttl 동안 보관하며, max-entries 를 넘으면 가장 오래 사용하지 않은 답변부터 제거한다. (LRU)
+ * - 데이터 변경 도구가 호출되면(ToolResultCache 리스너) 모든 답변을 비우고, 그와 겹쳐 생성된 답변은 저장하지 않는다.
+ * - 임베딩에 실패하면 캐시 없이 진행한다.
+ * 메트릭: chat.answer.cache.requests (result=hit|miss), chat.answer.cache.hit.ratio, chat.answer.cache.entries,
+ *        chat.answer.cache.latency.saved (답변 생성에 걸렸던 시간 - 조회 시간), chat.answer.cache.embedding,
+ *        chat.answer.cache.evictions (reason=capacity|expired|invalidated)
+ */
+@Slf4j
+public class SemanticAnswerCache {
+
+  // 유사도 기준을 넘었지만 질문 속 값이 달라 건너뛸 수 있으므로 여유 있게 후보를 가져옴
+  private static final int CANDIDATES = 10;
+  private static final Pattern NUMBER = Pattern.compile("\\d+(?:\\.\\d+)?");
+  private static final Pattern QUOTED = Pattern.compile("\"([^\"]+)\"|'([^']+)'|“([^”]+)”|‘([^’]+)’|「([^」]+)」|『([^』]+)』");
+  private static final Pattern LATIN = Pattern.compile("[\\w.+-]+@[\\w.-]+|[A-Za-z][A-Za-z0-9_-]*");
+
+  private final boolean enabled;
+  private final QuestionEmbedder embedder;
+  private final double similarityThreshold;
+  private final long ttlMillis;
+  private final int maxEntries;
+  private final int efSearch;
+  private final Set<String> cacheableTools;
+  private final List<String> entityNames;
+  private final Clock clock;
+
+  private final HnswIndex index;
+  // access-order LinkedHashMap: 순회 시 가장 오래 사용하지 않은 답변부터
+  private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long nextId = 0;
+  // 변경 도구가 호출될 때마다 증가
+  private long generation = 0;
+
+  private final Counter hits;
+  private final Counter misses;
+  private final Timer savedLatency;
+  private final Timer embeddingTime;
+  private final Counter capacityEvictions;
+  private final Counter expiredEvictions;
+  private final Counter invalidatedEvictions;
+
+  public SemanticAnswerCache(AnswerCacheProperties properties, QuestionEmbedder embedder,
+                             MeterRegistry meterRegistry, Clock clock) {
+    this.enabled = properties.isEnabled();
+    this.embedder = embedder;
+    this.similarityThreshold = properties.getSimilarityThreshold();
+    this.ttlMillis = properties.getTtl().toMillis();
+    this.maxEntries = properties.getMaxEntries();
+    this.efSearch = properties.getHnsw().getEfSearch();
+    this.cacheableTools = Set.copyOf(properties.getCacheableTools());
+    this.entityNames = List.copyOf(properties.getEntityNames());
+    this.clock = clock;
+    this.index = new HnswIndex(properties.getHnsw().getM(), properties.getHnsw().getEfConstruction(), 42);
+
+    this.hits = requests(meterRegistry, "hit");
+    this.misses = requests(meterRegistry, "miss");
+    Gauge.builder("chat.answer.cache.hit.ratio", this, SemanticAnswerCache::hitRatio).register(meterRegistry);
+    Gauge.builder("chat.answer.cache.entries", this, SemanticAnswerCache::size).register(meterRegistry);
+    this.savedLatency = Timer.builder("chat.answer.cache.latency.saved")
+        .description("캐시 적중으로 줄어든 답변 시간")
+        .register(meterRegistry);
+    this.embeddingTime = Timer.builder("chat.answer.cache.embedding")
+        .description("질문 임베딩 시간")
+        .register(meterRegistry);
+    this.capacityEvictions = evictions(meterRegistry, "capacity");
+    this.expiredEvictions = evictions(meterRegistry, "expired");
+    this.invalidatedEvictions = evictions(meterRegistry, "invalidated");
+  }
+
+  private static Counter requests(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("chat.answer.cache.requests").tag("result", result).register(meterRegistry);
+  }
+
+  private static Counter evictions(MeterRegistry meterRegistry, String reason) {
+    return Counter.builder("chat.answer.cache.evictions").tag("reason", reason).register(meterRegistry);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * 비슷한 질문의 답변 조회
+   * 적중하지 않으면 답변 생성 후 반환된 Lookup 으로 put 을 호출해 저장한다. (임베딩 재사용)
+   */
+  public Lookup lookup(String question) {
+    long startedAt = System.nanoTime();
+    Set<String> keys = keys(question);
+    float[] vector;
+    try {
+      vector = embedder.embed(question);
+    } catch (RuntimeException e) {
+      log.warn("질문 임베딩 실패, 답변 캐시 없이 진행: {}", e.getMessage());
+      return new Lookup(null, null, keys, -1, startedAt);
+    } finally {
+      embeddingTime.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    synchronized (this) {
+      long now = clock.millis();
+      for (HnswIndex.Match match : index.search(vector, CANDIDATES, Math.max(efSearch, CANDIDATES))) {
+        if (match.similarity() < similarityThreshold) {
+          break;
+        }
+        Entry entry = entries.get(match.id());
+        if (entry == null) {
+          continue;
+        }
+        if (entry.expiresAt <= now) {
+          remove(match.id());
+          expiredEvictions.increment();
+          continue;
+        }
+        if (!entry.keys.equals(keys)) {
+          continue;
+        }
+        hits.increment();
+        savedLatency.record(Math.max(0, entry.generationNanos - (System.nanoTime() - startedAt)), TimeUnit.NANOSECONDS);
+        log.debug("답변 캐시 적중 (유사도 {}): {}", String.format("%.3f", match.similarity()), question);
+        return new Lookup(entry.answer, vector, keys, generation, startedAt);
+      }
+      misses.increment();
+      return new Lookup(null, vector, keys, generation, startedAt);
+    }
+  }
+
+  /**
+   * 적중하지 않은 조회 뒤 생성한 답변 저장
+   * 그 사이 변경 도구가 호출되었거나, 답변에 cacheable-tools 에 없는 도구(toolNames)를 사용했으면 저장하지 않는다.
+   */
+  public synchronized void put(Lookup miss, String answer, Collection<String> toolNames) {
+    if (miss.vector == null || miss.hit() || answer == null || answer.isBlank() || miss.generation != generation) {
+      return;
+    }
+    if (!cacheableTools.containsAll(toolNames)) {
+      log.debug("캐시하지 않는 도구를 사용한 답변은 저장하지 않음: {}", toolNames);
+      return;
+    }
+    long id = nextId++;
+    index.add(id, miss.vector);
+    entries.put(id, new Entry(answer, miss.keys, clock.millis() + ttlMillis, System.nanoTime() - miss.startedAt));
+
+    Iterator<Map.Entry<Long, Entry>> it = entries.entrySet().iterator();
+    while (entries.size() > maxEntries && it.hasNext()) {
+      long evicted = it.next().getKey();
+      it.remove();
+      index.remove(evicted);
+      capacityEvictions.increment();
+    }
+  }
+
+  // 모든 답변 제거 (데이터 변경 도구 호출 시)
+  public synchronized void invalidateAll() {
+    generation++;
+    if (!entries.isEmpty()) {
+      invalidatedEvictions.increment(entries.size());
+      log.debug("답변 캐시 무효화 ({}개)", entries.size());
+    }
+    entries.clear();
+    index.clear();
+  }
+
+  // 질문에서 답을 바꾸는 값 추출 (숫자, 따옴표로 감싼 값, 영문 단어 / 이메일, 설정된 이름)
+  private Set<String> keys(String question) {
+    Set<String> keys = new TreeSet<>();
+    Matcher quoted = QUOTED.matcher(question);
+    while (quoted.find()) {
+      for (int group = 1; group <= quoted.groupCount(); group++) {
+        if (quoted.group(group) != null) {
+          keys.add("q:" + quoted.group(group).strip());
+        }
+      }
+    }
+    Matcher number = NUMBER.matcher(question);
+    while (number.find()) {
+      keys.add("n:" + number.group());
+    }
+    Matcher latin = LATIN.matcher(question);
+    while (latin.find()) {
+      keys.add("w:" + latin.group().toLowerCase(Locale.ROOT));
+    }
+    for (String name : entityNames) {
+      if (question.contains(name)) {
+        keys.add("e:" + name);
+      }
+    }
+    return keys;
+  }
+
+  private void remove(long id) {
+    entries.remove(id);
+    index.remove(id);
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private double hitRatio() {
+    double total = hits.count() + misses.count();
+    return total == 0 ? 0 : hits.count() / total;
+  }
+
+  public static final class Lookup {
+
+    private final String answer;
+    private final float[] vector;
+    private final Set<String> keys;
+    private final long generation;
+    private final long startedAt;
+
+    private Lookup(String answer, float[] vector, Set<String> keys, long generation, long startedAt) {
+      this.answer = answer;
+      this.vector = vector;
+      this.keys = keys;
+      this.generation = generation;
+      this.startedAt = startedAt;
+    }
+
+    public boolean hit() {
+      return answer != null;
+    }
+
+    public String answer() {
+      return answer;
+    }
+  }
+
+  private record Entry(String answer, Set<String> keys, long expiresAt, long generationNanos) {
+  }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.config;
+
+import java.time.Clock;
+
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.demo.cache.EmbeddingModelQuestionEmbedder;
+import com.example.demo.cache.HashingQuestionEmbedder;
+import com.example.demo.cache.QuestionEmbedder;
+import com.example.demo.cache.SemanticAnswerCache;
+import com.example.demo.tool.ToolResultCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class AnswerCacheConfig {
+
+    // chat.answer-cache.embedder 에 따라 선택 (다른 구현은 @Primary QuestionEmbedder 빈으로 교체)
+    @Bean
+    public QuestionEmbedder questionEmbedder(AnswerCacheProperties properties,
+                                             ObjectProvider<EmbeddingModel> embeddingModel) {
+        return switch (properties.getEmbedder()) {
+            case MODEL -> new EmbeddingModelQuestionEmbedder(embeddingModel.getObject());
+            case HASHING -> new HashingQuestionEmbedder(properties.getHashingDimensions());
+        };
+    }
+
+    // 질문 유사도 기반 답변 캐시, 데이터 변경 도구가 호출되면 전체 무효화
+    @Bean
+    public SemanticAnswerCache semanticAnswerCache(AnswerCacheProperties properties,
+                                                   QuestionEmbedder questionEmbedder,
+                                                   ToolResultCache toolResultCache,
+                                                   MeterRegistry meterRegistry) {
+        SemanticAnswerCache cache = new SemanticAnswerCache(properties, questionEmbedder, meterRegistry, Clock.systemUTC());
+        toolResultCache.addMutationListener(cache::invalidateAll);
+        return cache;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.demo.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+// 질문 유사도 기반 답변 캐시 설정 (chat.answer-cache.*)
+@Data
+@Component
+@ConfigurationProperties(prefix = "chat.answer-cache")
+public class AnswerCacheProperties {
+
+    private boolean enabled = true;
+
+    // 질문 임베딩 방식 (model: Spring AI EmbeddingModel, hashing: 외부 호출 없는 로컬 feature hashing)
+    private Embedder embedder = Embedder.MODEL;
+
+    // 이 값 이상으로 비슷한 질문이면 캐시된 답변 사용 (코사인 유사도)
+    private double similarityThreshold = 0.92;
+
+    // 답변 보관 시간
+    private Duration ttl = Duration.ofMinutes(10);
+
+    // 최대 보관 답변 수 (초과 시 가장 오래 사용하지 않은 답변부터 제거)
+    private int maxEntries = 1000;
+
+    // hashing 임베더의 벡터 차원
+    private int hashingDimensions = 512;
+
+    // 답변을 저장해도 되는 도구 이름 (그 턴에 여기에 없는 도구를 하나라도 호출했으면 답변을 저장하지 않음)
+    // 현재 시각 / 날씨 / 시스템 상태처럼 매번 달라지는 도구, 알람 설정처럼 부수 효과가 있는 도구는 넣지 않는다.
+    private List<String> cacheableTools = List.of();
+
+    // 질문에 포함되면 캐시된 질문과 똑같이 포함되어야 적중으로 보는 이름 (지역명 등)
+    // 숫자, 따옴표로 감싼 값, 영문 단어 / 이메일은 설정 없이도 똑같아야 적중
+    private List<String> entityNames = List.of();
+
+    private Hnsw hnsw = new Hnsw();
+
+    public enum Embedder {
+        MODEL, HASHING
+    }
+
+    @Data
+    public static class Hnsw {
+
+        // 노드당 이웃 수 (0층은 2배)
+        private int m = 16;
+
+        // 삽입 시 탐색 후보 수
+        private int efConstruction = 100;
+
+        // 조회 시 탐색 후보 수
+        private int efSearch = 50;
+    }
+}
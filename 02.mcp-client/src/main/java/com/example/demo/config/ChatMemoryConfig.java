@@ -1,23 +1,48 @@
 package com.example.demo.config;
 
+import java.time.Clock;
+
 import org.springframework.ai.chat.memory.ChatMemory;
-import org.springframework.ai.chat.memory.InMemoryChatMemoryRepository;
+import org.springframework.ai.chat.memory.ChatMemoryRepository;
 import org.springframework.ai.chat.memory.MessageWindowChatMemory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.example.demo.memory.BoundedChatMemoryRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpSessionEvent;
+import jakarta.servlet.http.HttpSessionListener;
 
 @Configuration
+@EnableScheduling
 public class ChatMemoryConfig {
 
+    // 크기 상한(LRU) / 유휴 제거 / 선택적 디스크 보관이 있는 대화 저장소 (chat.memory.*)
+    @Bean
+    public BoundedChatMemoryRepository chatMemoryRepository(ChatMemoryProperties properties,
+                                                            MeterRegistry meterRegistry) {
+        return new BoundedChatMemoryRepository(properties, meterRegistry, Clock.systemUTC());
+    }
+
     // ChatMemory 타입으로 선언하되, MessageWindowChatMemory로 구현
     @Bean
-    public ChatMemory chatMemory() {
-        InMemoryChatMemoryRepository repository = new InMemoryChatMemoryRepository();
-        
-        // ChatMemory 타입으로 반환하지만, MessageWindowChatMemory 인스턴스
+    public ChatMemory chatMemory(ChatMemoryRepository chatMemoryRepository, ChatMemoryProperties properties) {
         return MessageWindowChatMemory.builder()
-            .chatMemoryRepository(repository)
-            .maxMessages(10)  // 여기서만 설정 가능
+            .chatMemoryRepository(chatMemoryRepository)
+            .maxMessages(properties.getMaxMessages())
             .build();
     }
+
+    // 대화 ID = HttpSession ID 이므로 세션이 만료되면 대화도 바로 삭제
+    @Bean
+    public HttpSessionListener chatMemorySessionListener(ChatMemory chatMemory) {
+        return new HttpSessionListener() {
+            @Override
+            public void sessionDestroyed(HttpSessionEvent event) {
+                chatMemory.clear(event.getSession().getId());
+            }
+        };
+    }
 }
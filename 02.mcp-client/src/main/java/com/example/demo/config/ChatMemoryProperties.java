@@ -0,0 +1,43 @@
+package com.example.demo.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+// 대화 메모리 저장소 설정 (chat.memory.*)
+@Data
+@Component
+@ConfigurationProperties(prefix = "chat.memory")
+public class ChatMemoryProperties {
+
+    // 대화별 최대 메시지 수 (MessageWindowChatMemory)
+    private int maxMessages = 10;
+
+    // 메모리에 보관할 전체 대화의 인코딩 크기 상한 (초과 시 가장 오래 사용하지 않은 대화부터 제거)
+    private DataSize maxBytes = DataSize.ofMegabytes(64);
+
+    // 이 시간 동안 사용되지 않은 대화는 메모리에서 제거 (spill 활성화 시 디스크로 이동)
+    private Duration idleTimeout = Duration.ofMinutes(30);
+
+    // 유휴 대화 / 만료 파일 정리 주기
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    private Spill spill = new Spill();
+
+    @Data
+    public static class Spill {
+
+        // 메모리에서 밀려난 대화를 로컬 파일로 보관
+        private boolean enabled = false;
+
+        private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "chat-memory");
+
+        // 디스크에서 이 시간 동안 사용되지 않은 대화는 삭제
+        private Duration ttl = Duration.ofHours(24);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.demo.config;
+
+import java.time.Clock;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.demo.tool.ToolResultCache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class ToolCacheConfig {
+
+    // 읽기 도구 결과 캐시 (mcp.tool-cache.*), AiService 에서 MCP 도구 목록을 감쌀 때 사용
+    @Bean
+    public ToolResultCache toolResultCache(ToolCacheProperties properties, MeterRegistry meterRegistry) {
+        return new ToolResultCache(properties, meterRegistry, Clock.systemUTC());
+    }
+}
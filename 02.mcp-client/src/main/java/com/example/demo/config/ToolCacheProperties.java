@@ -0,0 +1,32 @@
+package com.example.demo.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+// MCP 읽기 도구 결과 캐시 설정 (mcp.tool-cache.*)
+@Data
+@Component
+@ConfigurationProperties(prefix = "mcp.tool-cache")
+public class ToolCacheProperties {
+
+    private boolean enabled = true;
+
+    // 전체 캐시 항목 수 상한 (초과 시 가장 오래 사용하지 않은 항목부터 제거)
+    private int maxEntries = 1000;
+
+    // 캐시할 읽기 도구 이름 → TTL (여기에 없는 도구는 캐시하지 않음)
+    private Map<String, Duration> tools = new LinkedHashMap<>();
+
+    // 변경 도구 이름 → 호출 시 비울 캐시 도구 이름 패턴 (* 사용 가능, "*" 또는 빈 목록이면 전체)
+    private Map<String, List<String>> mutating = new LinkedHashMap<>();
+
+    // 이 문자열을 포함한 결과는 오류 응답으로 보고 캐시하지 않음
+    private List<String> skipResultsContaining = List.of("오류 발생");
+}
@@ -0,0 +1,39 @@
+package com.example.demo.config;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.ai.model.tool.DefaultToolCallingManager;
+import org.springframework.ai.tool.execution.ToolExecutionExceptionProcessor;
+import org.springframework.ai.tool.resolution.ToolCallbackResolver;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.demo.tool.ParallelToolCallingManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+
+@Configuration
+public class ToolExecutionConfig {
+
+    // 기본 ToolCallingManager 대신 등록 → ChatModel 의 도구 호출 루프가 동시 실행 (mcp.tool-execution.*)
+    // 변경 도구(mcp.tool-cache.mutating + mcp.tool-execution.sequential-tools)는 순서대로 하나씩 실행
+    @Bean
+    public ParallelToolCallingManager toolCallingManager(ToolCallbackResolver toolCallbackResolver,
+                                                         ToolExecutionExceptionProcessor toolExecutionExceptionProcessor,
+                                                         ObjectProvider<ObservationRegistry> observationRegistry,
+                                                         ToolExecutionProperties properties,
+                                                         ToolCacheProperties toolCacheProperties,
+                                                         MeterRegistry meterRegistry) {
+        DefaultToolCallingManager delegate = DefaultToolCallingManager.builder()
+            .observationRegistry(observationRegistry.getIfUnique(() -> ObservationRegistry.NOOP))
+            .toolCallbackResolver(toolCallbackResolver)
+            .toolExecutionExceptionProcessor(toolExecutionExceptionProcessor)
+            .build();
+        Set<String> sequentialTools = new LinkedHashSet<>(toolCacheProperties.getMutating().keySet());
+        sequentialTools.addAll(properties.getSequentialTools());
+        return new ParallelToolCallingManager(delegate, properties, sequentialTools, meterRegistry);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.demo.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+// 도구 호출 실행 설정 (mcp.tool-execution.*)
+@Data
+@Component
+@ConfigurationProperties(prefix = "mcp.tool-execution")
+public class ToolExecutionProperties {
+
+    // 한 응답의 여러 도구 호출을 가상 스레드에서 동시에 실행 (false 이면 Spring AI 기본 순차 실행)
+    private boolean parallel = true;
+
+    // 한 턴에서 동시에 실행할 도구 호출 수 상한
+    private int maxConcurrency = 4;
+
+    // 읽기 도구 호출 1건의 최대 실행 시간 (초과 시 시간 초과 메시지를 도구 결과로 전달, 변경 도구는 제외)
+    private Duration timeout = Duration.ofSeconds(30);
+
+    // 다른 호출과 동시에 실행하지 않을 도구 (mcp.tool-cache.mutating 의 변경 도구에 더해, 캐시와 무관한 부수 효과 도구)
+    private List<String> sequentialTools = new ArrayList<>();
+}
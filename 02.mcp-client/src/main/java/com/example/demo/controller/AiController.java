@@ -1,9 +1,12 @@
 package com.example.demo.controller;
 
 import java.io.IOException;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -14,6 +17,8 @@ import com.example.demo.service.AiService;
 
 import jakarta.servlet.http.HttpSession;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 
 @RestController
@@ -33,5 +38,34 @@ public class AiController {
   public String chat(@RequestParam("question") String question, HttpSession session) {
     String answer = aiService.chat(question, session.getId());
     return answer;
-  }  
+  }
+
+  // ##### 토큰 스트리밍(SSE) 요청 매핑 메소드 #####
+  // event: token (data: {"text": "..."}) 반복 후 event: done, 실패 시 event: error
+  // 토큰의 앞뒤 공백 / 줄바꿈을 보존하기 위해 data는 JSON으로 전송
+  // X-Accel-Buffering: no → nginx / ingress-nginx 프록시가 응답을 버퍼링하지 않고 바로 전달
+  @PostMapping(
+    value = "/chat/stream",
+    consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE,
+    produces = MediaType.TEXT_EVENT_STREAM_VALUE
+  )
+  public ResponseEntity<Flux<ServerSentEvent<Map<String, String>>>> chatStream(
+      @RequestParam("question") String question, HttpSession session) {
+    // 세션 ID는 요청 스레드에서 미리 얻어둠 (스트림은 다른 스레드에서 진행)
+    String conversationId = session.getId();
+    Flux<ServerSentEvent<Map<String, String>>> events = aiService.chatStream(question, conversationId)
+        .map(token -> event("token", token))
+        .concatWith(Mono.fromSupplier(() -> event("done", "")))
+        .onErrorResume(e -> {
+          log.error("스트리밍 답변 생성 중 오류", e);
+          return Mono.just(event("error", "답변 생성 중 오류가 발생했습니다."));
+        });
+    return ResponseEntity.ok()
+        .header("X-Accel-Buffering", "no")
+        .body(events);
+  }
+
+  private static ServerSentEvent<Map<String, String>> event(String name, String text) {
+    return ServerSentEvent.builder(Map.of("text", text)).event(name).build();
+  }
 }
@@ -0,0 +1,290 @@
+package com.example.demo.memory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.ai.chat.memory.ChatMemoryRepository;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.example.demo.config.ChatMemoryProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 크기 / 유휴 시간 제한이 있는 대화 메모리 저장소
+ *
+ * - 대화별 메시지는 MessageCodec 으로 인코딩한 바이트 배열로 보관한다.
+ * - 전체 인코딩 크기가 chat.memory.max-bytes 를 넘으면 가장 오래 사용하지 않은 대화부터 제거한다. (LRU)
+ * - chat.memory.idle-timeout 동안 사용되지 않은 대화는 주기적으로 제거한다.
+ * - chat.memory.spill.enabled=true 이면 제거 대상 대화를 로컬 파일로 옮기고, 다시 조회되면 메모리로 복원한다.
+ *   디스크의 대화는 chat.memory.spill.ttl 이 지나면 삭제되며, 세션은 재시작 후 유지되지 않으므로 기동 시 이전 파일은 지운다.
+ * 메트릭: chat.memory.conversations / chat.memory.bytes (tier=memory|disk),
+ *        chat.memory.evictions (reason=capacity|idle|expired), chat.memory.spills, chat.memory.restores
+ */
+@Slf4j
+public class BoundedChatMemoryRepository implements ChatMemoryRepository {
+
+  private static final String FILE_SUFFIX = ".bin";
+
+  private final long maxBytes;
+  private final long idleTimeoutMillis;
+  private final Clock clock;
+  private final DiskTier disk;
+
+  // access-order LinkedHashMap: 순회 시 가장 오래 사용하지 않은 대화부터
+  private final LinkedHashMap<String, Conversation> memory = new LinkedHashMap<>(16, 0.75f, true);
+  private long memoryBytes = 0;
+
+  private final Counter capacityEvictions;
+  private final Counter idleEvictions;
+  private final Counter expiredEvictions;
+  private final Counter spills;
+  private final Counter restores;
+
+  public BoundedChatMemoryRepository(ChatMemoryProperties properties, MeterRegistry meterRegistry, Clock clock) {
+    this.maxBytes = properties.getMaxBytes().toBytes();
+    this.idleTimeoutMillis = properties.getIdleTimeout().toMillis();
+    this.clock = clock;
+    this.disk = properties.getSpill().isEnabled()
+        ? new DiskTier(properties.getSpill().getDirectory(), properties.getSpill().getTtl().toMillis())
+        : null;
+
+    Gauge.builder("chat.memory.conversations", this, BoundedChatMemoryRepository::memoryConversations)
+        .tag("tier", "memory").register(meterRegistry);
+    Gauge.builder("chat.memory.bytes", this, BoundedChatMemoryRepository::memoryBytes)
+        .tag("tier", "memory").baseUnit("bytes").register(meterRegistry);
+    if (disk != null) {
+      Gauge.builder("chat.memory.conversations", this, BoundedChatMemoryRepository::diskConversations)
+          .tag("tier", "disk").register(meterRegistry);
+      Gauge.builder("chat.memory.bytes", this, BoundedChatMemoryRepository::diskBytes)
+          .tag("tier", "disk").baseUnit("bytes").register(meterRegistry);
+    }
+    this.capacityEvictions = evictions(meterRegistry, "capacity");
+    this.idleEvictions = evictions(meterRegistry, "idle");
+    this.expiredEvictions = evictions(meterRegistry, "expired");
+    this.spills = Counter.builder("chat.memory.spills").register(meterRegistry);
+    this.restores = Counter.builder("chat.memory.restores").register(meterRegistry);
+  }
+
+  private static Counter evictions(MeterRegistry meterRegistry, String reason) {
+    return Counter.builder("chat.memory.evictions").tag("reason", reason).register(meterRegistry);
+  }
+
+  @Override
+  public synchronized List<String> findConversationIds() {
+    Set<String> ids = new LinkedHashSet<>(memory.keySet());
+    if (disk != null) {
+      ids.addAll(disk.ids());
+    }
+    return new ArrayList<>(ids);
+  }
+
+  @Override
+  public synchronized List<Message> findByConversationId(String conversationId) {
+    long now = clock.millis();
+    Conversation conversation = memory.get(conversationId);
+    if (conversation != null) {
+      conversation.lastAccess = now;
+      return MessageCodec.decode(conversation.data);
+    }
+    if (disk != null) {
+      byte[] data = disk.take(conversationId);
+      if (data != null) {
+        restores.increment();
+        put(conversationId, data, now);
+        return MessageCodec.decode(data);
+      }
+    }
+    return new ArrayList<>();
+  }
+
+  @Override
+  public synchronized void saveAll(String conversationId, List<Message> messages) {
+    if (disk != null) {
+      disk.remove(conversationId);
+    }
+    put(conversationId, MessageCodec.encode(messages), clock.millis());
+  }
+
+  @Override
+  public synchronized void deleteByConversationId(String conversationId) {
+    Conversation removed = memory.remove(conversationId);
+    if (removed != null) {
+      memoryBytes -= removed.data.length;
+    }
+    if (disk != null) {
+      disk.remove(conversationId);
+    }
+  }
+
+  // 유휴 대화를 메모리에서 제거하고(또는 디스크로 이동), 디스크의 만료된 대화 삭제
+  @Scheduled(fixedDelayString = "${chat.memory.sweep-interval:1m}")
+  public synchronized void sweep() {
+    long now = clock.millis();
+    Iterator<Map.Entry<String, Conversation>> it = memory.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<String, Conversation> entry = it.next();
+      if (now - entry.getValue().lastAccess < idleTimeoutMillis) {
+        break;
+      }
+      it.remove();
+      evict(entry.getKey(), entry.getValue(), idleEvictions);
+    }
+    if (disk != null) {
+      expiredEvictions.increment(disk.expire(now));
+    }
+  }
+
+  private void put(String conversationId, byte[] data, long now) {
+    Conversation previous = memory.put(conversationId, new Conversation(data, now));
+    memoryBytes += data.length - (previous != null ? previous.data.length : 0);
+
+    // 상한 초과 시 LRU 순으로 제거 (방금 저장한 대화는 상한보다 크더라도 유지)
+    Iterator<Map.Entry<String, Conversation>> it = memory.entrySet().iterator();
+    while (memoryBytes > maxBytes && it.hasNext()) {
+      Map.Entry<String, Conversation> entry = it.next();
+      if (entry.getKey().equals(conversationId)) {
+        break;
+      }
+      it.remove();
+      evict(entry.getKey(), entry.getValue(), capacityEvictions);
+    }
+  }
+
+  private void evict(String conversationId, Conversation conversation, Counter reason) {
+    memoryBytes -= conversation.data.length;
+    reason.increment();
+    if (disk != null && disk.write(conversationId, conversation.data, conversation.lastAccess)) {
+      spills.increment();
+    }
+  }
+
+  public synchronized int memoryConversations() {
+    return memory.size();
+  }
+
+  public synchronized long memoryBytes() {
+    return memoryBytes;
+  }
+
+  public synchronized int diskConversations() {
+    return disk != null ? disk.files.size() : 0;
+  }
+
+  public synchronized long diskBytes() {
+    return disk != null ? disk.bytes : 0;
+  }
+
+  private static final class Conversation {
+
+    private final byte[] data;
+    private long lastAccess;
+
+    private Conversation(byte[] data, long lastAccess) {
+      this.data = data;
+      this.lastAccess = lastAccess;
+    }
+  }
+
+  private record SpilledFile(Path path, int size, long lastAccess) {
+  }
+
+  // 대화별 파일 1개 (파일명: 대화 ID의 URL-safe Base64), 저장소 락 안에서만 접근
+  private static final class DiskTier {
+
+    private final Path directory;
+    private final long ttlMillis;
+    private final Map<String, SpilledFile> files = new HashMap<>();
+    private long bytes = 0;
+
+    private DiskTier(Path directory, long ttlMillis) {
+      this.directory = directory;
+      this.ttlMillis = ttlMillis;
+      try {
+        Files.createDirectories(directory);
+        try (DirectoryStream<Path> stale = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+          for (Path path : stale) {
+            Files.deleteIfExists(path);
+          }
+        }
+      } catch (IOException e) {
+        throw new IllegalStateException("대화 메모리 디렉토리를 준비할 수 없습니다: " + directory, e);
+      }
+      log.info("대화 메모리 디스크 보관 활성화: {}", directory);
+    }
+
+    Set<String> ids() {
+      return files.keySet();
+    }
+
+    boolean write(String conversationId, byte[] data, long lastAccess) {
+      Path path = directory.resolve(Base64.getUrlEncoder().withoutPadding()
+          .encodeToString(conversationId.getBytes(StandardCharsets.UTF_8)) + FILE_SUFFIX);
+      try {
+        Files.write(path, data);
+      } catch (IOException e) {
+        log.warn("대화 메모리 디스크 저장 실패 (대화 제거): {}", e.getMessage());
+        return false;
+      }
+      remove(conversationId);
+      files.put(conversationId, new SpilledFile(path, data.length, lastAccess));
+      bytes += data.length;
+      return true;
+    }
+
+    // 파일을 읽고 디스크에서 제거 (메모리로 복원할 때)
+    byte[] take(String conversationId) {
+      SpilledFile file = files.get(conversationId);
+      if (file == null) {
+        return null;
+      }
+      try {
+        return Files.readAllBytes(file.path());
+      } catch (IOException e) {
+        log.warn("대화 메모리 디스크 조회 실패 (대화 제거): {}", e.getMessage());
+        return null;
+      } finally {
+        remove(conversationId);
+      }
+    }
+
+    void remove(String conversationId) {
+      SpilledFile file = files.remove(conversationId);
+      if (file == null) {
+        return;
+      }
+      bytes -= file.size();
+      try {
+        Files.deleteIfExists(file.path());
+      } catch (IOException e) {
+        log.warn("대화 메모리 파일 삭제 실패: {}", e.getMessage());
+      }
+    }
+
+    int expire(long now) {
+      List<String> expired = files.entrySet().stream()
+          .filter(entry -> now - entry.getValue().lastAccess() >= ttlMillis)
+          .map(Map.Entry::getKey)
+          .toList();
+      expired.forEach(this::remove);
+      return expired.size();
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package com.example.demo.memory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.ToolResponseMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+
+/**
+ * 대화 메시지 목록의 바이트 인코딩
+ *
+ * 메시지 객체(메타데이터 Map, 미디어 목록 포함) 대신 타입 / 텍스트 / 도구 호출 정보만 바이트 배열로 보관한다.
+ * 인코딩 결과가 COMPRESS_THRESHOLD 보다 크면 Deflate로 압축한다. (첫 바이트: 압축 여부)
+ * 메시지 메타데이터와 미디어는 저장하지 않는다.
+ */
+final class MessageCodec {
+
+  private static final int COMPRESS_THRESHOLD = 512;
+  private static final byte RAW = 0;
+  private static final byte DEFLATED = 1;
+  private static final MessageType[] TYPES = MessageType.values();
+
+  private MessageCodec() {
+  }
+
+  static byte[] encode(List<Message> messages) {
+    try {
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+      DataOutputStream out = new DataOutputStream(buffer);
+      out.writeInt(messages.size());
+      for (Message message : messages) {
+        writeMessage(out, message);
+      }
+      out.flush();
+      byte[] raw = buffer.toByteArray();
+      if (raw.length > COMPRESS_THRESHOLD) {
+        byte[] deflated = deflate(raw);
+        if (deflated.length < raw.length) {
+          return withHeader(DEFLATED, deflated);
+        }
+      }
+      return withHeader(RAW, raw);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  static List<Message> decode(byte[] data) {
+    try {
+      ByteArrayInputStream body = new ByteArrayInputStream(data, 1, data.length - 1);
+      DataInputStream in = new DataInputStream(data[0] == DEFLATED ? new InflaterInputStream(body) : body);
+      int count = in.readInt();
+      List<Message> messages = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        messages.add(readMessage(in));
+      }
+      return messages;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void writeMessage(DataOutputStream out, Message message) throws IOException {
+    MessageType type = message.getMessageType();
+    out.writeByte(type.ordinal());
+    switch (message) {
+      case AssistantMessage assistant -> {
+        writeString(out, assistant.getText());
+        out.writeInt(assistant.getToolCalls().size());
+        for (AssistantMessage.ToolCall call : assistant.getToolCalls()) {
+          writeString(out, call.id());
+          writeString(out, call.type());
+          writeString(out, call.name());
+          writeString(out, call.arguments());
+        }
+      }
+      case ToolResponseMessage tool -> {
+        out.writeInt(tool.getResponses().size());
+        for (ToolResponseMessage.ToolResponse response : tool.getResponses()) {
+          writeString(out, response.id());
+          writeString(out, response.name());
+          writeString(out, response.responseData());
+        }
+      }
+      default -> writeString(out, message.getText());
+    }
+  }
+
+  private static Message readMessage(DataInputStream in) throws IOException {
+    MessageType type = TYPES[in.readByte()];
+    return switch (type) {
+      case USER -> new UserMessage(readString(in));
+      case SYSTEM -> new SystemMessage(readString(in));
+      case ASSISTANT -> {
+        String text = readString(in);
+        int callCount = in.readInt();
+        List<AssistantMessage.ToolCall> calls = new ArrayList<>(callCount);
+        for (int i = 0; i < callCount; i++) {
+          calls.add(new AssistantMessage.ToolCall(readString(in), readString(in), readString(in), readString(in)));
+        }
+        yield AssistantMessage.builder().content(text).toolCalls(calls).build();
+      }
+      case TOOL -> {
+        int responseCount = in.readInt();
+        List<ToolResponseMessage.ToolResponse> responses = new ArrayList<>(responseCount);
+        for (int i = 0; i < responseCount; i++) {
+          responses.add(new ToolResponseMessage.ToolResponse(readString(in), readString(in), readString(in)));
+        }
+        yield ToolResponseMessage.builder().responses(responses).build();
+      }
+    };
+  }
+
+  // null 은 길이 -1 로 기록
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+  }
+
+  private static byte[] deflate(byte[] raw) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(raw.length / 2);
+    try (DeflaterOutputStream out = new DeflaterOutputStream(buffer)) {
+      out.write(raw);
+    }
+    return buffer.toByteArray();
+  }
+
+  private static byte[] withHeader(byte header, byte[] body) {
+    byte[] data = new byte[body.length + 1];
+    data[0] = header;
+    System.arraycopy(body, 0, data, 1, body.length);
+    return data;
+  }
+}
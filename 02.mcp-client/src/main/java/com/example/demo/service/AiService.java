@@ -1,52 +1,170 @@
 package com.example.demo.service;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.client.advisor.MessageChatMemoryAdvisor;
 import org.springframework.ai.chat.client.advisor.SimpleLoggerAdvisor;
 import org.springframework.ai.chat.memory.ChatMemory;
-import org.springframework.ai.chat.memory.InMemoryChatMemoryRepository;
-import org.springframework.ai.chat.memory.MessageWindowChatMemory;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.UserMessage;
 import org.springframework.ai.tool.ToolCallbackProvider;
 import org.springframework.core.Ordered;
 import org.springframework.stereotype.Service;
 
+import com.example.demo.cache.SemanticAnswerCache;
+import com.example.demo.tool.CachingToolCallbackProvider;
+import com.example.demo.tool.ToolCallRecorder;
+import com.example.demo.tool.ToolResultCache;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
 
 @Service
 @Slf4j
 public class AiService {
+  // ##### 상수 #####
+  private static final String SYSTEM_PROMPT = """
+      HTML과 CSS를 사용해서 들여쓰기가 된 답변을 출력하세요.
+      <div>에 들어가는 내용으로만 답변을 주세요. <h1>, <h2>, <h3>태그는 사용하지 마세요.
+      kubernetes, metrics, log, tracing 관련된 질문은 반드시 도구를 사용해서 답변하세요.
+      """;
+
   // ##### 필드 #####
   private ChatClient chatClient;
+  private ChatMemory chatMemory;
+  private SemanticAnswerCache answerCache;
+  private MeterRegistry meterRegistry;
+  private Timer firstTokenTimer;
 
   // ##### 생성자 #####
   public AiService(
-                    ChatClient.Builder chatClientBuilder, 
+                    ChatClient.Builder chatClientBuilder,
                     ToolCallbackProvider toolCallbackProvider,
-                    ChatMemory chatMemory) {
+                    ChatMemory chatMemory,
+                    MeterRegistry meterRegistry,
+                    ToolResultCache toolResultCache,
+                    SemanticAnswerCache answerCache) {
 
     this.chatClient = chatClientBuilder
-      .defaultToolCallbacks(toolCallbackProvider)
+      // 읽기 도구 결과는 캐시를 거쳐 호출 (mcp.tool-cache.*)
+      .defaultToolCallbacks(new CachingToolCallbackProvider(toolCallbackProvider, toolResultCache))
       .defaultAdvisors (
                         MessageChatMemoryAdvisor.builder(chatMemory).build(),
                         new SimpleLoggerAdvisor(Ordered.LOWEST_PRECEDENCE-1))
       .build();
-  } 
-  
+    this.chatMemory = chatMemory;
+    this.answerCache = answerCache;
+    this.meterRegistry = meterRegistry;
+    // 스트리밍 요청 시작부터 첫 토큰까지의 시간 (도구 호출 시간 포함)
+    this.firstTokenTimer = Timer.builder("ai.chat.first.token")
+      .description("스트리밍 응답의 첫 토큰까지 걸린 시간")
+      .publishPercentileHistogram()
+      .register(meterRegistry);
+  }
+
   // ##### LLM과 텍스트로 대화하는 메소드 #####
   public String chat(String question, String conversationId) {
-    String answer = this.chatClient.prompt()
-        .system("""
-            HTML과 CSS를 사용해서 들여쓰기가 된 답변을 출력하세요.
-            <div>에 들어가는 내용으로만 답변을 주세요. <h1>, <h2>, <h3>태그는 사용하지 마세요.
-            kubernetes, metrics, log, tracing 관련된 질문은 반드시 도구를 사용해서 답변하세요.
-            """)
+    SemanticAnswerCache.Lookup lookup = lookupAnswer(question, conversationId);
+    if (lookup != null && lookup.hit()) {
+      remember(conversationId, question, lookup.answer());
+      return lookup.answer();
+    }
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "error";
+    ToolCallRecorder toolCalls = lookup != null ? new ToolCallRecorder() : null;
+    try {
+      String answer = prompt(question, conversationId, toolCalls)
+          .call()
+          .content();
+      outcome = "success";
+      if (lookup != null) {
+        answerCache.put(lookup, answer, toolCalls.toolNames());
+      }
+      return answer;
+    } finally {
+      sample.stop(durationTimer("call", outcome));
+    }
+  }
+
+  // ##### LLM 답변을 토큰 단위로 스트리밍하는 메소드 #####
+  // 대화 메모리는 스트림이 끝난 뒤 MessageChatMemoryAdvisor가 전체 답변으로 저장
+  public Flux<String> chatStream(String question, String conversationId) {
+    return Flux.defer(() -> {
+      SemanticAnswerCache.Lookup lookup = lookupAnswer(question, conversationId);
+      if (lookup != null && lookup.hit()) {
+        remember(conversationId, question, lookup.answer());
+        return Flux.just(lookup.answer());
+      }
+
+      long startedAt = System.nanoTime();
+      AtomicBoolean firstToken = new AtomicBoolean(false);
+      StringBuilder answer = new StringBuilder();
+      ToolCallRecorder toolCalls = lookup != null ? new ToolCallRecorder() : null;
+      return prompt(question, conversationId, toolCalls)
+          .stream()
+          .content()
+          .doOnNext(token -> {
+            if (firstToken.compareAndSet(false, true)) {
+              firstTokenTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+            answer.append(token);
+          })
+          .doOnComplete(() -> {
+            if (lookup != null) {
+              answerCache.put(lookup, answer.toString(), toolCalls.toolNames());
+            }
+          })
+          .doFinally(signal -> durationTimer("stream", outcome(signal))
+              .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS));
+    });
+  }
+
+  // 대화의 첫 질문만 답변 캐시 사용 (이어지는 질문은 앞선 대화 내용에 따라 답이 달라짐)
+  private SemanticAnswerCache.Lookup lookupAnswer(String question, String conversationId) {
+    if (!answerCache.isEnabled() || !chatMemory.get(conversationId).isEmpty()) {
+      return null;
+    }
+    return answerCache.lookup(question);
+  }
+
+  // 캐시된 답변도 대화 메모리에 남겨 이어지는 질문이 앞선 답변을 참고하도록 함
+  private void remember(String conversationId, String question, String answer) {
+    chatMemory.add(conversationId, List.of(new UserMessage(question), new AssistantMessage(answer)));
+  }
+
+  // toolCalls 가 있으면 이 턴에 호출한 도구 이름을 기록 (답변 캐시 저장 여부 판단)
+  private ChatClient.ChatClientRequestSpec prompt(String question, String conversationId, ToolCallRecorder toolCalls) {
+    ChatClient.ChatClientRequestSpec spec = this.chatClient.prompt()
+        .system(SYSTEM_PROMPT)
         .user(question)
         .advisors(advisorSpec -> advisorSpec.param(
-            ChatMemory.CONVERSATION_ID, conversationId            
-        ))
-        .call()
-        .content();
-    return answer;
+            ChatMemory.CONVERSATION_ID, conversationId
+        ));
+    return toolCalls != null ? spec.toolContext(toolCalls.toolContext()) : spec;
+  }
+
+  // 전체 답변 시간 (mode=call|stream, outcome=success|error|cancelled)
+  private Timer durationTimer(String mode, String outcome) {
+    return Timer.builder("ai.chat.duration")
+        .description("질문부터 답변 완료까지 걸린 시간")
+        .tag("mode", mode)
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  private static String outcome(SignalType signal) {
+    return switch (signal) {
+      case ON_COMPLETE -> "success";
+      case ON_ERROR -> "error";
+      default -> "cancelled";
+    };
   }
 }
@@ -0,0 +1,79 @@
+package com.example.demo.tool;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+
+/**
+ * 도구 호출을 ToolResultCache 로 감싸는 ToolCallbackProvider 데코레이터
+ *
+ * 도구 목록은 호출할 때마다 위임 대상에서 다시 가져오므로, MCP 서버의 도구 목록 변경도 그대로 반영된다.
+ * ToolContext 에 ToolCallRecorder 가 있으면 호출한 도구 이름을 기록한다. (답변 캐시 저장 여부 판단)
+ */
+public class CachingToolCallbackProvider implements ToolCallbackProvider {
+
+  private final ToolCallbackProvider delegate;
+  private final ToolResultCache cache;
+
+  public CachingToolCallbackProvider(ToolCallbackProvider delegate, ToolResultCache cache) {
+    this.delegate = delegate;
+    this.cache = cache;
+  }
+
+  @Override
+  public ToolCallback[] getToolCallbacks() {
+    return Arrays.stream(delegate.getToolCallbacks())
+        .map(callback -> new CachingToolCallback(callback, cache))
+        .toArray(ToolCallback[]::new);
+  }
+
+  private static final class CachingToolCallback implements ToolCallback {
+
+    private final ToolCallback delegate;
+    private final ToolResultCache cache;
+
+    private CachingToolCallback(ToolCallback delegate, ToolResultCache cache) {
+      this.delegate = delegate;
+      this.cache = cache;
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+      return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+      return delegate.getToolMetadata();
+    }
+
+    @Override
+    public String call(String toolInput) {
+      return cache.call(getToolDefinition().name(), toolInput, () -> delegate.call(toolInput));
+    }
+
+    // ToolContext 는 캐시 키에 포함하지 않음 (이 클라이언트는 도구 결과에 영향을 주는 컨텍스트를 넘기지 않음)
+    @Override
+    public String call(String toolInput, ToolContext toolContext) {
+      ToolCallRecorder recorder = ToolCallRecorder.from(toolContext);
+      if (recorder == null) {
+        return cache.call(getToolDefinition().name(), toolInput, () -> delegate.call(toolInput, toolContext));
+      }
+      recorder.record(getToolDefinition().name());
+
+      // 기록용 항목과 그 때문에 추가된 대화 이력은 MCP 요청(_meta)으로 넘기지 않음
+      Map<String, Object> context = new HashMap<>(toolContext.getContext());
+      context.remove(ToolCallRecorder.KEY);
+      context.remove(ToolContext.TOOL_CALL_HISTORY);
+      return cache.call(getToolDefinition().name(), toolInput, () -> context.isEmpty()
+          ? delegate.call(toolInput)
+          : delegate.call(toolInput, new ToolContext(context)));
+    }
+  }
+}
@@ -0,0 +1,217 @@
+package com.example.demo.tool;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.ToolResponseMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.tool.ToolCallingChatOptions;
+import org.springframework.ai.model.tool.ToolCallingManager;
+import org.springframework.ai.model.tool.ToolExecutionResult;
+import org.springframework.ai.tool.definition.ToolDefinition;
+
+import com.example.demo.config.ToolExecutionProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한 assistant 메시지의 도구 호출들을 가상 스레드에서 동시에 실행하는 ToolCallingManager
+ *
+ * - 도구 호출 1건씩 위임 대상(DefaultToolCallingManager)으로 실행하므로 도구 조회 / 예외 처리 / observation 은 기본 동작과 같다.
+ * - 동시에 실행하는 것은 연속된 읽기 도구 호출뿐이다. 변경 도구(mcp.tool-cache.mutating, mcp.tool-execution.sequential-tools)는
+ *   앞선 호출이 모두 끝난 뒤 혼자 실행하고, 끝난 뒤에 다음 호출을 시작한다. (요청 순서대로, 읽기와 섞이지 않도록)
+ * - 한 턴의 동시 실행 수는 mcp.tool-execution.max-concurrency 로 제한하고,
+ *   mcp.tool-execution.timeout 을 넘긴 읽기 호출은 취소한 뒤 시간 초과 메시지를 도구 결과로 모델에 전달한다.
+ *   변경 도구는 시간 제한 없이 끝날 때까지 기다린다. (취소해도 서버에서는 반영될 수 있어, 모델이 재시도하면 중복 생성되므로)
+ * - 도구 결과는 모델이 요청한 순서대로 하나의 ToolResponseMessage 로 합친다.
+ * 메트릭: ai.tool.fanout (턴당 도구 호출 수), ai.tool.turn.duration (턴 실행 시간),
+ *        ai.tool.latency.saved (순차 실행 대비 줄어든 시간), ai.tool.timeouts (tool)
+ */
+@Slf4j
+public class ParallelToolCallingManager implements ToolCallingManager, AutoCloseable {
+
+  private final ToolCallingManager delegate;
+  private final boolean parallel;
+  private final int maxConcurrency;
+  private final long timeoutMillis;
+  private final Set<String> sequentialTools;
+  private final MeterRegistry meterRegistry;
+  private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+      Thread.ofVirtual().name("tool-call-", 0).factory());
+
+  private final DistributionSummary fanout;
+  private final Timer turnDuration;
+  private final Timer savedLatency;
+
+  // sequentialTools: 다른 호출과 동시에 실행하지 않는 변경 도구 이름
+  public ParallelToolCallingManager(ToolCallingManager delegate, ToolExecutionProperties properties,
+                                    Collection<String> sequentialTools, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.parallel = properties.isParallel();
+    this.maxConcurrency = properties.getMaxConcurrency();
+    this.timeoutMillis = properties.getTimeout().toMillis();
+    this.sequentialTools = Set.copyOf(sequentialTools);
+    this.meterRegistry = meterRegistry;
+
+    this.fanout = DistributionSummary.builder("ai.tool.fanout")
+        .description("한 턴에서 요청된 도구 호출 수")
+        .register(meterRegistry);
+    this.turnDuration = Timer.builder("ai.tool.turn.duration")
+        .description("한 턴의 도구 호출 전체 실행 시간")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.savedLatency = Timer.builder("ai.tool.latency.saved")
+        .description("순차 실행 시간 합계 대비 동시 실행으로 줄어든 시간")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public List<ToolDefinition> resolveToolDefinitions(ToolCallingChatOptions chatOptions) {
+    return delegate.resolveToolDefinitions(chatOptions);
+  }
+
+  @Override
+  public ToolExecutionResult executeToolCalls(Prompt prompt, ChatResponse chatResponse) {
+    AssistantMessage assistantMessage = chatResponse.getResults().stream()
+        .map(Generation::getOutput)
+        .filter(AssistantMessage::hasToolCalls)
+        .findFirst()
+        .orElse(null);
+    if (!parallel || assistantMessage == null) {
+      return delegate.executeToolCalls(prompt, chatResponse);
+    }
+
+    List<AssistantMessage.ToolCall> toolCalls = assistantMessage.getToolCalls();
+    fanout.record(toolCalls.size());
+    long startedAt = System.nanoTime();
+
+    Semaphore permits = new Semaphore(maxConcurrency);
+    List<ToolResponseMessage.ToolResponse> responses = new ArrayList<>(toolCalls.size());
+    boolean returnDirect = true;
+    long sequentialNanos = 0;
+    // 연속된 읽기 호출은 함께 실행, 변경 호출은 앞뒤 호출과 겹치지 않게 혼자 실행 (요청 순서대로 결과 수집)
+    for (List<AssistantMessage.ToolCall> group : groups(toolCalls)) {
+      List<Future<Outcome>> futures = new ArrayList<>(group.size());
+      for (AssistantMessage.ToolCall toolCall : group) {
+        futures.add(executor.submit(() -> execute(prompt, assistantMessage, toolCall, permits)));
+      }
+      try {
+        for (Future<Outcome> future : futures) {
+          Outcome outcome = future.get();
+          responses.add(outcome.response());
+          returnDirect &= outcome.returnDirect();
+          sequentialNanos += outcome.elapsedNanos();
+        }
+      } catch (ExecutionException e) {
+        futures.forEach(future -> future.cancel(true));
+        throw e.getCause() instanceof RuntimeException runtime
+            ? runtime
+            : new IllegalStateException("도구 호출 중 오류", e.getCause());
+      } catch (InterruptedException e) {
+        futures.forEach(future -> future.cancel(true));
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("도구 호출 대기 중 인터럽트", e);
+      }
+    }
+
+    long elapsedNanos = System.nanoTime() - startedAt;
+    turnDuration.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    savedLatency.record(Math.max(0, sequentialNanos - elapsedNanos), TimeUnit.NANOSECONDS);
+
+    List<Message> conversationHistory = new ArrayList<>(prompt.getInstructions());
+    conversationHistory.add(assistantMessage);
+    conversationHistory.add(ToolResponseMessage.builder().responses(responses).build());
+    return ToolExecutionResult.builder()
+        .conversationHistory(conversationHistory)
+        .returnDirect(returnDirect)
+        .build();
+  }
+
+  // 요청 순서를 유지한 실행 단위: 연속된 읽기 호출 묶음 / 변경 호출 1건
+  private List<List<AssistantMessage.ToolCall>> groups(List<AssistantMessage.ToolCall> toolCalls) {
+    List<List<AssistantMessage.ToolCall>> groups = new ArrayList<>();
+    List<AssistantMessage.ToolCall> reads = new ArrayList<>();
+    for (AssistantMessage.ToolCall toolCall : toolCalls) {
+      if (!sequentialTools.contains(toolCall.name())) {
+        reads.add(toolCall);
+        continue;
+      }
+      if (!reads.isEmpty()) {
+        groups.add(reads);
+        reads = new ArrayList<>();
+      }
+      groups.add(List.of(toolCall));
+    }
+    if (!reads.isEmpty()) {
+      groups.add(reads);
+    }
+    return groups;
+  }
+
+  // 동시 실행 수 제한 안에서 도구 호출 1건 실행 (읽기 호출의 시간 제한은 실행을 시작한 시점부터)
+  private Outcome execute(Prompt prompt, AssistantMessage assistantMessage, AssistantMessage.ToolCall toolCall,
+                          Semaphore permits) throws Exception {
+    permits.acquire();
+    try {
+      long startedAt = System.nanoTime();
+      AssistantMessage single = AssistantMessage.builder()
+          .content(assistantMessage.getText())
+          .properties(assistantMessage.getMetadata())
+          .toolCalls(List.of(toolCall))
+          .build();
+      Future<ToolExecutionResult> call = executor.submit(
+          () -> delegate.executeToolCalls(prompt, new ChatResponse(List.of(new Generation(single)))));
+      try {
+        ToolExecutionResult result = sequentialTools.contains(toolCall.name())
+            ? call.get()
+            : call.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        List<Message> history = result.conversationHistory();
+        ToolResponseMessage response = (ToolResponseMessage) history.get(history.size() - 1);
+        return new Outcome(response.getResponses().get(0), result.returnDirect(), System.nanoTime() - startedAt);
+      } catch (TimeoutException e) {
+        call.cancel(true);
+        timeouts(toolCall.name()).increment();
+        log.warn("도구 호출 시간 초과: {} ({}ms)", toolCall.name(), timeoutMillis);
+        String message = "도구 실행 시간이 초과되었습니다. (" + timeoutMillis + "ms)";
+        return new Outcome(new ToolResponseMessage.ToolResponse(toolCall.id(), toolCall.name(), message), false,
+            System.nanoTime() - startedAt);
+      } catch (InterruptedException e) {
+        call.cancel(true);
+        throw e;
+      } catch (ExecutionException e) {
+        throw e.getCause() instanceof Exception cause ? cause : e;
+      }
+    } finally {
+      permits.release();
+    }
+  }
+
+  private Counter timeouts(String toolName) {
+    return Counter.builder("ai.tool.timeouts").tag("tool", toolName).register(meterRegistry);
+  }
+
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private record Outcome(ToolResponseMessage.ToolResponse response, boolean returnDirect, long elapsedNanos) {
+  }
+}
@@ -0,0 +1,38 @@
+package com.example.demo.tool;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.ai.chat.model.ToolContext;
+
+/**
+ * 한 번의 질문(턴) 동안 호출된 도구 이름 기록
+ *
+ * 요청의 ToolContext 에 KEY 로 넣어 두면 CachingToolCallbackProvider 가 도구를 호출할 때마다 이름을 기록한다.
+ * (도구 호출은 가상 스레드에서 동시에 실행될 수 있음)
+ */
+public class ToolCallRecorder {
+
+  public static final String KEY = ToolCallRecorder.class.getName();
+
+  private final Set<String> toolNames = ConcurrentHashMap.newKeySet();
+
+  public Map<String, Object> toolContext() {
+    return Map.of(KEY, this);
+  }
+
+  public Set<String> toolNames() {
+    return Set.copyOf(toolNames);
+  }
+
+  void record(String toolName) {
+    toolNames.add(toolName);
+  }
+
+  static ToolCallRecorder from(ToolContext toolContext) {
+    return toolContext != null && toolContext.getContext().get(KEY) instanceof ToolCallRecorder recorder
+        ? recorder
+        : null;
+  }
+}
@@ -0,0 +1,185 @@
+package com.example.demo.tool;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import org.springframework.util.PatternMatchUtils;
+
+import com.example.demo.config.ToolCacheProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MCP 읽기 도구 결과 캐시
+ *
+ * - mcp.tool-cache.tools 에 등록된 도구만 캐시하며, 키는 도구 이름 + 정규화한 인자 JSON(키 정렬)이다.
+ * - 항목은 도구별 TTL 이 지나면 만료되고, mcp.tool-cache.max-entries 를 넘으면 가장 오래 사용하지 않은 항목부터 제거한다. (LRU)
+ * - mcp.tool-cache.mutating 에 등록된 도구가 호출되면 지정한 패턴의 항목을 비운다.
+ *   다른 클라이언트(REST API 등)의 변경은 알 수 없으므로 그 경우의 최대 지연은 TTL 이다.
+ * - 변경 도구 호출과 겹친 조회 결과는 변경 전 값일 수 있으므로 저장하지 않는다. (generation 비교)
+ * - 변경 도구 호출은 mcp.tool-cache.enabled=false 여도 감지하여 등록된 리스너(답변 캐시 등)에 알린다.
+ * 메트릭: mcp.tool.cache.requests (tool, result=hit|miss), mcp.tool.cache.evictions (reason=capacity|expired|invalidated),
+ *        mcp.tool.cache.entries
+ */
+@Slf4j
+public class ToolResultCache {
+
+  private static final ObjectMapper CANONICAL_MAPPER = new ObjectMapper()
+      .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+  private final boolean enabled;
+  private final int maxEntries;
+  private final Map<String, Duration> ttls;
+  private final Map<String, List<String>> mutating;
+  private final List<String> skipResultsContaining;
+  private final Clock clock;
+  private final MeterRegistry meterRegistry;
+  private final List<Runnable> mutationListeners = new CopyOnWriteArrayList<>();
+
+  // access-order LinkedHashMap: 순회 시 가장 오래 사용하지 않은 항목부터
+  private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  // 변경 도구가 호출될 때마다 증가
+  private long generation = 0;
+
+  private final Counter capacityEvictions;
+  private final Counter expiredEvictions;
+  private final Counter invalidatedEvictions;
+
+  public ToolResultCache(ToolCacheProperties properties, MeterRegistry meterRegistry, Clock clock) {
+    this.enabled = properties.isEnabled();
+    this.maxEntries = properties.getMaxEntries();
+    this.ttls = Map.copyOf(properties.getTools());
+    this.mutating = Map.copyOf(properties.getMutating());
+    this.skipResultsContaining = List.copyOf(properties.getSkipResultsContaining());
+    this.clock = clock;
+    this.meterRegistry = meterRegistry;
+
+    Gauge.builder("mcp.tool.cache.entries", this, ToolResultCache::size).register(meterRegistry);
+    this.capacityEvictions = evictions(meterRegistry, "capacity");
+    this.expiredEvictions = evictions(meterRegistry, "expired");
+    this.invalidatedEvictions = evictions(meterRegistry, "invalidated");
+  }
+
+  private static Counter evictions(MeterRegistry meterRegistry, String reason) {
+    return Counter.builder("mcp.tool.cache.evictions").tag("reason", reason).register(meterRegistry);
+  }
+
+  // 변경 도구가 호출될 때마다 실행할 리스너 등록
+  public void addMutationListener(Runnable listener) {
+    mutationListeners.add(listener);
+  }
+
+  // 도구 호출: 캐시 대상이면 캐시를 거치고, 변경 도구면 호출 후 관련 항목을 비움
+  public String call(String toolName, String toolInput, Supplier<String> invoker) {
+    List<String> invalidates = mutating.get(toolName);
+    if (invalidates != null) {
+      try {
+        return invoker.get();
+      } finally {
+        // 실패한 호출도 일부 반영되었을 수 있으므로 항상 비움
+        invalidate(invalidates);
+        mutationListeners.forEach(Runnable::run);
+      }
+    }
+
+    Duration ttl = ttls.get(toolName);
+    if (!enabled || ttl == null) {
+      return invoker.get();
+    }
+
+    String key = toolName + '\u0000' + canonicalize(toolInput);
+    long startGeneration;
+    synchronized (this) {
+      Entry entry = entries.get(key);
+      if (entry != null) {
+        if (entry.expiresAt > clock.millis()) {
+          requests(toolName, "hit").increment();
+          return entry.result;
+        }
+        entries.remove(key);
+        expiredEvictions.increment();
+      }
+      startGeneration = generation;
+    }
+
+    requests(toolName, "miss").increment();
+    String result = invoker.get();
+    if (result != null && isCacheableResult(result)) {
+      put(key, new Entry(toolName, result, clock.millis() + ttl.toMillis()), startGeneration);
+    }
+    return result;
+  }
+
+  private synchronized void put(String key, Entry entry, long startGeneration) {
+    if (startGeneration != generation) {
+      return;
+    }
+    entries.put(key, entry);
+    Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+    while (entries.size() > maxEntries && it.hasNext()) {
+      it.next();
+      it.remove();
+      capacityEvictions.increment();
+    }
+  }
+
+  // 도구 이름 패턴에 맞는 항목 제거 (빈 목록이면 전체)
+  public synchronized void invalidate(List<String> toolPatterns) {
+    generation++;
+    int before = entries.size();
+    if (toolPatterns.isEmpty()) {
+      entries.clear();
+    } else {
+      String[] patterns = toolPatterns.toArray(String[]::new);
+      entries.values().removeIf(entry -> PatternMatchUtils.simpleMatch(patterns, entry.toolName));
+    }
+    int removed = before - entries.size();
+    if (removed > 0) {
+      invalidatedEvictions.increment(removed);
+      log.debug("도구 캐시 무효화: {} ({}개)", toolPatterns, removed);
+    }
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private boolean isCacheableResult(String result) {
+    return skipResultsContaining.stream().noneMatch(result::contains);
+  }
+
+  private Counter requests(String toolName, String result) {
+    return Counter.builder("mcp.tool.cache.requests")
+        .tag("tool", toolName)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  // 인자 JSON의 키 순서 / 공백 차이를 없앰 (JSON이 아니면 원문 사용)
+  static String canonicalize(String toolInput) {
+    if (toolInput == null || toolInput.isBlank()) {
+      return "{}";
+    }
+    try {
+      Object value = CANONICAL_MAPPER.readValue(toolInput, Object.class);
+      return CANONICAL_MAPPER.writeValueAsString(value);
+    } catch (JsonProcessingException e) {
+      return toolInput.strip();
+    }
+  }
+
+  private record Entry(String toolName, String result, long expiresAt) {
+  }
+}
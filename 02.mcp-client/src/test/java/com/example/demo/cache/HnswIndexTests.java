@@ -0,0 +1,68 @@
+package com.example.demo.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class HnswIndexTests {
+
+  private static float[] randomVector(Random random, int dimensions) {
+    float[] vector = new float[dimensions];
+    for (int i = 0; i < dimensions; i++) {
+      vector[i] = (float) random.nextGaussian();
+    }
+    return QuestionEmbedder.normalize(vector);
+  }
+
+  @Test
+  void findsNearestNeighborsWithHighRecall() {
+    Random random = new Random(7);
+    float[][] vectors = new float[2000][];
+    HnswIndex index = new HnswIndex(16, 100, 1);
+    for (int i = 0; i < vectors.length; i++) {
+      vectors[i] = randomVector(random, 32);
+      index.add(i, vectors[i]);
+    }
+
+    int found = 0;
+    int queries = 50;
+    for (int q = 0; q < queries; q++) {
+      float[] query = randomVector(random, 32);
+      List<Long> exact = IntStream.range(0, vectors.length).boxed()
+          .sorted(Comparator.comparingDouble((Integer i) -> HnswIndex.similarity(query, vectors[i])).reversed())
+          .limit(10)
+          .map(Integer::longValue)
+          .toList();
+      List<Long> approximate = index.search(query, 10, 50).stream().map(HnswIndex.Match::id).toList();
+      found += (int) approximate.stream().filter(exact::contains).count();
+    }
+    // recall@10
+    assertThat(found / (queries * 10.0)).isGreaterThan(0.9);
+  }
+
+  @Test
+  void excludesRemovedEntriesAndRebuildsAfterManyRemovals() {
+    Random random = new Random(3);
+    float[][] vectors = new float[100][];
+    HnswIndex index = new HnswIndex(8, 50, 1);
+    for (int i = 0; i < vectors.length; i++) {
+      vectors[i] = randomVector(random, 16);
+      index.add(i, vectors[i]);
+    }
+
+    index.remove(5);
+    assertThat(index.search(vectors[5], 1, 50)).extracting(HnswIndex.Match::id).doesNotContain(5L);
+
+    for (int i = 0; i < 60; i++) {
+      index.remove(i);
+    }
+    assertThat(index.size()).isEqualTo(40);
+    assertThat(index.search(vectors[80], 1, 50)).extracting(HnswIndex.Match::id).containsExactly(80L);
+    assertThat(index.search(vectors[10], 40, 50)).extracting(HnswIndex.Match::id).allMatch(id -> id >= 60);
+  }
+}
@@ -0,0 +1,135 @@
+package com.example.demo.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.demo.config.AnswerCacheProperties;
+import com.example.demo.support.MutableClock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SemanticAnswerCacheTests {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+  private SemanticAnswerCache cache(QuestionEmbedder embedder) {
+    AnswerCacheProperties properties = new AnswerCacheProperties();
+    properties.setSimilarityThreshold(0.8);
+    properties.setTtl(Duration.ofMinutes(10));
+    properties.setMaxEntries(2);
+    properties.setCacheableTools(List.of("getRegions", "getUsersByRegion", "getUserById"));
+    properties.setEntityNames(List.of("서울", "부산", "대구"));
+    return new SemanticAnswerCache(properties, embedder, meterRegistry, clock);
+  }
+
+  private SemanticAnswerCache cache() {
+    return cache(new HashingQuestionEmbedder(512));
+  }
+
+  private static void answer(SemanticAnswerCache cache, String question, String answer) {
+    SemanticAnswerCache.Lookup lookup = cache.lookup(question);
+    assertThat(lookup.hit()).isFalse();
+    cache.put(lookup, answer, Set.of());
+  }
+
+  @Test
+  void returnsCachedAnswerForSimilarQuestions() {
+    SemanticAnswerCache cache = cache();
+    answer(cache, "서울 지역 사용자 알려줘", "<div>alice, bob</div>");
+
+    assertThat(cache.lookup("서울 지역 사용자 알려줘!").answer()).isEqualTo("<div>alice, bob</div>");
+    assertThat(cache.lookup("서울  지역의 사용자 알려줘").answer()).isEqualTo("<div>alice, bob</div>");
+    assertThat(cache.lookup("부산 지역 날씨 알려줘").hit()).isFalse();
+
+    assertThat(meterRegistry.get("chat.answer.cache.requests").tag("result", "hit").counter().count()).isEqualTo(2);
+    assertThat(meterRegistry.get("chat.answer.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    assertThat(meterRegistry.get("chat.answer.cache.latency.saved").timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  void missesWhenQuestionsDifferInIdsNamesOrQuotedValues() {
+    SemanticAnswerCache cache = cache();
+    answer(cache, "ID 1 사용자 정보 알려줘", "<div>alice</div>");
+    answer(cache, "서울 지역 사용자 알려줘", "<div>alice, bob</div>");
+
+    assertThat(cache.lookup("ID 1 사용자 정보 알려줘!").answer()).isEqualTo("<div>alice</div>");
+    assertThat(cache.lookup("ID 2 사용자 정보 알려줘").hit()).isFalse();
+    assertThat(cache.lookup("ID 1 사용자 정보 알려줘 region 2").hit()).isFalse();
+    assertThat(cache.lookup("부산 지역 사용자 알려줘").hit()).isFalse();
+    assertThat(cache.lookup("대구 지역 사용자 알려줘").hit()).isFalse();
+
+    SemanticAnswerCache quoted = cache();
+    answer(quoted, "이름이 '홍길동'인 사용자 찾아줘", "<div>홍길동</div>");
+    assertThat(quoted.lookup("이름이 '홍길순'인 사용자 찾아줘").hit()).isFalse();
+    assertThat(quoted.lookup("이름이 '홍길동'인 사용자 찾아줘!").hit()).isTrue();
+  }
+
+  @Test
+  void storesOnlyAnswersBuiltFromCacheableTools() {
+    SemanticAnswerCache cache = cache();
+    for (String tool : List.of("getCurrentDateTime", "getCurrentWeather", "getSystemStatus", "setAlarm")) {
+      SemanticAnswerCache.Lookup lookup = cache.lookup("서울 지역 사용자 알려줘");
+      cache.put(lookup, "<div>" + tool + "</div>", Set.of("getUsersByRegion", tool));
+    }
+    assertThat(cache.size()).isZero();
+
+    SemanticAnswerCache.Lookup lookup = cache.lookup("서울 지역 사용자 알려줘");
+    cache.put(lookup, "<div>alice</div>", Set.of("getRegions", "getUsersByRegion"));
+    assertThat(cache.lookup("서울 지역 사용자 알려줘").answer()).isEqualTo("<div>alice</div>");
+  }
+
+  @Test
+  void expiresAndEvictsAnswers() {
+    SemanticAnswerCache cache = cache();
+    answer(cache, "시스템 상태 알려줘", "<div>정상</div>");
+    answer(cache, "지역 목록 알려줘", "<div>서울, 부산</div>");
+    cache.lookup("시스템 상태 알려줘");
+    answer(cache, "사용자 수는 몇 명이야", "<div>2명</div>");
+
+    // 상한 2개: 가장 오래 사용하지 않은 "지역 목록" 제거
+    assertThat(cache.lookup("지역 목록 알려줘").hit()).isFalse();
+    assertThat(cache.lookup("시스템 상태 알려줘").hit()).isTrue();
+
+    clock.advance(Duration.ofMinutes(11));
+    assertThat(cache.lookup("시스템 상태 알려줘").hit()).isFalse();
+    assertThat(meterRegistry.get("chat.answer.cache.evictions").tag("reason", "capacity").counter().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("chat.answer.cache.evictions").tag("reason", "expired").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void invalidationDropsAnswersAndSkipsOverlappingOnes() {
+    SemanticAnswerCache cache = cache();
+    answer(cache, "서울 지역 사용자 알려줘", "<div>alice</div>");
+
+    SemanticAnswerCache.Lookup inFlight = cache.lookup("부산 지역 사용자 알려줘");
+    assertThat(inFlight.hit()).isFalse();
+    cache.invalidateAll();
+    cache.put(inFlight, "<div>변경 전 답변</div>", Set.of("getUsersByRegion"));
+
+    assertThat(cache.size()).isZero();
+    assertThat(cache.lookup("서울 지역 사용자 알려줘").hit()).isFalse();
+    assertThat(cache.lookup("부산 지역 사용자 알려줘").hit()).isFalse();
+  }
+
+  @Test
+  void bypassesCacheWhenEmbeddingFails() {
+    SemanticAnswerCache cache = cache(text -> {
+      throw new IllegalStateException("embedding unavailable");
+    });
+
+    SemanticAnswerCache.Lookup lookup = cache.lookup("안녕");
+    cache.put(lookup, "<div>안녕하세요</div>", Set.of());
+
+    assertThat(lookup.hit()).isFalse();
+    assertThat(cache.size()).isZero();
+  }
+}
@@ -0,0 +1,151 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.example.demo.support.OpenAiStubServer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// /api/chat/stream: 로컬 OpenAI 호환 스텁으로 토큰 스트리밍 / 도구 호출 / 대화 메모리 / 답변 캐시 / 메트릭 검증
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.ai.openai.api-key=test",
+    "spring.ai.mcp.client.enabled=false",
+    "chat.answer-cache.embedder=hashing",
+    "management.server.port="
+})
+class AiControllerStreamingTests {
+
+  private static final String TOOL_RESULT = "서울, 부산, 대구";
+  private static final OpenAiStubServer stub = startStub();
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  private final HttpClient client = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+
+  private static OpenAiStubServer startStub() {
+    try {
+      return new OpenAiStubServer("getRegions");
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @DynamicPropertySource
+  static void openAiProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.ai.openai.base-url", stub::baseUrl);
+  }
+
+  @AfterAll
+  static void stopStub() {
+    stub.close();
+  }
+
+  @TestConfiguration
+  static class Tools {
+
+    @Tool(description = "지역 목록을 조회합니다.")
+    public String getRegions() {
+      return TOOL_RESULT;
+    }
+
+    @Bean
+    ToolCallbackProvider toolCallbackProvider() {
+      return MethodToolCallbackProvider.builder().toolObjects(new Tools()).build();
+    }
+  }
+
+  private HttpResponse<String> ask(String question) throws Exception {
+    return ask(client, question);
+  }
+
+  private HttpResponse<String> ask(HttpClient client, String question) throws Exception {
+    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/chat/stream"))
+        .header("Content-Type", "application/x-www-form-urlencoded")
+        .header("Accept", "text/event-stream")
+        .POST(HttpRequest.BodyPublishers.ofString("question=" + URLEncoder.encode(question, StandardCharsets.UTF_8)))
+        .build();
+    return client.send(request, HttpResponse.BodyHandlers.ofString());
+  }
+
+  @Test
+  void streamsTokensAsServerSentEventsAndKeepsMemory() throws Exception {
+    HttpResponse<String> first = ask("안녕");
+
+    assertThat(first.headers().firstValue("Content-Type")).hasValueSatisfying(
+        type -> assertThat(type).startsWith("text/event-stream"));
+    assertThat(first.headers().firstValue("X-Accel-Buffering")).hasValue("no");
+    // 토큰 단위 이벤트 (앞 공백 보존) 후 done
+    assertThat(first.body())
+        .contains("event:token\ndata:{\"text\":\"안녕\"}")
+        .contains("data:{\"text\":\" 반갑습니다\"}")
+        .endsWith("event:done\ndata:{\"text\":\"\"}\n\n");
+
+    // 같은 세션의 다음 질문에는 이전 질문 / 스트리밍으로 받은 전체 답변이 함께 전달됨
+    ask("두 번째 질문");
+    String lastRequest = stub.requests().get(stub.requests().size() - 1);
+    assertThat(lastRequest).contains("안녕").contains("<div>안녕하세요 반갑습니다</div>").contains("두 번째 질문");
+
+    assertThat(meterRegistry.get("ai.chat.first.token").timer().count()).isGreaterThanOrEqualTo(2);
+    assertThat(meterRegistry.get("ai.chat.duration").tag("mode", "stream").tag("outcome", "success")
+        .timer().count()).isGreaterThanOrEqualTo(2);
+  }
+
+  @Test
+  void executesToolCallsWhileStreaming() throws Exception {
+    HttpResponse<String> response = ask("지역 목록 알려줘");
+
+    assertThat(response.body())
+        .contains("data:{\"text\":\" 조회했습니다\"}")
+        .endsWith("event:done\ndata:{\"text\":\"\"}\n\n");
+    // 두 번째 모델 요청에 도구 실행 결과가 포함됨
+    assertThat(stub.requests()).anySatisfy(body -> assertThat(body).contains(TOOL_RESULT));
+  }
+
+  @Test
+  void answersRepeatedFirstQuestionsFromTheAnswerCache() throws Exception {
+    String question = "답변 캐시 확인용 질문입니다";
+    ask(question);
+    int requests = stub.requests().size();
+
+    // 다른 세션의 같은 질문은 모델 호출 없이 캐시된 답변을 한 번에 전송
+    HttpClient otherSession = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+    HttpResponse<String> cached = ask(otherSession, question);
+    assertThat(cached.body())
+        .contains("event:token\ndata:{\"text\":\"<div>안녕하세요 반갑습니다</div>\"}")
+        .endsWith("event:done\ndata:{\"text\":\"\"}\n\n");
+    assertThat(stub.requests()).hasSize(requests);
+    assertThat(meterRegistry.get("chat.answer.cache.requests").tag("result", "hit").counter().count())
+        .isGreaterThanOrEqualTo(1);
+
+    // 캐시된 답변도 그 세션의 대화 메모리에 남음
+    ask(otherSession, "이어지는 질문");
+    assertThat(stub.requests().get(stub.requests().size() - 1))
+        .contains(question).contains("<div>안녕하세요 반갑습니다</div>");
+  }
+}
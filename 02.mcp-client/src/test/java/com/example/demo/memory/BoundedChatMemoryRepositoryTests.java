@@ -0,0 +1,102 @@
+package com.example.demo.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.ToolResponseMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.util.unit.DataSize;
+
+import com.example.demo.config.ChatMemoryProperties;
+import com.example.demo.support.MutableClock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedChatMemoryRepositoryTests {
+
+  @TempDir
+  Path spillDirectory;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+  private BoundedChatMemoryRepository repository(long maxBytes, boolean spill) {
+    ChatMemoryProperties properties = new ChatMemoryProperties();
+    properties.setMaxBytes(DataSize.ofBytes(maxBytes));
+    properties.setIdleTimeout(Duration.ofMinutes(30));
+    properties.getSpill().setEnabled(spill);
+    properties.getSpill().setDirectory(spillDirectory);
+    properties.getSpill().setTtl(Duration.ofHours(1));
+    return new BoundedChatMemoryRepository(properties, meterRegistry, clock);
+  }
+
+  private double evictions(String reason) {
+    return meterRegistry.get("chat.memory.evictions").tag("reason", reason).counter().count();
+  }
+
+  @Test
+  void roundTripsMessagesIncludingToolCalls() {
+    BoundedChatMemoryRepository repository = repository(1_000_000, false);
+    List<Message> messages = List.of(
+        new UserMessage("서울 지역 사용자 알려줘 ".repeat(100)),
+        AssistantMessage.builder().content("")
+            .toolCalls(List.of(new AssistantMessage.ToolCall("call-1", "function", "getUsersByRegion", "{\"regionId\":1}")))
+            .build(),
+        ToolResponseMessage.builder()
+            .responses(List.of(new ToolResponseMessage.ToolResponse("call-1", "getUsersByRegion", "alice")))
+            .build(),
+        new AssistantMessage("<div>alice</div>"));
+
+    repository.saveAll("c1", messages);
+
+    assertThat(repository.findByConversationId("c1")).isEqualTo(messages);
+    // 반복되는 텍스트는 압축되어 원문보다 작게 보관
+    assertThat(repository.memoryBytes()).isLessThan(messages.get(0).getText().length());
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedConversationsOverCapacity() {
+    BoundedChatMemoryRepository repository = repository(100, false);
+    repository.saveAll("c1", List.of(new UserMessage("a".repeat(30))));
+    repository.saveAll("c2", List.of(new UserMessage("b".repeat(30))));
+    repository.findByConversationId("c1");
+    repository.saveAll("c3", List.of(new UserMessage("c".repeat(30))));
+
+    assertThat(repository.findConversationIds()).containsExactlyInAnyOrder("c1", "c3");
+    assertThat(repository.memoryBytes()).isLessThanOrEqualTo(100);
+    assertThat(evictions("capacity")).isEqualTo(1);
+  }
+
+  @Test
+  void spillsIdleConversationsToDiskAndRestoresThem() {
+    BoundedChatMemoryRepository repository = repository(1_000_000, true);
+    List<Message> messages = List.of(new UserMessage("안녕"), new AssistantMessage("<div>안녕하세요</div>"));
+    repository.saveAll("idle", messages);
+    repository.saveAll("other", List.of(new UserMessage("x")));
+
+    clock.advance(Duration.ofMinutes(31));
+    repository.sweep();
+    assertThat(repository.memoryConversations()).isZero();
+    assertThat(repository.diskConversations()).isEqualTo(2);
+    assertThat(evictions("idle")).isEqualTo(2);
+
+    assertThat(repository.findByConversationId("idle")).isEqualTo(messages);
+    assertThat(repository.memoryConversations()).isEqualTo(1);
+    assertThat(repository.diskConversations()).isEqualTo(1);
+
+    // 디스크 TTL 경과 시 삭제
+    clock.advance(Duration.ofHours(2));
+    repository.sweep();
+    assertThat(repository.findConversationIds()).isEmpty();
+    assertThat(repository.diskBytes()).isZero();
+    assertThat(spillDirectory.toFile().list()).isEmpty();
+  }
+}
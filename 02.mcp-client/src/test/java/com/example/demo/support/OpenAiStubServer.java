@@ -0,0 +1,127 @@
+package com.example.demo.support;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 테스트용 OpenAI 호환 Chat Completions 스텁 (stream=true / false 모두 지원)
+ *
+ * - 요청에 도구 응답(role=tool)이 있으면: 고정 텍스트 답변 (TOOL_ANSWER_TOKENS)
+ * - 질문에 TOOL_TRIGGER 가 있고 도구 응답이 없으면: 해당 도구 호출(tool_calls)
+ * - 그 외: 고정 텍스트 답변 (ANSWER_TOKENS)
+ * 받은 요청 본문은 requests() 로 확인한다.
+ */
+public class OpenAiStubServer implements AutoCloseable {
+
+  public static final String TOOL_TRIGGER = "지역";
+  public static final List<String> ANSWER_TOKENS = List.of("<div>", "안녕", "하세요", " 반갑습니다", "</div>");
+  public static final List<String> TOOL_ANSWER_TOKENS = List.of("<div>", "지역 목록을", " 조회했습니다", "</div>");
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final HttpServer server;
+  private final String toolName;
+  private final List<String> requests = new CopyOnWriteArrayList<>();
+
+  public OpenAiStubServer(String toolName) throws IOException {
+    this.toolName = toolName;
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    this.server.createContext("/v1/chat/completions", this::handle);
+    this.server.start();
+  }
+
+  public String baseUrl() {
+    return "http://localhost:" + server.getAddress().getPort();
+  }
+
+  public List<String> requests() {
+    return requests;
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    requests.add(body);
+    JsonNode request = MAPPER.readTree(body);
+    boolean stream = request.path("stream").asBoolean(false);
+    boolean toolAnswered = false;
+    String lastUserMessage = "";
+    for (JsonNode message : request.path("messages")) {
+      String role = message.path("role").asText();
+      toolAnswered |= role.equals("tool");
+      if (role.equals("user")) {
+        lastUserMessage = message.path("content").asText();
+      }
+    }
+
+    List<String> tokens;
+    boolean callTool = false;
+    if (toolAnswered) {
+      tokens = TOOL_ANSWER_TOKENS;
+    } else if (lastUserMessage.contains(TOOL_TRIGGER)) {
+      tokens = List.of();
+      callTool = true;
+    } else {
+      tokens = ANSWER_TOKENS;
+    }
+
+    if (stream) {
+      exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+      exchange.sendResponseHeaders(200, 0);
+      try (OutputStream out = exchange.getResponseBody()) {
+        if (callTool) {
+          chunk(out, "{\"role\":\"assistant\",\"content\":null,\"tool_calls\":[{\"index\":0,\"id\":\"call_1\","
+              + "\"type\":\"function\",\"function\":{\"name\":\"" + toolName + "\",\"arguments\":\"{}\"}}]}", null);
+          chunk(out, "{}", "tool_calls");
+        } else {
+          for (String token : tokens) {
+            chunk(out, "{\"content\":" + json(token) + "}", null);
+          }
+          chunk(out, "{}", "stop");
+        }
+        out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+      }
+      return;
+    }
+
+    String message = callTool
+        ? "{\"role\":\"assistant\",\"content\":null,\"tool_calls\":[{\"id\":\"call_1\",\"type\":\"function\","
+            + "\"function\":{\"name\":\"" + toolName + "\",\"arguments\":\"{}\"}}]}"
+        : "{\"role\":\"assistant\",\"content\":" + json(String.join("", tokens)) + "}";
+    byte[] response = ("{\"id\":\"stub\",\"object\":\"chat.completion\",\"created\":1,\"model\":\"gpt-4o-mini\","
+        + "\"choices\":[{\"index\":0,\"message\":" + message + ",\"finish_reason\":\""
+        + (callTool ? "tool_calls" : "stop") + "\"}],"
+        + "\"usage\":{\"prompt_tokens\":1,\"completion_tokens\":1,\"total_tokens\":2}}")
+        .getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, response.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(response);
+    }
+  }
+
+  private static void chunk(OutputStream out, String delta, String finishReason) throws IOException {
+    String data = "{\"id\":\"stub\",\"object\":\"chat.completion.chunk\",\"created\":1,\"model\":\"gpt-4o-mini\","
+        + "\"choices\":[{\"index\":0,\"delta\":" + delta + ",\"finish_reason\":"
+        + (finishReason != null ? "\"" + finishReason + "\"" : "null") + "}]}";
+    out.write(("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+    out.flush();
+  }
+
+  private static String json(String text) {
+    return "\"" + text.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+  }
+}
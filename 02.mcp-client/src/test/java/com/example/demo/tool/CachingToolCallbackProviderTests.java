@@ -0,0 +1,165 @@
+package com.example.demo.tool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.ai.tool.definition.ToolDefinition;
+
+import com.example.demo.config.ToolCacheProperties;
+import com.example.demo.support.MutableClock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CachingToolCallbackProviderTests {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+  private final AtomicInteger regionCalls = new AtomicInteger();
+  private final AtomicInteger userCalls = new AtomicInteger();
+  private final AtomicInteger statusCalls = new AtomicInteger();
+  // 도구 호출 중에 실행할 동작 (변경 도구와 겹친 조회 재현용)
+  private Runnable duringUserCall = () -> { };
+
+  private Map<String, ToolCallback> tools(int maxEntries) {
+    ToolCacheProperties properties = new ToolCacheProperties();
+    properties.setMaxEntries(maxEntries);
+    properties.setTools(Map.of(
+        "getRegions", Duration.ofMinutes(10),
+        "getUserById", Duration.ofMinutes(1),
+        "getSystemStatus", Duration.ofSeconds(10)));
+    properties.setMutating(Map.of(
+        "createUser", List.of("getUser*", "getSystemStatus"),
+        "deleteRegion", List.of("*")));
+    ToolResultCache cache = new ToolResultCache(properties, meterRegistry, clock);
+
+    ToolCallbackProvider delegate = ToolCallbackProvider.from(
+        tool("getRegions", input -> "서울, 부산 #" + regionCalls.incrementAndGet()),
+        tool("getUserById", input -> {
+          duringUserCall.run();
+          return input.contains("404") ? "사용자 조회 중 오류 발생" : "alice #" + userCalls.incrementAndGet();
+        }),
+        tool("getSystemStatus", input -> "정상 #" + statusCalls.incrementAndGet()),
+        tool("createUser", input -> "생성 완료"),
+        tool("deleteRegion", input -> "삭제 완료"));
+    return Arrays.stream(new CachingToolCallbackProvider(delegate, cache).getToolCallbacks())
+        .collect(Collectors.toMap(callback -> callback.getToolDefinition().name(), callback -> callback));
+  }
+
+  private static ToolCallback tool(String name, Function<String, String> body) {
+    ToolDefinition definition = ToolDefinition.builder().name(name).description(name).inputSchema("{}").build();
+    return new ToolCallback() {
+      @Override
+      public ToolDefinition getToolDefinition() {
+        return definition;
+      }
+
+      @Override
+      public String call(String toolInput) {
+        return body.apply(toolInput);
+      }
+    };
+  }
+
+  private double requests(String tool, String result) {
+    return meterRegistry.get("mcp.tool.cache.requests").tag("tool", tool).tag("result", result).counter().count();
+  }
+
+  @Test
+  void cachesReadToolsByCanonicalArgumentsUntilTtl() {
+    Map<String, ToolCallback> tools = tools(100);
+
+    assertThat(tools.get("getUserById").call("{\"userId\": 1, \"verbose\": false}")).isEqualTo("alice #1");
+    // 키 순서 / 공백이 달라도 같은 항목
+    assertThat(tools.get("getUserById").call("{\"verbose\":false,\"userId\":1}")).isEqualTo("alice #1");
+    assertThat(tools.get("getUserById").call("{\"userId\":2}")).isEqualTo("alice #2");
+    assertThat(requests("getUserById", "hit")).isEqualTo(1);
+    assertThat(requests("getUserById", "miss")).isEqualTo(2);
+
+    // 도구별 TTL: 상태는 만료, 지역은 유지
+    tools.get("getSystemStatus").call("{}");
+    tools.get("getRegions").call("{}");
+    clock.advance(Duration.ofSeconds(30));
+    assertThat(tools.get("getSystemStatus").call("{}")).isEqualTo("정상 #2");
+    assertThat(tools.get("getRegions").call("")).isEqualTo("서울, 부산 #1");
+    assertThat(meterRegistry.get("mcp.tool.cache.evictions").tag("reason", "expired").counter().count()).isEqualTo(1);
+
+    // 오류 응답은 캐시하지 않음
+    tools.get("getUserById").call("{\"userId\":404}");
+    tools.get("getUserById").call("{\"userId\":404}");
+    assertThat(requests("getUserById", "miss")).isEqualTo(4);
+  }
+
+  @Test
+  void evictsLeastRecentlyUsedEntriesOverCapacity() {
+    Map<String, ToolCallback> tools = tools(2);
+    tools.get("getUserById").call("{\"userId\":1}");
+    tools.get("getUserById").call("{\"userId\":2}");
+    tools.get("getUserById").call("{\"userId\":1}");
+    tools.get("getUserById").call("{\"userId\":3}");
+
+    // 2번이 가장 오래 사용되지 않았으므로 제거됨
+    assertThat(tools.get("getUserById").call("{\"userId\":1}")).isEqualTo("alice #1");
+    assertThat(tools.get("getUserById").call("{\"userId\":2}")).isEqualTo("alice #4");
+    assertThat(meterRegistry.get("mcp.tool.cache.entries").gauge().value()).isEqualTo(2);
+  }
+
+  @Test
+  void mutatingToolsInvalidateMatchingEntries() {
+    Map<String, ToolCallback> tools = tools(100);
+    tools.get("getRegions").call("{}");
+    tools.get("getUserById").call("{\"userId\":1}");
+    tools.get("getSystemStatus").call("{}");
+
+    tools.get("createUser").call("{\"name\":\"bob\"}");
+    assertThat(tools.get("getRegions").call("{}")).isEqualTo("서울, 부산 #1");
+    assertThat(tools.get("getUserById").call("{\"userId\":1}")).isEqualTo("alice #2");
+    assertThat(tools.get("getSystemStatus").call("{}")).isEqualTo("정상 #2");
+
+    tools.get("deleteRegion").call("{\"regionId\":1}");
+    assertThat(tools.get("getRegions").call("{}")).isEqualTo("서울, 부산 #2");
+    assertThat(meterRegistry.get("mcp.tool.cache.evictions").tag("reason", "invalidated").counter().count())
+        .isEqualTo(5);
+  }
+
+  @Test
+  void doesNotCacheReadsThatOverlapAMutation() {
+    Map<String, ToolCallback> tools = tools(100);
+    duringUserCall = () -> {
+      duringUserCall = () -> { };
+      tools.get("createUser").call("{}");
+    };
+
+    assertThat(tools.get("getUserById").call("{\"userId\":1}")).isEqualTo("alice #1");
+    assertThat(tools.get("getUserById").call("{\"userId\":1}")).isEqualTo("alice #2");
+    assertThat(tools.get("getUserById").call("{\"userId\":1}")).isEqualTo("alice #2");
+  }
+
+  @Test
+  void recordsCalledToolsWithoutPassingTheRecorderOn() {
+    Map<String, ToolCallback> tools = tools(100);
+    ToolCallRecorder recorder = new ToolCallRecorder();
+    Map<String, Object> context = new HashMap<>(recorder.toolContext());
+    context.put(ToolContext.TOOL_CALL_HISTORY, List.of());
+
+    // 위임 대상은 컨텍스트를 지원하지 않음 (기록용 항목이 넘어가면 UnsupportedOperationException)
+    assertThat(tools.get("getRegions").call("{}", new ToolContext(context))).isEqualTo("서울, 부산 #1");
+    assertThat(tools.get("getRegions").call("{}", new ToolContext(context))).isEqualTo("서울, 부산 #1");
+    tools.get("getSystemStatus").call("{}", new ToolContext(context));
+
+    assertThat(recorder.toolNames()).containsExactlyInAnyOrder("getRegions", "getSystemStatus");
+  }
+}
@@ -0,0 +1,179 @@
+package com.example.demo.tool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.ToolResponseMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.model.tool.DefaultToolCallingManager;
+import org.springframework.ai.model.tool.ToolCallingChatOptions;
+import org.springframework.ai.model.tool.ToolExecutionResult;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+
+import com.example.demo.config.ToolExecutionProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ParallelToolCallingManagerTests {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final AtomicInteger running = new AtomicInteger();
+  private final AtomicInteger maxRunning = new AtomicInteger();
+  private final AtomicBoolean writing = new AtomicBoolean();
+  private final AtomicBoolean overlappedWrite = new AtomicBoolean();
+  private ParallelToolCallingManager manager;
+
+  @AfterEach
+  void close() {
+    manager.close();
+  }
+
+  private ParallelToolCallingManager manager(int maxConcurrency, Duration timeout) {
+    ToolExecutionProperties properties = new ToolExecutionProperties();
+    properties.setMaxConcurrency(maxConcurrency);
+    properties.setTimeout(timeout);
+    manager = new ParallelToolCallingManager(DefaultToolCallingManager.builder().build(), properties,
+        Set.of("updateUser"), meterRegistry);
+    return manager;
+  }
+
+  // 인자(ms)만큼 대기 후 "이름:인자" 반환 (변경 도구 updateUser 가 다른 호출과 겹치면 overlappedWrite)
+  private ToolCallback sleepingTool(String name) {
+    boolean write = name.equals("updateUser");
+    ToolDefinition definition = ToolDefinition.builder().name(name).description(name).inputSchema("{}").build();
+    return new ToolCallback() {
+      @Override
+      public ToolDefinition getToolDefinition() {
+        return definition;
+      }
+
+      @Override
+      public String call(String toolInput) {
+        int now = running.incrementAndGet();
+        maxRunning.accumulateAndGet(now, Math::max);
+        if (write ? now > 1 : writing.get()) {
+          overlappedWrite.set(true);
+        }
+        writing.compareAndSet(false, write);
+        try {
+          Thread.sleep(Long.parseLong(toolInput));
+          return name + ":" + toolInput;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return "interrupted";
+        } finally {
+          if (write) {
+            writing.set(false);
+          }
+          running.decrementAndGet();
+        }
+      }
+    };
+  }
+
+  private ToolExecutionResult execute(String... callsAsNameAndMillis) {
+    List<AssistantMessage.ToolCall> toolCalls = new ArrayList<>();
+    for (int i = 0; i < callsAsNameAndMillis.length; i += 2) {
+      toolCalls.add(new AssistantMessage.ToolCall("call-" + i / 2, "function",
+          callsAsNameAndMillis[i], callsAsNameAndMillis[i + 1]));
+    }
+    Prompt prompt = new Prompt(List.of(new UserMessage("날씨와 지역 알려줘")),
+        ToolCallingChatOptions.builder()
+            .toolCallbacks(sleepingTool("getCurrentWeather"), sleepingTool("getRegions"), sleepingTool("updateUser"))
+            .build());
+    AssistantMessage assistantMessage = AssistantMessage.builder().content("").toolCalls(toolCalls).build();
+    return manager.executeToolCalls(prompt, new ChatResponse(List.of(new Generation(assistantMessage))));
+  }
+
+  private static List<String> results(ToolExecutionResult result) {
+    List<Message> history = result.conversationHistory();
+    assertThat(history).hasSize(3);
+    return ((ToolResponseMessage) history.get(2)).getResponses().stream()
+        .map(response -> response.id() + "=" + response.responseData())
+        .toList();
+  }
+
+  @Test
+  void runsToolCallsConcurrentlyAndKeepsRequestOrder() {
+    manager(4, Duration.ofSeconds(5));
+    long startedAt = System.nanoTime();
+
+    ToolExecutionResult result = execute(
+        "getCurrentWeather", "300", "getCurrentWeather", "100", "getCurrentWeather", "200", "getRegions", "50");
+
+    assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(600));
+    assertThat(results(result)).containsExactly(
+        "call-0=getCurrentWeather:300", "call-1=getCurrentWeather:100",
+        "call-2=getCurrentWeather:200", "call-3=getRegions:50");
+    assertThat(result.returnDirect()).isFalse();
+    assertThat(meterRegistry.get("ai.tool.fanout").summary().totalAmount()).isEqualTo(4);
+    assertThat(meterRegistry.get("ai.tool.latency.saved").timer().totalTime(TimeUnit.MILLISECONDS))
+        .isGreaterThan(0);
+  }
+
+  @Test
+  void limitsConcurrencyPerTurn() {
+    manager(2, Duration.ofSeconds(5));
+
+    execute("getRegions", "100", "getRegions", "100", "getRegions", "100", "getRegions", "100", "getRegions", "100");
+
+    assertThat(maxRunning.get()).isEqualTo(2);
+  }
+
+  @Test
+  void reportsTimedOutCallsToTheModel() {
+    manager(4, Duration.ofMillis(200));
+
+    ToolExecutionResult result = execute("getRegions", "50", "getCurrentWeather", "5000");
+
+    assertThat(results(result)).containsExactly(
+        "call-0=getRegions:50", "call-1=도구 실행 시간이 초과되었습니다. (200ms)");
+    assertThat(meterRegistry.get("ai.tool.timeouts").tag("tool", "getCurrentWeather").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void neverTimesOutMutatingCalls() {
+    manager(4, Duration.ofMillis(100));
+
+    ToolExecutionResult result = execute("updateUser", "300");
+
+    // 취소된 변경 호출을 모델이 재시도하면 중복 반영되므로 끝날 때까지 기다린다
+    assertThat(results(result)).containsExactly("call-0=updateUser:300");
+    assertThat(meterRegistry.find("ai.tool.timeouts").counters()).isEmpty();
+  }
+
+  @Test
+  void runsMutatingCallsAloneInRequestOrder() {
+    manager(4, Duration.ofSeconds(5));
+    long startedAt = System.nanoTime();
+
+    ToolExecutionResult result = execute(
+        "getRegions", "200", "getCurrentWeather", "200", "updateUser", "100", "updateUser", "100",
+        "getRegions", "200", "getRegions", "200");
+
+    // 읽기 묶음(200) + 변경(100) + 변경(100) + 읽기 묶음(200), 순차 실행이면 1000ms
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+    assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(600)).isLessThan(Duration.ofMillis(900));
+    assertThat(overlappedWrite).isFalse();
+    assertThat(maxRunning.get()).isEqualTo(2);
+    assertThat(results(result)).containsExactly(
+        "call-0=getRegions:200", "call-1=getCurrentWeather:200", "call-2=updateUser:100",
+        "call-3=updateUser:100", "call-4=getRegions:200", "call-5=getRegions:200");
+  }
+}
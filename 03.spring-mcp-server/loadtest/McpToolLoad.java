@@ -0,0 +1,116 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * MCP Tool 동시 호출 부하 테스트 (Streamable HTTP)
+ *
+ * 하나의 MCP 세션을 열고 tools/call 요청을 동시성 N으로 총 M회 호출하여 처리량과 지연시간을 출력합니다.
+ * 별도 빌드 없이 단일 파일로 실행합니다 (Java 21).
+ *
+ * 사용법:
+ *   java McpToolLoad.java [동시성] [총요청수] [도구이름] [인자JSON]
+ * 예시:
+ *   java McpToolLoad.java 400 4000 getCurrentWeather '{"city":"Seoul"}'
+ *   java McpToolLoad.java 400 4000 getCurrentWeather '{"city":"city-{n}"}'   ({n}은 요청 번호로 치환)
+ *
+ * Virtual Thread 모드 전/후 비교:
+ *   1) 느린 날씨 API 스텁 실행:       ./slow-weather-stub.sh 9999 500
+ *   2) 플랫폼 스레드 모드로 서버 실행:  WEATHER_API_KEY=x java -jar target/*.jar --weather.api.base-url=http://localhost:9999
+ *   3) 부하 테스트 실행 후 결과 기록
+ *   4) VIRTUAL_THREADS_ENABLED=true 로 서버 재실행 후 3) 반복
+ */
+public class McpToolLoad {
+
+    public static void main(String[] args) throws Exception {
+        String mcpUrl = System.getenv().getOrDefault("MCP_URL", "http://localhost:8080/mcp");
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+        int total = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        String tool = args.length > 2 ? args[2] : "getSystemStatus";
+        String toolArgs = args.length > 3 ? args[3] : "{}";
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        // 세션 초기화
+        HttpResponse<String> init = client.send(post(mcpUrl, null,
+                "{\"jsonrpc\":\"2.0\",\"id\":0,\"method\":\"initialize\",\"params\":{\"protocolVersion\":\"2025-03-26\","
+                        + "\"capabilities\":{},\"clientInfo\":{\"name\":\"mcp-load\",\"version\":\"1.0\"}}}"),
+                HttpResponse.BodyHandlers.ofString());
+        String sessionId = init.headers().firstValue("Mcp-Session-Id")
+                .orElseThrow(() -> new IllegalStateException("MCP 세션 초기화 실패: " + init.statusCode()));
+        client.send(post(mcpUrl, sessionId, "{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}"),
+                HttpResponse.BodyHandlers.discarding());
+
+        System.out.printf("MCP 세션: %s%n도구: %s %s, 동시성: %d, 총 요청: %d%n",
+                sessionId, tool, toolArgs, concurrency, total);
+
+        Semaphore permits = new Semaphore(concurrency);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>(total));
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        long started = System.nanoTime();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 1; i <= total; i++) {
+                permits.acquire();
+                int id = i;
+                executor.submit(() -> {
+                    long t0 = System.nanoTime();
+                    try {
+                        HttpResponse<String> response = client.send(post(mcpUrl, sessionId,
+                                "{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"method\":\"tools/call\",\"params\":{\"name\":\""
+                                        + tool + "\",\"arguments\":" + toolArgs.replace("{n}", String.valueOf(id)) + "}}"),
+                                HttpResponse.BodyHandlers.ofString());
+                        boolean success = response.statusCode() == 200 && !response.body().contains("\"isError\":true");
+                        (success ? ok : failed).incrementAndGet();
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                    } finally {
+                        latencies.add(System.nanoTime() - t0);
+                        permits.release();
+                    }
+                });
+            }
+        }
+        double elapsed = (System.nanoTime() - started) / 1e9;
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.printf("소요 시간: %.2fs, 처리량: %.1f req/s, 성공: %d, 실패: %d%n",
+                elapsed, total / elapsed, ok.get(), failed.get());
+        System.out.printf("지연시간(ms) p50: %d, p95: %d, p99: %d, max: %d%n",
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99), percentile(sorted, 1.0));
+    }
+
+    private static HttpRequest post(String url, String sessionId, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json, text/event-stream")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (sessionId != null) {
+            builder.header("Mcp-Session-Id", sessionId);
+        }
+        return builder.build();
+    }
+
+    private static long percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = Math.min(sorted.size() - 1, (int) Math.ceil(p * sorted.size()) - 1);
+        return sorted.get(Math.max(index, 0)) / 1_000_000;
+    }
+}
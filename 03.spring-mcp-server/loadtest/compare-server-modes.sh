@@ -0,0 +1,63 @@
+#!/bin/bash
+
+# SYNC / ASYNC MCP 서버 모드 처리량·지연시간 비교
+# 같은 jar를 spring.ai.mcp.server.type 만 바꿔 두 번 실행하고, 각 모드에서 McpToolLoad로
+# 네트워크 도구(getCurrentWeather, 느린 날씨 API 스텁)와 JDBC 도구(getUsersPage)를 동시 호출합니다.
+# 날씨 캐시는 끄고, 요청마다 도시 이름을 다르게 보내 게이트웨이의 single-flight 병합도 일어나지 않게 합니다.
+# 따라서 매 호출이 각자 upstream 호출을 하고 스텁의 지연만큼 대기합니다.
+# 모드 자체의 차이를 보기 위해 적응형 부하 차단(load-shedding)도 끄고 실행합니다.
+#
+# 사용법: ./compare-server-modes.sh [동시성] [총요청수] [날씨API지연ms]
+#   사전 준비: (프로젝트 루트에서) ./mvnw package -DskipTests
+#   추가 서버 인자: SERVER_ARGS="--server.tomcat.threads.max=50" ./compare-server-modes.sh 400 4000 500
+
+CONCURRENCY=${1:-200}
+TOTAL=${2:-2000}
+DELAY_MS=${3:-500}
+JAVA=${JAVA:-java}
+PORT=8080
+STUB_PORT=9999
+
+cd "$(dirname "$0")"
+JAR=$(ls ../target/*-SNAPSHOT.jar 2>/dev/null | head -1)
+if [ -z "$JAR" ]; then
+  echo "jar 파일이 없습니다. 먼저 패키징하세요: ./mvnw package -DskipTests" >&2
+  exit 1
+fi
+
+./slow-weather-stub.sh "$STUB_PORT" "$DELAY_MS" > /dev/null 2>&1 &
+STUB_PID=$!
+SERVER_PID=
+trap 'kill $STUB_PID $SERVER_PID 2>/dev/null' EXIT
+
+run_load() {
+  "$JAVA" -Dstdout.encoding=UTF-8 McpToolLoad.java "$CONCURRENCY" "$TOTAL" "$1" "$2" | tail -2
+}
+
+for MODE in SYNC ASYNC; do
+  echo "=== $MODE ==="
+  WEATHER_API_KEY=bench "$JAVA" -jar "$JAR" \
+    --server.port=$PORT \
+    --spring.ai.mcp.server.type=$MODE \
+    --weather.api.base-url=http://localhost:$STUB_PORT \
+    --weather.api.cache-ttl=0s --weather.api.stale-ttl=0s \
+    --load-shedding.enabled=false \
+    --logging.level.root=WARN \
+    $SERVER_ARGS > "../target/server-$MODE.log" 2>&1 &
+  SERVER_PID=$!
+
+  # 준비 상태가 될 때까지 대기 (최대 60초)
+  for _ in $(seq 60); do
+    curl -sf "http://localhost:$PORT/actuator/health/readiness" > /dev/null && break
+    sleep 1
+  done
+
+  echo "[getCurrentWeather]"
+  run_load getCurrentWeather '{"city":"city-{n}"}'
+  echo "[getUsersPage]"
+  run_load getUsersPage '{"limit":50}'
+
+  kill $SERVER_PID
+  wait $SERVER_PID 2>/dev/null
+  SERVER_PID=
+done
@@ -0,0 +1,35 @@
+#!/bin/bash
+
+# 부하 테스트용 느린 날씨 API 스텁
+# 모든 요청에 지정한 지연 후 OpenWeatherMap 형식의 고정 JSON을 반환합니다.
+#
+# 사용법: ./slow-weather-stub.sh [포트] [지연ms]
+
+PORT=${1:-9999}
+DELAY_MS=${2:-500}
+
+exec python3 - "$PORT" "$DELAY_MS" <<'PY'
+import sys, time
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+
+port, delay = int(sys.argv[1]), int(sys.argv[2]) / 1000.0
+body = b'{"name":"Seoul","main":{"temp":21.5,"humidity":40},"weather":[{"description":"clear sky"}]}'
+
+class Handler(BaseHTTPRequestHandler):
+    protocol_version = "HTTP/1.1"
+
+    def do_GET(self):
+        time.sleep(delay)
+        self.send_response(200)
+        self.send_header("Content-Type", "application/json")
+        self.send_header("Content-Length", str(len(body)))
+        self.end_headers()
+        self.wfile.write(body)
+
+    def log_message(self, *args):
+        pass
+
+ThreadingHTTPServer.request_queue_size = 1024
+print(f"slow weather stub on :{port} (delay {delay * 1000:.0f}ms)")
+ThreadingHTTPServer(("", port), Handler).serve_forever()
+PY
@@ -0,0 +1,124 @@
+#!/bin/bash
+
+# 기동 모드별 준비 시간(time-to-ready)·메모리(RSS) 비교
+# 같은 jar 를 모드별로 실행해 프로세스 시작부터 /actuator/health/readiness 가 UP 이 될 때까지의 시간과
+# 그 시점의 RSS 를 측정합니다. 모드마다 반복 실행한 평균을 표로 출력합니다.
+#   jar      : 기본 실행 (java -jar)
+#   lazy     : fast-startup 프로필 (지연 초기화, JPA 리포지토리 deferred 초기화)
+#   aot      : Spring AOT 처리 결과 사용 (-Dspring.aot.enabled=true)
+#   cds      : jar 를 풀어 AppCDS 아카이브 사용
+#   fast     : aot + cds + lazy (Dockerfile.fast-startup 과 같은 구성)
+#   native   : GraalVM native image (target/spring-boot-app 이 있을 때만)
+#
+# 사용법: ./startup-benchmark.sh [반복횟수]
+#   사전 준비: (프로젝트 루트에서) ./mvnw -Pfast-startup package -DskipTests
+#   (AOT 처리되지 않은 jar 면 aot / fast 모드는 건너뜁니다)
+#   native 포함: ./mvnw -Pnative native:compile -DskipTests
+#   JIT 워밍업(prod 프로필 기본값)은 끄고 측정합니다. 포함하려면: WARMUP=true ./startup-benchmark.sh
+
+RUNS=${1:-3}
+JAVA=${JAVA:-java}
+PORT=8080
+PROFILE=${PROFILE:-prod}
+WARMUP=${WARMUP:-false}
+
+cd "$(dirname "$0")"
+JAR=$(ls ../target/*-SNAPSHOT.jar 2>/dev/null | head -1)
+if [ -z "$JAR" ]; then
+  echo "jar 파일이 없습니다. 먼저 패키징하세요: ./mvnw -Pfast-startup package -DskipTests" >&2
+  exit 1
+fi
+WORK=../target/startup-benchmark
+SERVER_PID=
+trap 'kill $SERVER_PID 2>/dev/null' EXIT
+
+now_ms() {
+  date +%s%3N
+}
+
+rss_mb() {
+  local kb
+  if [ -r "/proc/$1/status" ]; then
+    kb=$(awk '/^VmRSS:/ {print $2}' "/proc/$1/status")
+  else
+    kb=$(ps -o rss= -p "$1" | tr -d ' ')
+  fi
+  echo $((kb / 1024))
+}
+
+# 실행 명령을 받아 "준비시간ms RSS_MB" 출력 (120초 안에 준비되지 않으면 실패)
+measure() {
+  local name=$1; shift
+  local start end
+  start=$(now_ms)
+  WEATHER_API_KEY=bench "$@" --server.port=$PORT --spring.profiles.active=$PROFILE --warmup.enabled=$WARMUP \
+    --logging.level.root=WARN > "$WORK/$name.log" 2>&1 &
+  SERVER_PID=$!
+  for _ in $(seq 1200); do
+    if curl -sf "http://localhost:$PORT/actuator/health/readiness" > /dev/null; then
+      end=$(now_ms)
+      echo "$((end - start)) $(rss_mb $SERVER_PID)"
+      break
+    fi
+    if ! kill -0 $SERVER_PID 2>/dev/null; then
+      break
+    fi
+    sleep 0.1
+  done
+  kill $SERVER_PID 2>/dev/null
+  wait $SERVER_PID 2>/dev/null
+  SERVER_PID=
+}
+
+run_mode() {
+  local name=$1; shift
+  local total_ms=0 total_rss=0 count=0 result
+  for _ in $(seq "$RUNS"); do
+    result=$(measure "$name" "$@")
+    if [ -z "$result" ]; then
+      printf "%-8s %14s %10s\n" "$name" "실패" "-"
+      echo "  로그: $WORK/$name.log" >&2
+      return
+    fi
+    total_ms=$((total_ms + ${result% *}))
+    total_rss=$((total_rss + ${result#* }))
+    count=$((count + 1))
+  done
+  printf "%-8s %14d %10d\n" "$name" $((total_ms / count)) $((total_rss / count))
+}
+
+rm -rf "$WORK"
+mkdir -p "$WORK/cds"
+
+# CDS 용으로 jar 를 app.jar + lib/ 형태로 풀고 학습 실행으로 아카이브 생성 (AOT 여부별로 하나씩)
+"$JAVA" -Djarmode=tools -jar "$JAR" extract --destination "$WORK/cds" > /dev/null
+CDS_JAR=$WORK/cds/$(basename "$JAR")
+AOT=false
+if unzip -l "$JAR" | grep -q "__ApplicationContextInitializer"; then
+  AOT=true
+fi
+WEATHER_API_KEY=bench "$JAVA" -XX:ArchiveClassesAtExit="$WORK/cds/app.jsa" -Dspring.context.exit=onRefresh \
+  -jar "$CDS_JAR" --spring.profiles.active=$PROFILE > "$WORK/cds-training.log" 2>&1
+if [ $AOT = true ]; then
+  WEATHER_API_KEY=bench "$JAVA" -XX:ArchiveClassesAtExit="$WORK/cds/fast.jsa" -Dspring.context.exit=onRefresh \
+    -Dspring.aot.enabled=true -Dspring.profiles.include=fast-startup \
+    -jar "$CDS_JAR" --spring.profiles.active=$PROFILE > "$WORK/fast-training.log" 2>&1
+fi
+
+echo "반복 ${RUNS}회 평균 (프로필: $PROFILE)"
+printf "%-8s %14s %10s\n" "모드" "준비시간(ms)" "RSS(MB)"
+run_mode jar "$JAVA" -jar "$JAR"
+run_mode lazy "$JAVA" -Dspring.profiles.include=fast-startup -jar "$JAR"
+if [ $AOT = true ]; then
+  run_mode aot "$JAVA" -Dspring.aot.enabled=true -jar "$JAR"
+else
+  echo "aot / fast: AOT 처리된 jar 가 아니어서 건너뜀 (./mvnw -Pfast-startup package)" >&2
+fi
+run_mode cds "$JAVA" -XX:SharedArchiveFile="$WORK/cds/app.jsa" -jar "$CDS_JAR"
+if [ $AOT = true ]; then
+  run_mode fast "$JAVA" -XX:SharedArchiveFile="$WORK/cds/fast.jsa" -Dspring.aot.enabled=true \
+    -Dspring.profiles.include=fast-startup -jar "$CDS_JAR"
+fi
+if [ -x ../target/spring-boot-app ]; then
+  run_mode native ../target/spring-boot-app
+fi
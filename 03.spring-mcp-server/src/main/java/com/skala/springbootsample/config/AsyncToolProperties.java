@@ -0,0 +1,18 @@
+package com.skala.springbootsample.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// ASYNC MCP 서버 모드의 도구 실행 설정 (mcp.tools.async.*)
+@ConfigurationProperties(prefix = "mcp.tools.async")
+@Component
+@Data
+public class AsyncToolProperties {
+
+    // JDBC 도구 전용 스케줄러 스레드 수 (커넥션 풀 크기와 맞추어 풀 대기로 스레드가 쌓이지 않게 함)
+    private int jdbcThreads = 10;
+
+    // 스레드가 모두 사용 중일 때 대기할 수 있는 작업 수 (초과 시 도구 호출은 오류로 응답)
+    private int jdbcQueueCapacity = 1000;
+}
@@ -0,0 +1,109 @@
+package com.skala.springbootsample.config;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.skala.springbootsample.repo.routing.ReadWriteRoutingDataSource;
+import com.skala.springbootsample.repo.routing.ReadYourWrites;
+import com.skala.springbootsample.repo.routing.ReadYourWritesFilter;
+import com.skala.springbootsample.repo.routing.ReplicaSet;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 읽기 / 쓰기 DataSource 라우팅 설정 (db.routing.enabled=true 인 경우)
+ *
+ * spring.datasource(.hikari) 로 primary 풀을, db.routing.replicas 로 replica 풀을 만들고
+ * LazyConnectionDataSourceProxy(ReadWriteRoutingDataSource) 를 기본 DataSource 로 등록한다.
+ * 컨텍스트 종료 시 primary 풀은 dataSource 빈(ReadWriteRoutingDataSource)이, replica 풀은 ReplicaSet 빈이 닫는다.
+ * 풀마다 이름(primary, replica-1 ...)을 붙여 hikaricp.* 메트릭이 pool 태그로 구분된다.
+ * open-in-view 에서도 트랜잭션마다 라우팅되도록 Hibernate 가 트랜잭션 종료 시 커넥션을 반납하게 한다.
+ * (기본값은 세션 종료까지 보유하므로 앞선 읽기 트랜잭션의 replica 커넥션이 쓰기에 재사용될 수 있음)
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "db.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfiguration {
+
+    @Bean
+    public ReadYourWrites readYourWrites(DataSourceRoutingProperties properties) {
+        DataSourceRoutingProperties.ReadYourWrites readYourWrites = properties.getReadYourWrites();
+        return new ReadYourWrites(readYourWrites.getWindow(), readYourWrites.getMaxSessions(), Clock.systemUTC());
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(DataSourceRoutingProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(properties.getReadYourWrites().getSessionHeaders()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public ReplicaSet replicaSet(DataSourceRoutingProperties properties, DataSourceProperties dataSourceProperties,
+                                 Environment environment, MeterRegistry meterRegistry) {
+        List<ReplicaSet.Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            DataSourceRoutingProperties.Replica replica = properties.getReplicas().get(i);
+            String name = replica.getName() != null ? replica.getName() : "replica-" + (i + 1);
+            HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.determineDriverClassName())
+                    .url(replica.getUrl())
+                    .username(replica.getUsername() != null ? replica.getUsername() : dataSourceProperties.determineUsername())
+                    .password(replica.getPassword() != null ? replica.getPassword() : dataSourceProperties.determinePassword())
+                    .build();
+            configure(pool, name, environment, meterRegistry);
+            pool.setReadOnly(true);
+            if (replica.getMaximumPoolSize() != null) {
+                pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+            }
+            replicas.add(new ReplicaSet.Replica(name, pool));
+        }
+        return new ReplicaSet(replicas, properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, ReplicaSet replicaSet,
+                                 ReadYourWrites readYourWrites, Environment environment, MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        configure(primary, ReadWriteRoutingDataSource.PRIMARY, environment, meterRegistry);
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replicaSet, readYourWrites, meterRegistry));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer routingConnectionHandling() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+
+    // spring.datasource.hikari.* 공통 설정 + 풀 이름 / 메트릭
+    private static void configure(HikariDataSource pool, String name, Environment environment, MeterRegistry meterRegistry) {
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+    }
+}
@@ -0,0 +1,62 @@
+package com.skala.springbootsample.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 읽기 전용 트랜잭션의 replica 라우팅 설정 (db.routing.*)
+@ConfigurationProperties(prefix = "db.routing")
+@Component
+@Data
+public class DataSourceRoutingProperties {
+
+    // false 이면 spring.datasource 하나만 사용 (기본)
+    private boolean enabled = false;
+
+    // 읽기 전용 replica 목록 (여러 개면 지연이 허용 범위인 replica 끼리 라운드 로빈)
+    private List<Replica> replicas = new ArrayList<>();
+
+    // 이보다 뒤처진 replica 는 사용하지 않음 (모두 뒤처지면 primary 로 읽음)
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    // replica 지연 확인 주기
+    private Duration lagCheckInterval = Duration.ofSeconds(2);
+
+    // 지연 조회 SQL / 초 단위 지연 컬럼 (결과가 없거나 NULL 이면 복제가 멈춘 것으로 보고 제외)
+    // heartbeat 테이블을 쓰는 경우: select timestampdiff(second, ts, now()) as Seconds_Behind_Master from heartbeat
+    private String lagQuery = "SHOW REPLICA STATUS";
+    private String lagColumn = "Seconds_Behind_Master";
+
+    private ReadYourWrites readYourWrites = new ReadYourWrites();
+
+    @Data
+    public static class Replica {
+
+        // 풀 이름 / 메트릭 태그 (비우면 replica-1, replica-2 ...)
+        private String name;
+
+        private String url;
+
+        // 비우면 spring.datasource 값 사용
+        private String username;
+        private String password;
+        private Integer maximumPoolSize;
+    }
+
+    @Data
+    public static class ReadYourWrites {
+
+        // 쓰기 트랜잭션 이후 같은 세션의 읽기를 primary 로 보내는 시간 (replica 가 따라잡는 데 필요한 시간)
+        private Duration window = Duration.ofSeconds(5);
+
+        // 세션 식별 헤더 (앞에서부터 먼저 있는 값 사용, MCP Streamable HTTP 는 Mcp-Session-Id)
+        private List<String> sessionHeaders = new ArrayList<>(List.of("Mcp-Session-Id", "X-Session-Id"));
+
+        // 기억하는 최대 세션 수 (초과 시 만료된 세션부터 정리)
+        private int maxSessions = 10000;
+    }
+}
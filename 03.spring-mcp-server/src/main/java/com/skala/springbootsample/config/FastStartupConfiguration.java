@@ -0,0 +1,44 @@
+package com.skala.springbootsample.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.modelcontextprotocol.server.McpAsyncServer;
+import io.modelcontextprotocol.server.McpSyncServer;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 빠른 기동 설정 (fast-startup 프로필의 spring.main.lazy-initialization=true 와 함께 사용)
+ *
+ * 지연 초기화를 켜도 기동 시점에 만들어야 하는 빈은 제외한다.
+ * - DataSource / EntityManagerFactory: DB 연결 오류를 준비 상태 전에 드러내고 첫 요청 지연을 줄임
+ * - MCP 서버 / 도구 목록: 클라이언트 initialize 에 바로 응답
+ * - @Scheduled 메서드가 있는 빈(OutboxRelay, ReplicaSet 등): 지연 초기화되면 스케줄이 등록되지 않음
+ * 그 외 빈(springdoc, 날씨 WebClient, 대량 등록 / 내보내기 등)은 처음 사용할 때 만들어진다.
+ * 지연 초기화가 꺼져 있으면 이 필터는 사용되지 않는다.
+ */
+@Configuration
+public class FastStartupConfiguration {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        LazyInitializationExcludeFilter critical = LazyInitializationExcludeFilter.forBeanTypes(
+                DataSource.class, EntityManagerFactory.class, ToolCallbackProvider.class,
+                McpSyncServer.class, McpAsyncServer.class);
+        return (beanName, beanDefinition, beanType) ->
+                critical.isExcluded(beanName, beanDefinition, beanType) || hasScheduledMethods(beanType);
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        return beanType != null && !MethodIntrospector.selectMethods(beanType,
+                (MethodIntrospector.MetadataLookup<Scheduled>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class)).isEmpty();
+    }
+}
@@ -0,0 +1,54 @@
+package com.skala.springbootsample.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.skala.springbootsample.mcp.metrics.ToolMetrics;
+import com.skala.springbootsample.service.overload.AdaptiveConcurrencyLimiter;
+import com.skala.springbootsample.service.overload.LoadSheddingFilter;
+import com.skala.springbootsample.service.overload.OverloadMonitor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 과부하 제어 설정 (load-shedding.enabled=true, 기본값)
+ *
+ * /mcp, /api/** 앞에 적응형 동시성 제한 필터를 둔다. HTTP 관측 필터 바로 다음 순서여서 거절(503)도 http.server.requests 에
+ * 기록되고, 거절할 요청은 나머지 필터를 거치지 않는다.
+ * load-shedding.readiness.enabled 이면 커넥션 대기 / 도구 호출 수로 ReadinessState 를 자동 전환한다.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "load-shedding.enabled", havingValue = "true", matchIfMissing = true)
+public class LoadSheddingConfiguration {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(LoadSheddingProperties properties,
+                                                                 MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyLimiter(properties.getLimit(), meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(AdaptiveConcurrencyLimiter limiter,
+                                                                         LoadSheddingProperties properties) {
+        FilterRegistrationBean<LoadSheddingFilter> registration = new FilterRegistrationBean<>(new LoadSheddingFilter(
+                limiter, properties.getPaths(), properties.getExcludePaths(), properties.getRetryAfter()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "load-shedding.readiness.enabled", havingValue = "true", matchIfMissing = true)
+    public OverloadMonitor overloadMonitor(LoadSheddingProperties properties, ApplicationEventPublisher publisher,
+                                           ApplicationAvailability availability, MeterRegistry meterRegistry,
+                                           ToolMetrics toolMetrics) {
+        return new OverloadMonitor(properties.getReadiness(), publisher, availability, meterRegistry,
+                toolMetrics::activeCalls);
+    }
+}
@@ -0,0 +1,75 @@
+package com.skala.springbootsample.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 적응형 동시성 제한 / 과부하 시 readiness 자동 전환 설정 (load-shedding.*)
+@ConfigurationProperties(prefix = "load-shedding")
+@Component
+@Data
+public class LoadSheddingProperties {
+
+    // false: 제한 필터와 과부하 감시를 등록하지 않음
+    private boolean enabled = true;
+
+    // 동시성 제한 대상 경로 (Ant 패턴)
+    private List<String> paths = new ArrayList<>(List.of("/mcp", "/mcp/**", "/api/**"));
+
+    // 제한하지 않는 경로 (수동 프로브 전환, 장시간 스트리밍 내보내기)
+    private List<String> excludePaths = new ArrayList<>(List.of("/api/probe", "/api/users/export"));
+
+    // 거절 응답(503)의 Retry-After
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    private Limit limit = new Limit();
+
+    private Readiness readiness = new Readiness();
+
+    @Data
+    public static class Limit {
+
+        // 동시 실행 수 제한 초기값 / 하한 / 상한
+        private int initial = 50;
+        private int min = 5;
+        private int max = 500;
+
+        // 제한을 다시 계산하는 표본(완료된 요청) 수
+        private int windowSize = 20;
+
+        // 최근 응답 시간이 장기 평균의 이 배수 이내면 지연 증가로 보지 않음
+        private double rttTolerance = 1.5;
+
+        // 장기 평균 응답 시간의 지수 이동 평균 표본 수 (window 단위)
+        private int longWindow = 100;
+
+        // 새 제한값 반영 비율
+        private double smoothing = 0.2;
+
+        // 5xx 실패가 있었던 window 의 감소 비율 (multiplicative decrease)
+        private double backoffRatio = 0.9;
+    }
+
+    @Data
+    public static class Readiness {
+
+        // false: 과부하여도 ReadinessState 를 바꾸지 않음 (제한 필터만 사용)
+        private boolean enabled = true;
+
+        private Duration checkInterval = Duration.ofSeconds(1);
+
+        // 확인 주기 동안 Hikari 커넥션 평균 대기 시간 상한 (커넥션 타임아웃이 나면 바로 초과로 봄)
+        private Duration maxPoolWait = Duration.ofMillis(200);
+
+        // 실행 중인 MCP 도구 호출 수 상한 (mcp.tools.metrics.enabled=true 일 때 집계)
+        private int maxInFlightToolCalls = 100;
+
+        // 두 지표가 상한의 이 비율 이하로 recover-after 동안 유지되면 ACCEPTING_TRAFFIC 으로 복구
+        private double recoverRatio = 0.5;
+        private Duration recoverAfter = Duration.ofSeconds(10);
+    }
+}
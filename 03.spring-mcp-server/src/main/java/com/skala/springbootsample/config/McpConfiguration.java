@@ -1,9 +1,12 @@
 package com.skala.springbootsample.config;
 
-import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.springframework.ai.tool.ToolCallback;
 import org.springframework.ai.tool.ToolCallbackProvider;
 import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,28 +15,88 @@ import com.skala.springbootsample.mcp.WeatherTools;
 import com.skala.springbootsample.mcp.RegionMcpTools;
 import com.skala.springbootsample.mcp.SystemMcpTools;
 import com.skala.springbootsample.mcp.UserMcpTools;
+import com.skala.springbootsample.mcp.async.AsyncToolSpecificationFactory;
+import com.skala.springbootsample.mcp.metrics.ToolMetrics;
 
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncToolSpecification;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Spring AI MCP 서버 설정
+ *
+ * spring.ai.mcp.server.type 에 따라 도구 등록 방식이 달라진다.
+ * - SYNC  : ToolCallbackProvider (Spring AI가 SyncToolSpecification으로 변환, 요청 스레드에서 실행)
+ * - ASYNC : AsyncToolSpecification 목록 (JDBC 도구는 전용 스케줄러, 날씨 도구는 논블로킹으로 실행)
  */
 @Slf4j
 @Configuration
 public class McpConfiguration {
 
+    private static final String SERVER_TYPE = "spring.ai.mcp.server.type";
+
     @Bean
+    @ConditionalOnProperty(name = SERVER_TYPE, havingValue = "SYNC", matchIfMissing = true)
     public ToolCallbackProvider commonMcpToolProvider(
             UserMcpTools userMcpTools,
             RegionMcpTools regionMcpTools,
             SystemMcpTools systemMcpTools,
             DateTimeTools dateTimeTools,
-            WeatherTools weatherTools
+            WeatherTools weatherTools,
+            ToolMetrics toolMetrics
     ) {
-        log.info("Common MCP Tool Callback Provider 설정 중...");   
-        return MethodToolCallbackProvider.builder()
+        log.info("Common MCP Tool Callback Provider 설정 중...");
+        ToolCallbackProvider provider = MethodToolCallbackProvider.builder()
                 .toolObjects(userMcpTools, regionMcpTools, systemMcpTools, dateTimeTools, weatherTools)
-                .build();   
+                .build();
+
+        // 모든 도구 호출에 지연 시간 / 동시 실행 수 / 결과 크기 / 오류 메트릭 적용
+        return ToolCallbackProvider.from(toolMetrics.instrument(provider.getToolCallbacks()));
+    }
+
+    // JDBC 도구 전용 스케줄러 (스레드 수 상한 = 커넥션 풀 크기, 대기열 초과 시 거절)
+    @Bean(destroyMethod = "dispose")
+    @ConditionalOnProperty(name = SERVER_TYPE, havingValue = "ASYNC")
+    public Scheduler jdbcScheduler(AsyncToolProperties properties) {
+        return Schedulers.newBoundedElastic(properties.getJdbcThreads(), properties.getJdbcQueueCapacity(),
+                "mcp-jdbc");
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = SERVER_TYPE, havingValue = "ASYNC")
+    public List<AsyncToolSpecification> asyncMcpTools(
+            UserMcpTools userMcpTools,
+            RegionMcpTools regionMcpTools,
+            SystemMcpTools systemMcpTools,
+            DateTimeTools dateTimeTools,
+            WeatherTools weatherTools,
+            ToolMetrics toolMetrics,
+            Scheduler jdbcScheduler
+    ) {
+        log.info("Async MCP Tool Specification 설정 중...");
+        AsyncToolSpecificationFactory factory = new AsyncToolSpecificationFactory(jdbcScheduler, toolMetrics);
+        List<AsyncToolSpecification> tools = new ArrayList<>();
+
+        for (ToolCallback callback : callbacks(toolMetrics, userMcpTools, regionMcpTools, systemMcpTools)) {
+            tools.add(factory.blocking(callback));
+        }
+        for (ToolCallback callback : callbacks(toolMetrics, dateTimeTools)) {
+            tools.add(factory.inline(callback));
+        }
+        // 날씨 도구는 메서드 스키마만 사용하고 실행은 WebClient Mono로 연결 (메트릭은 factory에서 적용)
+        for (ToolCallback callback : MethodToolCallbackProvider.builder().toolObjects(weatherTools).build()
+                .getToolCallbacks()) {
+            tools.add(factory.reactive(callback,
+                    arguments -> weatherTools.currentWeather((String) arguments.get("city"))));
+        }
+        return tools;
     }
 
+    private ToolCallback[] callbacks(ToolMetrics toolMetrics, Object... toolObjects) {
+        return toolMetrics.instrument(MethodToolCallbackProvider.builder()
+                .toolObjects(toolObjects)
+                .build()
+                .getToolCallbacks());
+    }
 }
@@ -0,0 +1,33 @@
+package com.skala.springbootsample.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skala.springbootsample.service.outbox.ChangeEventSink;
+import com.skala.springbootsample.service.outbox.FileChangeEventSink;
+import com.skala.springbootsample.service.outbox.InMemoryChangeEventSink;
+
+/**
+ * 변경 이벤트 outbox 설정
+ *
+ * OutboxRelay 주기 실행을 위해 스케줄링을 켜고, 다른 ChangeEventSink 빈이 없으면 outbox.sink.type 의 sink 를 등록한다.
+ */
+@Configuration
+@EnableScheduling
+public class OutboxConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(ChangeEventSink.class)
+    public ChangeEventSink changeEventSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        OutboxProperties.Sink sink = properties.getSink();
+        return switch (sink.getType()) {
+            case MEMORY -> new InMemoryChangeEventSink(sink.getMemoryCapacity());
+            case FILE -> new FileChangeEventSink(Path.of(sink.getFile()), objectMapper);
+        };
+    }
+}
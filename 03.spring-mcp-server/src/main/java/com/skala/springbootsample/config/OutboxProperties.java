@@ -0,0 +1,57 @@
+package com.skala.springbootsample.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 변경 이벤트 outbox / relay 설정 (outbox.*)
+@ConfigurationProperties(prefix = "outbox")
+@Component
+@Data
+public class OutboxProperties {
+
+    // 사용자/지역 변경 시 outbox 기록 여부
+    private boolean enabled = true;
+
+    private Relay relay = new Relay();
+
+    private Sink sink = new Sink();
+
+    @Data
+    public static class Relay {
+
+        // 이 인스턴스에서 relay 실행 여부 (Debezium 등 binlog CDC 로 outbox_events 를 직접 읽는 경우 false)
+        private boolean enabled = true;
+
+        // 발행 주기 (이전 실행이 끝난 뒤부터, 이 인스턴스에서 기록이 커밋된 경우에만 조회)
+        private Duration interval = Duration.ofMillis(500);
+
+        // 이 인스턴스의 기록이 없어도 조회하는 주기 (다른 인스턴스 / 재시작 전에 남은 이벤트 발행)
+        private Duration idleInterval = Duration.ofSeconds(30);
+
+        // 한 트랜잭션에서 발행 / 삭제하는 최대 이벤트 수
+        private int batchSize = 200;
+
+        // 한 번 실행에서 처리하는 최대 배치 수 (밀려 있어도 다음 주기에 이어서 처리)
+        private int maxBatchesPerRun = 10;
+    }
+
+    @Data
+    public static class Sink {
+
+        // memory: 메모리 링 버퍼 (테스트 / 단일 인스턴스), file: JSON Lines 파일 추가 기록
+        private Type type = Type.MEMORY;
+
+        // memory sink 가 보관하는 최근 이벤트 수
+        private int memoryCapacity = 10000;
+
+        // file sink 경로
+        private String file = "outbox/change-events.jsonl";
+
+        public enum Type {
+            MEMORY, FILE
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.skala.springbootsample.config;
+
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.skala.springbootsample.service.RegionCacheInvalidationHook;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 다중 레플리카 환경에서 지역 캐시 무효화를 다른 Pod에 HTTP로 전파합니다.
+ *
+ * region.cache.peer-invalidation.service-host 에 headless Service 이름을 지정하면
+ * DNS로 조회한 모든 Pod IP(자기 자신 제외)에 POST /api/cache/regions/{id}/invalidate 를 비동기로 호출합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "region.cache.peer-invalidation", name = "service-host")
+public class PeerRegionCacheInvalidationHook implements RegionCacheInvalidationHook {
+
+    private final String serviceHost;
+    private final int port;
+    private final HttpClient httpClient;
+
+    public PeerRegionCacheInvalidationHook(
+            @Value("${region.cache.peer-invalidation.service-host}") String serviceHost,
+            @Value("${region.cache.peer-invalidation.port:8080}") int port) {
+        this.serviceHost = serviceHost;
+        this.port = port;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+        log.info("지역 캐시 무효화 전파 대상: {}:{}", serviceHost, port);
+    }
+
+    @Override
+    public void regionChanged(Long regionId) {
+        Set<String> localAddresses = localAddresses();
+        try {
+            for (InetAddress peer : InetAddress.getAllByName(serviceHost)) {
+                String address = peer.getHostAddress();
+                if (localAddresses.contains(address)) {
+                    continue;
+                }
+                HttpRequest request = HttpRequest.newBuilder()
+                        .uri(URI.create("http://" + address + ":" + port + "/api/cache/regions/" + regionId + "/invalidate"))
+                        .timeout(Duration.ofSeconds(2))
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build();
+                httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, ex) -> {
+                            if (ex != null) {
+                                log.warn("지역 캐시 무효화 전파 실패: peer={}, {}", address, ex.getMessage());
+                            }
+                        });
+            }
+        } catch (Exception e) {
+            log.warn("지역 캐시 무효화 대상 조회 실패: {}, {}", serviceHost, e.getMessage());
+        }
+    }
+
+    private Set<String> localAddresses() {
+        try {
+            return Collections.list(NetworkInterface.getNetworkInterfaces()).stream()
+                    .flatMap(NetworkInterface::inetAddresses)
+                    .map(InetAddress::getHostAddress)
+                    .collect(Collectors.toSet());
+        } catch (Exception e) {
+            return Set.of();
+        }
+    }
+}
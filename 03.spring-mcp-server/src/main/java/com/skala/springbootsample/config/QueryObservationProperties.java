@@ -0,0 +1,40 @@
+package com.skala.springbootsample.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 리포지토리 / JDBC 쿼리 관측 설정 (db.observation.*)
+@ConfigurationProperties(prefix = "db.observation")
+@Component
+@Data
+public class QueryObservationProperties {
+
+    // 리포지토리 메서드 메트릭 / 느린 쿼리 기록 여부
+    private boolean enabled = true;
+
+    // 리포지토리 메서드 호출 시간 히스토그램 SLO 버킷
+    private List<Duration> slo = new ArrayList<>(List.of(
+            Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(500), Duration.ofSeconds(1)));
+
+    // 반환 행 수 히스토그램 버킷
+    private List<Double> rowsBuckets = new ArrayList<>(List.of(
+            1d, 10d, 100d, 1000d, 10000d, 100000d));
+
+    // 이 시간 이상 걸린 JDBC 문장을 느린 쿼리로 기록
+    private Duration slowThreshold = Duration.ofMillis(200);
+
+    // 느린 쿼리 링 버퍼 크기 (가장 오래된 항목부터 덮어씀)
+    private int slowLogSize = 100;
+
+    // 느린 쿼리에 바인딩 파라미터 값을 남길지 여부 (개인정보 노출이 우려되면 false)
+    private boolean captureParameters = true;
+
+    // 기록하는 파라미터 값의 최대 길이 (문자 수, 초과 시 잘라냄)
+    private int maxParameterLength = 200;
+}
@@ -0,0 +1,28 @@
+package com.skala.springbootsample.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// MCP 도구 호출 메트릭 설정 (mcp.tools.metrics.*)
+@ConfigurationProperties(prefix = "mcp.tools.metrics")
+@Component
+@Data
+public class ToolMetricsProperties {
+
+    // 도구 호출 메트릭 수집 여부
+    private boolean enabled = true;
+
+    // 응답 시간 히스토그램 SLO 버킷
+    private List<Duration> slo = new ArrayList<>(List.of(
+            Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250),
+            Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(5)));
+
+    // 결과 크기(문자 수) 히스토그램 버킷
+    private List<Double> resultSizeBuckets = new ArrayList<>(List.of(
+            256d, 1024d, 4096d, 16384d, 65536d, 262144d));
+}
@@ -0,0 +1,27 @@
+package com.skala.springbootsample.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.skala.springbootsample.mcp.render.ResponseFormat;
+
+// MCP 도구 응답 렌더링 설정 (mcp.tools.response.*)
+@ConfigurationProperties(prefix = "mcp.tools.response")
+@Component
+@Data
+public class ToolResponseProperties {
+
+    // 기본 응답 형식 (prose: 기존 한국어 문장, json / tsv: 간결한 구조화 형식)
+    private ResponseFormat defaultFormat = ResponseFormat.PROSE;
+
+    // 도구별 응답 형식 (도구 이름 → 형식)
+    private Map<String, ResponseFormat> formats = new HashMap<>();
+
+    // 재사용 버퍼 풀 크기, 풀에 반납할 버퍼의 최대 크기(문자 수, 초과하면 버림)
+    private int bufferPoolSize = 64;
+    private int maxRetainedBufferSize = 64 * 1024;
+}
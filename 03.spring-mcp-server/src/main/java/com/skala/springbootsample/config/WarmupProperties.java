@@ -0,0 +1,52 @@
+package com.skala.springbootsample.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 준비 상태 전 JIT 워밍업 설정 (warmup.*)
+@ConfigurationProperties(prefix = "warmup")
+@Component
+@Data
+public class WarmupProperties {
+
+    // 워밍업 실행 여부 (켜면 워밍업이 끝날 때까지 ReadinessState 가 REFUSING_TRAFFIC 으로 유지됨)
+    private boolean enabled = false;
+
+    // 최대 워밍업 시간 (안정화되지 않아도 이 시간이 지나면 종료)
+    private Duration budget = Duration.ofSeconds(60);
+
+    // 한 라운드에서 전체 작업(모든 도구 + REST 경로)을 반복하는 횟수
+    private int iterationsPerRound = 20;
+
+    // 라운드 p99 변화가 직전 라운드의 이 비율 이내인 라운드가 stable-rounds 번 이어지면 안정화로 봄
+    private double stabilityTolerance = 0.1;
+    private int stableRounds = 3;
+
+    private int maxRounds = 100;
+
+    // 호출하지 않을 도구 (외부 API 호출, 모든 쓰기 도구, 알람 같은 부수 효과)
+    // 쓰기 도구는 롤백해도 공유 primary 의 행에 잠금을 잡고 IDENTITY 값을 소모함
+    private List<String> excludeTools = new ArrayList<>(List.of(
+            "getCurrentWeather", "createUser", "updateUser", "deleteUser", "bulkCreateUsers",
+            "createRegion", "updateRegion", "deleteRegion", "setAlarm"));
+
+    // 워밍업 동안 WARN 으로 올려 호출 로그(INFO)를 남기지 않을 로거 (끝나면 원래 설정으로 복원)
+    private List<String> quietLoggers = new ArrayList<>(List.of(
+            "com.skala.springbootsample.mcp", "com.skala.springbootsample.controller"));
+
+    // 도구별 인자 JSON (지정하지 않은 도구는 입력 스키마로 인자 생성)
+    private Map<String, String> toolArguments = new HashMap<>();
+
+    // 호출할 REST 경로 (GET, 로컬 포트로 요청)
+    private List<String> restPaths = new ArrayList<>(List.of("/api/users", "/api/regions"));
+
+    // REST 요청 타임아웃
+    private Duration requestTimeout = Duration.ofSeconds(5);
+}
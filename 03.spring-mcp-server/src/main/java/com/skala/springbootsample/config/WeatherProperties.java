@@ -0,0 +1,35 @@
+package com.skala.springbootsample.config;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// 날씨 API 연동 설정 (weather.api.*)
+@ConfigurationProperties(prefix = "weather.api")
+@Component
+@Data
+public class WeatherProperties {
+
+    private String key;
+    private String baseUrl;
+    private String path;
+
+    // 연결 / 응답 타임아웃
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(5);
+
+    // 커넥션 풀 크기, 풀 대기 타임아웃
+    private int maxConnections = 200;
+    private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+
+    // 도시별 캐시: ttl 이내는 그대로 응답, stale-ttl 이내는 이전 값을 응답하면서 백그라운드 갱신
+    private Duration cacheTtl = Duration.ofMinutes(5);
+    private Duration staleTtl = Duration.ofMinutes(30);
+    private int maxCacheEntries = 1000;
+
+    // 서킷 브레이커: 연속 실패 횟수가 임계치를 넘으면 open-duration 동안 호출 차단
+    private int failureThreshold = 5;
+    private Duration openDuration = Duration.ofSeconds(30);
+}
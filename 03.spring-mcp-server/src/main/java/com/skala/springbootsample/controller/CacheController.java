@@ -0,0 +1,38 @@
+package com.skala.springbootsample.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.skala.springbootsample.service.RegionCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final RegionCache regionCache;
+
+    // 다른 인스턴스에서 전파된 지역 캐시 무효화: POST /api/cache/regions/{id}/invalidate
+    @PostMapping("/regions/{id}/invalidate")
+    public ResponseEntity<Void> invalidateRegion(@PathVariable Long id) {
+        log.info("지역 캐시 무효화 요청: regionId={}", id);
+        regionCache.evict(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    // 지역 캐시 전체 무효화: DELETE /api/cache/regions
+    @DeleteMapping("/regions")
+    public ResponseEntity<Void> clearRegions() {
+        log.info("지역 캐시 전체 무효화 요청");
+        regionCache.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
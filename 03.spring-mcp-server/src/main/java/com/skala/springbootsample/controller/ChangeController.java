@@ -0,0 +1,49 @@
+package com.skala.springbootsample.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.skala.springbootsample.service.outbox.ChangeEvent;
+import com.skala.springbootsample.service.outbox.ChangeEventSink;
+import com.skala.springbootsample.service.outbox.InMemoryChangeEventSink;
+
+@RestController
+@RequestMapping("/api/changes")
+public class ChangeController {
+
+    static final int MAX_LIMIT = 1000;
+    static final String EVICTED_HEADER = "X-Changes-Evicted";
+
+    private final InMemoryChangeEventSink sink;
+
+    // outbox.sink.type=memory 일 때만 조회 가능 (file 등 다른 sink 는 해당 저장소에서 직접 소비)
+    public ChangeController(List<ChangeEventSink> sinks) {
+        this.sink = sinks.stream()
+                .filter(InMemoryChangeEventSink.class::isInstance)
+                .map(InMemoryChangeEventSink.class::cast)
+                .findFirst()
+                .orElse(null);
+    }
+
+    // 변경 이벤트 조회: GET /api/changes?afterId=&limit=
+    // 응답의 마지막 id 를 다음 요청의 afterId 로 사용한다. 이미 메모리에서 밀려난 이벤트가 있으면 X-Changes-Evicted: true
+    @GetMapping
+    public ResponseEntity<List<ChangeEvent>> getChanges(
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(defaultValue = "100") int limit) {
+        if (sink == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok()
+                .header(EVICTED_HEADER, String.valueOf(sink.evictedAfter(afterId)))
+                .body(sink.eventsAfter(afterId, limit));
+    }
+}
@@ -1,16 +1,25 @@
 package com.skala.springbootsample.controller;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
+import com.skala.springbootsample.service.UserBulkImportService;
+import com.skala.springbootsample.service.UserExportService;
 import com.skala.springbootsample.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.skala.springbootsample.domain.User;
+import com.skala.springbootsample.dto.BulkImportReport;
+import com.skala.springbootsample.dto.UserPage;
+import com.skala.springbootsample.dto.UserSearchHit;
 
 @Slf4j
 @RestController
@@ -19,19 +28,60 @@ import com.skala.springbootsample.domain.User;
 public class UserController {
 
     private final UserService userService;
+    private final UserBulkImportService userBulkImportService;
+    private final UserExportService userExportService;
 
-    // 모든 사용자 조회 및 이름 필터
+    // 사용자 목록 조회 및 이름 필터 (키셋 페이지네이션: afterId + limit)
     @GetMapping("/users")
-    public ResponseEntity<List<User>> getAllUsers(@RequestParam Optional<String> name) {
+    public ResponseEntity<UserPage> getAllUsers(@RequestParam Optional<String> name,
+                                                @RequestParam(required = false) Long afterId,
+                                                @RequestParam(required = false) Integer limit) {
         try {
-            List<User> users = userService.findAll(name);
-            return ResponseEntity.ok(users);
+            UserPage page = userService.findPage(afterId, limit, name);
+            return ResponseEntity.ok(page);
         } catch (Exception e) {
             log.error("사용자 목록 조회 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    // 사용자 이름 검색 (대소문자 무시, 접두어 / 오타 허용, 점수순 상위 limit건): GET /api/users/search?q=&limit=
+    @GetMapping("/users/search")
+    public ResponseEntity<?> searchUsers(@RequestParam("q") String query,
+                                         @RequestParam(required = false) Integer limit) {
+        try {
+            List<UserSearchHit> hits = userService.search(query, limit);
+            return ResponseEntity.ok(hits);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 사용자 내보내기 (스트리밍): GET /api/users/export?format=ndjson|csv&regionId=&regionName=
+    @GetMapping("/users/export")
+    public ResponseEntity<?> exportUsers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) Long regionId,
+            @RequestParam(required = false) String regionName) {
+        UserExportService.Format exportFormat;
+        if ("csv".equalsIgnoreCase(format)) {
+            exportFormat = UserExportService.Format.CSV;
+        } else if ("ndjson".equalsIgnoreCase(format)) {
+            exportFormat = UserExportService.Format.NDJSON;
+        } else {
+            return ResponseEntity.badRequest().body("지원하지 않는 내보내기 형식입니다: " + format + " (ndjson, csv)");
+        }
+        MediaType contentType = exportFormat == UserExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.parseMediaType("application/x-ndjson");
+
+        StreamingResponseBody body = out -> userExportService.export(exportFormat, regionId, regionName, out);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header("Content-Disposition", "attachment; filename=users." + exportFormat.name().toLowerCase())
+                .body(body);
+    }
+
     // 특정 사용자 조회
     @GetMapping("/users/{id}")
     public ResponseEntity<User> getUserById(@PathVariable Long id) {
@@ -80,6 +130,41 @@ public class UserController {
         }
     }
 
+    // 사용자 대량 등록 (JSON 배열 스트리밍)
+    @PostMapping(value = "/users/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> bulkCreateUsersJson(HttpServletRequest request) {
+        try {
+            BulkImportReport report = userBulkImportService.importJson(request.getInputStream());
+            return bulkImportResponse(report);
+        } catch (IllegalArgumentException e) {
+            log.warn("사용자 대량 등록 실패: {}", e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            log.error("사용자 대량 등록 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // 사용자 대량 등록 (CSV: name,email,regionId)
+    @PostMapping(value = "/users/bulk", consumes = "text/csv")
+    public ResponseEntity<?> bulkCreateUsersCsv(HttpServletRequest request) {
+        try {
+            BulkImportReport report = userBulkImportService.importCsv(request.getReader());
+            return bulkImportResponse(report);
+        } catch (Exception e) {
+            log.error("사용자 대량 등록 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    // 입력 형식 오류로 중간에 멈춘 경우 400 (이미 커밋된 행을 포함한 보고서 반환)
+    private static ResponseEntity<BulkImportReport> bulkImportResponse(BulkImportReport report) {
+        if (report.error() != null) {
+            return ResponseEntity.badRequest().body(report);
+        }
+        return ResponseEntity.ok(report);
+    }
+
     // 사용자 수정
     @PutMapping("/users/{id}")
     public ResponseEntity<?> updateUser(@PathVariable Long id, @RequestBody User updatedUser) {
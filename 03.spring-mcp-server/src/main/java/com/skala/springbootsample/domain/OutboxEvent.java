@@ -0,0 +1,46 @@
+package com.skala.springbootsample.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// 변경 이벤트 outbox (사용자/지역 변경과 같은 트랜잭션에 저장, OutboxRelay 가 id 순으로 발행 후 삭제)
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@NoArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 변경 대상 종류 (user, region)
+    @Column(name = "aggregate_type", nullable = false, length = 32)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    // 변경 종류 (CREATED, UPDATED, DELETED)
+    @Column(name = "event_type", nullable = false, length = 32)
+    private String eventType;
+
+    // 변경 후 상태 JSON (삭제는 삭제 직전 상태)
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public OutboxEvent(String aggregateType, Long aggregateId, String eventType, String payload, Instant createdAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+}
@@ -6,14 +6,22 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_name_key", columnList = "name_key"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class User {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -21,11 +29,16 @@ public class User {
     @Column(nullable = false)
     private String name;
 
+    // 대소문자 구분 없는 이름 검색용 정규화 키 (NFKC + 소문자 + 공백 정리, 저장 시 name에서 자동 계산)
+    @JsonIgnore
+    @Column(name = "name_key")
+    private String nameKey;
+
     @Column(nullable = false, unique = true)
     private String email;
 
-    // Region과의 Many-to-One 관계 설정
-    @ManyToOne
+    // Region과의 Many-to-One 관계 설정 (LAZY, 조회 시 필요한 경우 Repository의 EntityGraph로 함께 로딩)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "region_id", nullable = false)
     private Region region;
 
@@ -35,4 +48,19 @@ public class User {
         this.email = email;
         this.region = region;
     }
+
+    @PrePersist
+    @PreUpdate
+    void updateNameKey() {
+        this.nameKey = normalizeName(name);
+    }
+
+    // 이름 정규화: 전각/반각 통일(NFKC), 소문자, 앞뒤 공백 제거 및 연속 공백 축약
+    public static String normalizeName(String name) {
+        if (name == null) {
+            return null;
+        }
+        String normalized = Normalizer.normalize(name, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim();
+        return WHITESPACE.matcher(normalized).replaceAll(" ");
+    }
 }
@@ -0,0 +1,21 @@
+package com.skala.springbootsample.dto;
+
+import java.util.List;
+
+// 대량 등록 결과 보고서 (error: 입력 형식 오류로 중간에 멈춘 경우 그 내용, 정상 종료면 null)
+public record BulkImportReport(
+        int total,
+        int created,
+        int failed,
+        long elapsedMillis,
+        List<RowResult> rows,
+        String error) {
+
+    // 행 단위 결과 (row는 1부터 시작하는 입력 순번)
+    public record RowResult(
+            int row,
+            String email,
+            boolean success,
+            String message) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.skala.springbootsample.dto;
+
+// 대량 등록 입력 행 (JSON 배열 원소 또는 CSV 한 줄: name,email,regionId)
+public record BulkUserRow(
+        String name,
+        String email,
+        Long regionId) {
+}
@@ -0,0 +1,7 @@
+package com.skala.springbootsample.dto;
+
+// 지역별 사용자 수 집계 결과 (GROUP BY region_id)
+public record RegionUserCount(
+        Long regionId,
+        long userCount) {
+}
@@ -0,0 +1,15 @@
+package com.skala.springbootsample.dto;
+
+import java.util.List;
+
+// 키셋(커서) 페이지네이션 결과
+// nextAfterId: 다음 페이지 요청 시 afterId로 그대로 전달하는 연속 토큰 (마지막 페이지면 null)
+public record UserPage(
+        List<UserSummary> users,
+        int limit,
+        Long nextAfterId) {
+
+    public boolean hasNext() {
+        return nextAfterId != null;
+    }
+}
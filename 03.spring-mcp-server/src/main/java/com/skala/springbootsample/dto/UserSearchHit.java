@@ -0,0 +1,12 @@
+package com.skala.springbootsample.dto;
+
+// 사용자 이름 검색 결과 (score: 0~1 유사도, match: exact | prefix | fuzzy)
+public record UserSearchHit(
+        Long id,
+        String name,
+        String email,
+        Long regionId,
+        String regionName,
+        double score,
+        String match) {
+}
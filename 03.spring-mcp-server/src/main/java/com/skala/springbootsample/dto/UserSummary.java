@@ -0,0 +1,10 @@
+package com.skala.springbootsample.dto;
+
+// 사용자 목록 조회용 프로젝션 (엔티티 대신 필요한 컬럼만 조회)
+public record UserSummary(
+        Long id,
+        String name,
+        String email,
+        Long regionId,
+        String regionName) {
+}
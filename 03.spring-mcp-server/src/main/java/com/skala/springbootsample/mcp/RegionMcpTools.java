@@ -3,14 +3,19 @@ package com.skala.springbootsample.mcp;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Component;
+import com.skala.springbootsample.service.BatchIds;
 import com.skala.springbootsample.service.RegionService;
-import com.skala.springbootsample.service.UserService;
+import com.skala.springbootsample.service.StatisticsService;
 import com.skala.springbootsample.domain.Region;
+import com.skala.springbootsample.mcp.render.ListTemplate;
+import com.skala.springbootsample.mcp.render.RowTemplate;
+import com.skala.springbootsample.mcp.render.ToolResponseRenderer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Spring AI MCP Tools - 지역 관리 도구들
@@ -20,8 +25,53 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class RegionMcpTools {
 
+    // 응답 템플릿 (형식은 mcp.tools.response.formats 로 도구별 선택)
+    private static final ListTemplate<Region> REGION_LIST = new ListTemplate<>(RowTemplate.<Region>builder()
+            .field("id", Region::getId)
+            .field("name", Region::getName)
+            .prose("- ID: {id}, 이름: {name}\n")
+            .build(), "등록된 지역: {count}개\n\n");
+
+    private static final RowTemplate<RegionDetail> REGION_DETAIL = RowTemplate.<RegionDetail>builder()
+            .field("id", RegionDetail::id)
+            .field("name", RegionDetail::name)
+            .field("userCount", RegionDetail::userCount)
+            .prose("""
+                지역 정보:
+                - ID: {id}
+                - 이름: {name}
+                - 등록된 사용자 수: {userCount}명
+                """)
+            .build();
+
+    private static final ListTemplate<RegionDetail> REGION_BATCH = new ListTemplate<>(RowTemplate.<RegionDetail>builder()
+            .field("id", RegionDetail::id)
+            .field("name", RegionDetail::name)
+            .field("userCount", RegionDetail::userCount)
+            .prose("- ID: {id}, 이름: {name}, 사용자 수: {userCount}명\n")
+            .build(), "조회된 지역: {count}개 (찾을 수 없는 ID: {title})\n\n", "notFound");
+
+    private static final RowTemplate<Region> REGION_CREATED = regionFields()
+            .prose("지역이 성공적으로 생성되었습니다: {name} (ID: {id})")
+            .build();
+
+    private static final RowTemplate<Region> REGION_UPDATED = regionFields()
+            .prose("지역이 성공적으로 수정되었습니다: {name} (ID: {id})")
+            .build();
+
     private final RegionService regionService;
-    private final UserService userService;
+    private final StatisticsService statisticsService;
+    private final ToolResponseRenderer renderer;
+
+    private static RowTemplate.Builder<Region> regionFields() {
+        return RowTemplate.<Region>builder()
+                .field("id", Region::getId)
+                .field("name", Region::getName);
+    }
+
+    // 지역 상세 응답 (지역 + 사용자 수)
+    private record RegionDetail(Long id, String name, long userCount) {
+    }
 
     @Tool(description = "지역 목록을 조회합니다.")
     public String getRegions() {
@@ -34,16 +84,7 @@ public class RegionMcpTools {
                 return "등록된 지역이 없습니다.";
             }
 
-            StringBuilder result = new StringBuilder();
-            result.append("등록된 지역: ").append(regions.size()).append("개\n\n");
-
-            for (Region region : regions) {
-                result.append("- ID: ").append(region.getId())
-                        .append(", 이름: ").append(region.getName())
-                        .append("\n");
-            }
-
-            return result.toString();
+            return renderer.list("getRegions", REGION_LIST, regions, null);
         } catch (Exception e) {
             log.error("지역 조회 중 오류", e);
             return "지역 조회 중 오류 발생: " + e.getMessage();
@@ -64,15 +105,10 @@ public class RegionMcpTools {
             }
 
             Region region = regionOpt.get();
-            long userCount = userService.findByRegionId(regionId).size();
+            long userCount = statisticsService.countUsersByRegion(regionId);
 
-            return String.format("""
-                지역 정보:
-                - ID: %d
-                - 이름: %s
-                - 등록된 사용자 수: %d명
-                """,
-                    region.getId(), region.getName(), userCount);
+            return renderer.item("getRegionById", REGION_DETAIL,
+                    new RegionDetail(region.getId(), region.getName(), userCount));
 
         } catch (Exception e) {
             log.error("지역 조회 중 오류", e);
@@ -80,6 +116,35 @@ public class RegionMcpTools {
         }
     }
 
+    @Tool(description = "여러 ID의 지역 정보(사용자 수 포함)를 한 번에 조회합니다. (최대 100개)")
+    public String getRegionsByIds(
+            @ToolParam(description = "조회할 지역 ID 목록", required = true)
+            List<Long> regionIds) {
+        log.info("MCP Tool 호출: getRegionsByIds, size={}", regionIds != null ? regionIds.size() : 0);
+
+        try {
+            List<Region> regions = regionService.findAllById(regionIds);
+            List<Long> missing = BatchIds.missing(regionIds, regions.stream().map(Region::getId).toList());
+            String notFound = missing.stream().map(String::valueOf).collect(Collectors.joining(", "));
+
+            if (regions.isEmpty()) {
+                return "요청한 ID의 지역을 찾을 수 없습니다: " + notFound;
+            }
+
+            List<RegionDetail> details = regions.stream()
+                    .map(region -> new RegionDetail(region.getId(), region.getName(),
+                            statisticsService.countUsersByRegion(region.getId())))
+                    .toList();
+            return renderer.list("getRegionsByIds", REGION_BATCH, details, missing.isEmpty() ? "없음" : notFound);
+        } catch (IllegalArgumentException e) {
+            log.warn("지역 다건 조회 실패: {}", e.getMessage());
+            return "지역 다건 조회 실패: " + e.getMessage();
+        } catch (Exception e) {
+            log.error("지역 다건 조회 중 오류", e);
+            return "지역 다건 조회 중 오류 발생: " + e.getMessage();
+        }
+    }
+
     @Tool(description = "지역명으로 지역을 조회합니다.")
     public String getRegionByName(
             @ToolParam(description = "검색할 지역의 이름", required = true) 
@@ -98,15 +163,10 @@ public class RegionMcpTools {
             }
 
             Region region = regionOpt.get();
-            long userCount = userService.findByRegionId(region.getId()).size();
+            long userCount = statisticsService.countUsersByRegion(region.getId());
 
-            return String.format("""
-                지역 정보:
-                - ID: %d
-                - 이름: %s
-                - 등록된 사용자 수: %d명
-                """,
-                    region.getId(), region.getName(), userCount);
+            return renderer.item("getRegionByName", REGION_DETAIL,
+                    new RegionDetail(region.getId(), region.getName(), userCount));
 
         } catch (Exception e) {
             log.error("지역 조회 중 오류", e);
@@ -128,8 +188,7 @@ public class RegionMcpTools {
             Region region = new Region(regionName.trim());
             Region created = regionService.create(region);
 
-            return String.format("지역이 성공적으로 생성되었습니다: %s (ID: %d)",
-                    created.getName(), created.getId());
+            return renderer.item("createRegion", REGION_CREATED, created);
 
         } catch (IllegalArgumentException e) {
             log.warn("지역 생성 실패: {}", e.getMessage());
@@ -167,9 +226,7 @@ public class RegionMcpTools {
                 return "지역 수정에 실패했습니다.";
             }
 
-            Region updated = updatedOpt.get();
-            return String.format("지역이 성공적으로 수정되었습니다: %s (ID: %d)",
-                    updated.getName(), updated.getId());
+            return renderer.item("updateRegion", REGION_UPDATED, updatedOpt.get());
 
         } catch (IllegalArgumentException e) {
             log.warn("지역 수정 실패: {}", e.getMessage());
@@ -194,8 +251,8 @@ public class RegionMcpTools {
             }
 
             // 해당 지역에 사용자가 있는지 확인
-            long userCount = userService.findByRegionId(regionId).size();
-            if (userCount > 0) {
+            if (statisticsService.hasUsers(regionId)) {
+                long userCount = statisticsService.countUsersByRegion(regionId);
                 return "해당 지역에 " + userCount + "명의 사용자가 등록되어 있어 삭제할 수 없습니다.";
             }
 
@@ -2,12 +2,13 @@ package com.skala.springbootsample.mcp;
 
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.stereotype.Component;
-import com.skala.springbootsample.service.UserService;
-import com.skala.springbootsample.service.RegionService;
+import com.skala.springbootsample.mcp.render.RowTemplate;
+import com.skala.springbootsample.mcp.render.ToolResponseRenderer;
+import com.skala.springbootsample.service.StatisticsService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
 
 /**
  * Spring AI MCP Tools - 시스템 관리 도구들
@@ -17,25 +18,37 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class SystemMcpTools {
 
-    private final UserService userService;
-    private final RegionService regionService;
+    // 응답 템플릿 (형식은 mcp.tools.response.formats 로 도구별 선택)
+    private static final RowTemplate<SystemStatus> SYSTEM_STATUS = RowTemplate.<SystemStatus>builder()
+            .field("userCount", SystemStatus::userCount)
+            .field("regionCount", SystemStatus::regionCount)
+            .field("status", SystemStatus::status)
+            .field("now", SystemStatus::now)
+            .prose("""
+                시스템 상태:
+                - 총 사용자 수: {userCount}명
+                - 총 지역 수: {regionCount}개
+                - 서버 상태: {status}
+                - 현재 시간: {now}
+                """)
+            .build();
+
+    private final StatisticsService statisticsService;
+    private final ToolResponseRenderer renderer;
+
+    private record SystemStatus(long userCount, long regionCount, String status, LocalDateTime now) {
+    }
 
     @Tool(description = "시스템 상태 정보를 조회합니다.")
     public String getSystemStatus() {
         log.info("MCP Tool 호출: getSystemStatus");
 
         try {
-            long userCount = userService.findAll(Optional.empty()).size();
-            long regionCount = regionService.findAll().size();
+            long userCount = statisticsService.countUsers();
+            long regionCount = statisticsService.countRegions();
 
-            return String.format("""
-                시스템 상태:
-                - 총 사용자 수: %d명
-                - 총 지역 수: %d개
-                - 서버 상태: 정상
-                - 현재 시간: %s
-                """,
-                    userCount, regionCount, java.time.LocalDateTime.now());
+            return renderer.item("getSystemStatus", SYSTEM_STATUS,
+                    new SystemStatus(userCount, regionCount, "정상", LocalDateTime.now()));
 
         } catch (Exception e) {
             log.error("시스템 상태 조회 중 오류", e);
@@ -3,15 +3,26 @@ package com.skala.springbootsample.mcp;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Component;
+import com.skala.springbootsample.service.BatchIds;
+import com.skala.springbootsample.service.UserBulkImportService;
 import com.skala.springbootsample.service.UserService;
 import com.skala.springbootsample.service.RegionService;
 import com.skala.springbootsample.domain.User;
 import com.skala.springbootsample.domain.Region;
+import com.skala.springbootsample.dto.BulkImportReport;
+import com.skala.springbootsample.dto.BulkUserRow;
+import com.skala.springbootsample.dto.UserPage;
+import com.skala.springbootsample.dto.UserSearchHit;
+import com.skala.springbootsample.dto.UserSummary;
+import com.skala.springbootsample.mcp.render.ListTemplate;
+import com.skala.springbootsample.mcp.render.RowTemplate;
+import com.skala.springbootsample.mcp.render.ToolResponseRenderer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Optional;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Spring AI MCP Tools - 사용자 관리 도구들
@@ -21,8 +32,104 @@ import java.util.List;
 @RequiredArgsConstructor
 public class  UserMcpTools {
 
+    // bulkCreateUsers 한 번에 등록 가능한 최대 건수
+    private static final int MAX_BULK_ROWS = 1000;
+
+    // getUsers 에서 일치하는 이름이 없을 때 안내할 유사 이름 수
+    private static final int SUGGESTION_LIMIT = 5;
+
+    // 응답 템플릿 (형식은 mcp.tools.response.formats 로 도구별 선택)
+    private static final ListTemplate<User> USER_LIST = new ListTemplate<>(userFields()
+            .prose("- ID: {id}, 이름: {name}, 이메일: {email}, 지역: {region}\n")
+            .build(), "조회된 사용자: {count}명\n\n");
+
+    private static final ListTemplate<User> REGION_USER_LIST = new ListTemplate<>(userFields()
+            .prose("- {name} ({email})\n")
+            .build(), "{title} 지역 사용자: {count}명\n\n", "region");
+
+    private static final ListTemplate<UserSummary> USER_PAGE = new ListTemplate<>(summaryFields()
+            .prose("- ID: {id}, 이름: {name}, 이메일: {email}, 지역: {region}\n")
+            .build(), "조회된 사용자: {count}명\n\n");
+
+    private static final ListTemplate<UserSummary> REGION_USER_PAGE = new ListTemplate<>(summaryFields()
+            .prose("- ID: {id}, {name} ({email})\n")
+            .build(), "{title} 지역 사용자: {count}명\n\n", "region");
+
+    private static final ListTemplate<User> USER_BATCH = new ListTemplate<>(userFields()
+            .prose("- ID: {id}, 이름: {name}, 이메일: {email}, 지역: {region}\n")
+            .build(), "조회된 사용자: {count}명 (찾을 수 없는 ID: {title})\n\n", "notFound");
+
+    private static final ListTemplate<UserSummary> REGIONS_USER_PAGE = new ListTemplate<>(summaryFields()
+            .prose("- ID: {id}, 이름: {name}, 이메일: {email}, 지역: {region}\n")
+            .build(), "{title} 지역 사용자: {count}명\n\n", "regions");
+
+    private static final ListTemplate<UserSearchHit> USER_SEARCH = new ListTemplate<>(RowTemplate.<UserSearchHit>builder()
+            .field("id", UserSearchHit::id)
+            .field("name", UserSearchHit::name)
+            .field("email", UserSearchHit::email)
+            .field("regionId", UserSearchHit::regionId)
+            .field("region", UserSearchHit::regionName)
+            .field("score", UserSearchHit::score)
+            .field("match", UserSearchHit::match)
+            .prose("- ID: {id}, 이름: {name}, 이메일: {email}, 지역: {region} (일치도: {score}, {match})\n")
+            .build(), "'{title}' 검색 결과: {count}명\n\n", "query");
+
+    private static final RowTemplate<User> USER_DETAIL = userFields()
+            .prose("""
+                사용자 정보:
+                - ID: {id}
+                - 이름: {name}
+                - 이메일: {email}
+                - 지역: {region} (ID: {regionId})
+                """)
+            .build();
+
+    private static final RowTemplate<User> USER_CREATED = userFields()
+            .prose("""
+                사용자가 성공적으로 생성되었습니다:
+                - ID: {id}
+                - 이름: {name}
+                - 이메일: {email}
+                - 지역: {region}
+                """)
+            .build();
+
+    private static final RowTemplate<User> USER_UPDATED = userFields()
+            .prose("""
+                사용자가 성공적으로 수정되었습니다:
+                - ID: {id}
+                - 이름: {name}
+                - 이메일: {email}
+                - 지역: {region}
+                """)
+            .build();
+
     private final UserService userService;
     private final RegionService regionService;
+    private final UserBulkImportService userBulkImportService;
+    private final ToolResponseRenderer renderer;
+
+    private static RowTemplate.Builder<User> userFields() {
+        return RowTemplate.<User>builder()
+                .field("id", User::getId)
+                .field("name", User::getName)
+                .field("email", User::getEmail)
+                .field("regionId", user -> user.getRegion().getId())
+                .field("region", user -> user.getRegion().getName());
+    }
+
+    private static RowTemplate.Builder<UserSummary> summaryFields() {
+        return RowTemplate.<UserSummary>builder()
+                .field("id", UserSummary::id)
+                .field("name", UserSummary::name)
+                .field("email", UserSummary::email)
+                .field("regionId", UserSummary::regionId)
+                .field("region", UserSummary::regionName);
+    }
+
+    private static String joinIds(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(", "));
+    }
 
     @Tool(description = "사용자 목록을 조회합니다. 이름으로 필터링할 수 있습니다.")
     public String getUsers(
@@ -34,29 +141,48 @@ public class  UserMcpTools {
             List<User> users = userService.findAll(Optional.ofNullable(name));
 
             if (users.isEmpty()) {
-                return name != null ?
-                        "'" + name + "'과 일치하는 사용자가 없습니다." :
-                        "등록된 사용자가 없습니다.";
-            }
-
-            StringBuilder result = new StringBuilder();
-            result.append("조회된 사용자: ").append(users.size()).append("명\n\n");
-
-            for (User user : users) {
-                result.append("- ID: ").append(user.getId())
-                        .append(", 이름: ").append(user.getName())
-                        .append(", 이메일: ").append(user.getEmail())
-                        .append(", 지역: ").append(user.getRegion().getName())
-                        .append("\n");
+                if (name == null) {
+                    return "등록된 사용자가 없습니다.";
+                }
+                // 오타 등으로 정확히 일치하는 이름이 없으면 유사한 이름을 함께 안내
+                List<UserSearchHit> similar = userService.search(name, SUGGESTION_LIMIT);
+                String notFound = "'" + name + "'과 일치하는 사용자가 없습니다.";
+                return similar.isEmpty() ? notFound
+                        : notFound + "\n\n" + renderer.list("getUsers", USER_SEARCH, similar, name);
             }
 
-            return result.toString();
+            return renderer.list("getUsers", USER_LIST, users, null);
         } catch (Exception e) {
             log.error("사용자 조회 중 오류", e);
             return "사용자 조회 중 오류 발생: " + e.getMessage();
         }
     }
 
+    @Tool(description = "사용자를 이름으로 검색합니다. 대소문자를 구분하지 않고, 이름의 앞부분이나 철자가 조금 틀린 이름도 찾아 일치도 순으로 반환합니다.")
+    public String searchUsers(
+            @ToolParam(description = "검색할 사용자 이름 (일부 또는 철자가 틀린 이름도 가능)", required = true)
+            String query,
+            @ToolParam(description = "최대 결과 수 (선택사항, 기본 10, 최대 50)", required = false)
+            Integer limit) {
+        log.info("MCP Tool 호출: searchUsers, query={}, limit={}", query, limit);
+
+        try {
+            List<UserSearchHit> hits = userService.search(query, limit);
+
+            if (hits.isEmpty()) {
+                return "'" + query + "'과 비슷한 이름의 사용자가 없습니다.";
+            }
+
+            return renderer.list("searchUsers", USER_SEARCH, hits, query);
+        } catch (IllegalArgumentException e) {
+            log.warn("사용자 검색 실패: {}", e.getMessage());
+            return "사용자 검색 실패: " + e.getMessage();
+        } catch (Exception e) {
+            log.error("사용자 검색 중 오류", e);
+            return "사용자 검색 중 오류 발생: " + e.getMessage();
+        }
+    }
+
     @Tool(description = "특정 ID의 사용자 상세 정보를 조회합니다.")
     public String getUserById(
             @ToolParam(description = "조회할 사용자의 고유 ID", required = true) 
@@ -70,16 +196,7 @@ public class  UserMcpTools {
                 return "ID " + userId + "인 사용자를 찾을 수 없습니다.";
             }
 
-            User user = userOpt.get();
-            return String.format("""
-                사용자 정보:
-                - ID: %d
-                - 이름: %s
-                - 이메일: %s
-                - 지역: %s (ID: %d)
-                """,
-                    user.getId(), user.getName(), user.getEmail(),
-                    user.getRegion().getName(), user.getRegion().getId());
+            return renderer.item("getUserById", USER_DETAIL, userOpt.get());
 
         } catch (Exception e) {
             log.error("사용자 조회 중 오류", e);
@@ -87,6 +204,30 @@ public class  UserMcpTools {
         }
     }
 
+    @Tool(description = "여러 ID의 사용자 정보를 한 번에 조회합니다. 여러 사용자가 필요하면 getUserById를 반복하지 말고 이 도구를 사용하세요. (최대 100개)")
+    public String getUsersByIds(
+            @ToolParam(description = "조회할 사용자 ID 목록", required = true)
+            List<Long> userIds) {
+        log.info("MCP Tool 호출: getUsersByIds, size={}", userIds != null ? userIds.size() : 0);
+
+        try {
+            List<User> users = userService.findAllById(userIds);
+            List<Long> missing = BatchIds.missing(userIds, users.stream().map(User::getId).toList());
+
+            if (users.isEmpty()) {
+                return "요청한 ID의 사용자를 찾을 수 없습니다: " + joinIds(missing);
+            }
+
+            return renderer.list("getUsersByIds", USER_BATCH, users, missing.isEmpty() ? "없음" : joinIds(missing));
+        } catch (IllegalArgumentException e) {
+            log.warn("사용자 다건 조회 실패: {}", e.getMessage());
+            return "사용자 다건 조회 실패: " + e.getMessage();
+        } catch (Exception e) {
+            log.error("사용자 다건 조회 중 오류", e);
+            return "사용자 다건 조회 중 오류 발생: " + e.getMessage();
+        }
+    }
+
     @Tool(description = "특정 지역의 사용자들을 조회합니다.")
     public String getUsersByRegion(
             @ToolParam(description = "조회할 지역의 고유 ID", required = true) 
@@ -107,19 +248,96 @@ public class  UserMcpTools {
                 return region.getName() + " 지역에 등록된 사용자가 없습니다.";
             }
 
-            StringBuilder result = new StringBuilder();
-            result.append(region.getName()).append(" 지역 사용자: ").append(users.size()).append("명\n\n");
+            return renderer.list("getUsersByRegion", REGION_USER_LIST, users, region.getName());
+        } catch (Exception e) {
+            log.error("지역별 사용자 조회 중 오류", e);
+            return "지역별 사용자 조회 중 오류 발생: " + e.getMessage();
+        }
+    }
+
+    @Tool(description = "사용자 목록을 페이지 단위로 조회합니다. 응답의 다음 커서(afterId)를 전달하면 다음 페이지를 조회합니다.")
+    public String getUsersPage(
+            @ToolParam(description = "이 ID 이후의 사용자부터 조회 (선택사항, 첫 페이지는 생략)", required = false)
+            Long afterId,
+            @ToolParam(description = "페이지 크기 (선택사항, 기본 50, 최대 500)", required = false)
+            Integer limit,
+            @ToolParam(description = "필터링할 사용자 이름 (선택사항)", required = false)
+            String name) {
+        log.info("MCP Tool 호출: getUsersPage, afterId={}, limit={}, name={}", afterId, limit, name);
 
-            for (User user : users) {
-                result.append("- ").append(user.getName())
-                        .append(" (").append(user.getEmail()).append(")")
-                        .append("\n");
+        try {
+            UserPage page = userService.findPage(afterId, limit, Optional.ofNullable(name));
+
+            if (page.users().isEmpty()) {
+                return "더 이상 조회할 사용자가 없습니다.";
             }
 
-            return result.toString();
+            return renderer.page("getUsersPage", USER_PAGE, page.users(), null, page.nextAfterId());
         } catch (Exception e) {
-            log.error("지역별 사용자 조회 중 오류", e);
-            return "지역별 사용자 조회 중 오류 발생: " + e.getMessage();
+            log.error("사용자 페이지 조회 중 오류", e);
+            return "사용자 페이지 조회 중 오류 발생: " + e.getMessage();
+        }
+    }
+
+    @Tool(description = "특정 지역의 사용자들을 페이지 단위로 조회합니다. 응답의 다음 커서(afterId)를 전달하면 다음 페이지를 조회합니다.")
+    public String getUsersByRegionPage(
+            @ToolParam(description = "조회할 지역의 고유 ID", required = true)
+            long regionId,
+            @ToolParam(description = "이 ID 이후의 사용자부터 조회 (선택사항, 첫 페이지는 생략)", required = false)
+            Long afterId,
+            @ToolParam(description = "페이지 크기 (선택사항, 기본 50, 최대 500)", required = false)
+            Integer limit) {
+        log.info("MCP Tool 호출: getUsersByRegionPage, regionId={}, afterId={}, limit={}", regionId, afterId, limit);
+
+        try {
+            UserPage page = userService.findPageByRegionId(regionId, afterId, limit);
+
+            if (page.users().isEmpty()) {
+                return "ID " + regionId + "인 지역에 더 이상 조회할 사용자가 없습니다.";
+            }
+
+            return renderer.page("getUsersByRegionPage", REGION_USER_PAGE, page.users(),
+                    page.users().get(0).regionName(), page.nextAfterId());
+        } catch (Exception e) {
+            log.error("지역별 사용자 페이지 조회 중 오류", e);
+            return "지역별 사용자 페이지 조회 중 오류 발생: " + e.getMessage();
+        }
+    }
+
+    @Tool(description = "여러 지역의 사용자들을 한 번에 페이지 단위로 조회합니다. 응답의 다음 커서(afterId)를 전달하면 다음 페이지를 조회합니다. (지역 최대 100개)")
+    public String getUsersByRegions(
+            @ToolParam(description = "조회할 지역 ID 목록", required = true)
+            List<Long> regionIds,
+            @ToolParam(description = "이 ID 이후의 사용자부터 조회 (선택사항, 첫 페이지는 생략)", required = false)
+            Long afterId,
+            @ToolParam(description = "페이지 크기 (선택사항, 기본 50, 최대 500)", required = false)
+            Integer limit) {
+        log.info("MCP Tool 호출: getUsersByRegions, regionIds={}, afterId={}, limit={}", regionIds, afterId, limit);
+
+        try {
+            List<Region> regions = regionService.findAllById(regionIds);
+            List<Long> missing = BatchIds.missing(regionIds, regions.stream().map(Region::getId).toList());
+
+            if (regions.isEmpty()) {
+                return "요청한 ID의 지역을 찾을 수 없습니다: " + joinIds(missing);
+            }
+
+            UserPage page = userService.findPageByRegionIds(
+                    regions.stream().map(Region::getId).toList(), afterId, limit);
+            String title = regions.stream().map(Region::getName).collect(Collectors.joining(", "))
+                    + (missing.isEmpty() ? "" : " (찾을 수 없는 지역 ID: " + joinIds(missing) + ")");
+
+            if (page.users().isEmpty()) {
+                return title + " 지역에 더 이상 조회할 사용자가 없습니다.";
+            }
+
+            return renderer.page("getUsersByRegions", REGIONS_USER_PAGE, page.users(), title, page.nextAfterId());
+        } catch (IllegalArgumentException e) {
+            log.warn("여러 지역 사용자 조회 실패: {}", e.getMessage());
+            return "여러 지역 사용자 조회 실패: " + e.getMessage();
+        } catch (Exception e) {
+            log.error("여러 지역 사용자 조회 중 오류", e);
+            return "여러 지역 사용자 조회 중 오류 발생: " + e.getMessage();
         }
     }
 
@@ -152,14 +370,7 @@ public class  UserMcpTools {
             User user = new User(name.trim(), email.trim(), region);
             User created = userService.create(user);
 
-            return String.format("""
-                사용자가 성공적으로 생성되었습니다:
-                - ID: %d
-                - 이름: %s
-                - 이메일: %s
-                - 지역: %s
-                """,
-                    created.getId(), created.getName(), created.getEmail(), created.getRegion().getName());
+            return renderer.item("createUser", USER_CREATED, created);
 
         } catch (IllegalArgumentException e) {
             log.warn("사용자 생성 실패: {}", e.getMessage());
@@ -170,6 +381,41 @@ public class  UserMcpTools {
         }
     }
 
+    @Tool(description = "여러 사용자를 한 번에 생성합니다. 행별 처리 결과를 반환합니다. (최대 1000명)")
+    public String bulkCreateUsers(
+            @ToolParam(description = "생성할 사용자 목록 (name, email, regionId)", required = true)
+            List<BulkUserRow> users) {
+        log.info("MCP Tool 호출: bulkCreateUsers, size={}", users != null ? users.size() : 0);
+
+        try {
+            if (users == null || users.isEmpty()) {
+                return "생성할 사용자 목록이 비어 있습니다.";
+            }
+            if (users.size() > MAX_BULK_ROWS) {
+                return "한 번에 최대 " + MAX_BULK_ROWS + "명까지 생성할 수 있습니다. (요청: " + users.size() + "명)";
+            }
+
+            BulkImportReport report = userBulkImportService.importRows(users);
+
+            StringBuilder result = new StringBuilder();
+            result.append("사용자 대량 생성 결과: 전체 ").append(report.total())
+                    .append("명, 성공 ").append(report.created())
+                    .append("명, 실패 ").append(report.failed()).append("명\n");
+
+            for (BulkImportReport.RowResult row : report.rows()) {
+                if (!row.success()) {
+                    result.append("- ").append(row.row()).append("번째 (").append(row.email()).append("): ")
+                            .append(row.message()).append("\n");
+                }
+            }
+
+            return result.toString();
+        } catch (Exception e) {
+            log.error("사용자 대량 생성 중 오류", e);
+            return "사용자 대량 생성 중 오류 발생: " + e.getMessage();
+        }
+    }
+
     @Tool(description = "사용자 정보를 수정합니다.")
     public String updateUser(
             @ToolParam(description = "수정할 사용자의 고유 ID", required = true) 
@@ -210,15 +456,7 @@ public class  UserMcpTools {
                 return "사용자 수정에 실패했습니다.";
             }
 
-            User updated = updatedOpt.get();
-            return String.format("""
-                사용자가 성공적으로 수정되었습니다:
-                - ID: %d
-                - 이름: %s
-                - 이메일: %s
-                - 지역: %s
-                """,
-                    updated.getId(), updated.getName(), updated.getEmail(), updated.getRegion().getName());
+            return renderer.item("updateUser", USER_UPDATED, updatedOpt.get());
 
         } catch (IllegalArgumentException e) {
             log.warn("사용자 수정 실패: {}", e.getMessage());
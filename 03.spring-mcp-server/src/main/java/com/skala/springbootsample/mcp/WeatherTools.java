@@ -2,41 +2,24 @@ package com.skala.springbootsample.mcp;
 
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
+import com.skala.springbootsample.service.WeatherGateway;
+
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * AI가 호출할 수 있는 날씨 조회 도구를 제공합니다.
+ * 캐시, 요청 병합, 타임아웃, 서킷 브레이커는 WeatherGateway에서 처리합니다.
  */
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class WeatherTools {
 
-    private final String weatherApiKey;
-    private final String weatherApiPath;
-    private final WebClient webClient;
-
-    public WeatherTools(
-            WebClient.Builder builder,
-            @Value("${weather.api.key}") String weatherApiKey,
-            @Value("${weather.api.base-url}") String weatherBaseUrl,
-            @Value("${weather.api.path}") String weatherApiPath) {
-        
-        this.weatherApiKey = weatherApiKey;
-        this.weatherApiPath = weatherApiPath;
-        
-        log.info("WeatherTools initialized with base URL: {}", weatherBaseUrl);
-        log.info("WeatherTools initialized with API path: {}", weatherApiPath);
-        log.info("WeatherTools initialized with API key: {}", weatherApiKey != null ? "설정됨" : "null");
-        
-        this.webClient = builder
-                .baseUrl(weatherBaseUrl)
-                .build();
-    }
+    private final WeatherGateway weatherGateway;
 
     /**
      * 도시 이름으로 현재 날씨를 조회합니다.
@@ -46,28 +29,22 @@ public class WeatherTools {
      */
     @Tool(description = "도시 이름으로 현재 날씨를 조회합니다. 예: Seoul")
     public String getCurrentWeather(
-            @ToolParam(description = "도시 이름 (예: Seoul)", required = true) 
+            @ToolParam(description = "도시 이름 (예: Seoul)", required = true)
             String city) {
-        
+
+        // 동기 MCP 도구이므로 결과를 기다림 (게이트웨이 타임아웃으로 대기 시간 상한 보장)
+        return currentWeather(city).block();
+    }
+
+    /**
+     * 논블로킹 날씨 조회 (ASYNC MCP 서버 모드에서 getCurrentWeather 도구로 등록)
+     *
+     * @param city 도시 이름
+     * @return 날씨 정보 JSON 문자열 (오류 시 오류 JSON)
+     */
+    public Mono<String> currentWeather(String city) {
         log.info("날씨 조회 요청 - 도시: {}", city);
-        
-        String result = webClient.get()
-                .uri(uriBuilder -> uriBuilder
-                        .path(weatherApiPath)
-                        .queryParam("q", city)
-                        .queryParam("appid", weatherApiKey)
-                        .queryParam("units", "metric")
-                        .queryParam("lang", "kr")
-                        .build())
-                .retrieve()
-                .bodyToMono(String.class)
-                .onErrorResume(ex -> {
-                    log.error("날씨 조회 실패: {}", ex.getMessage());
-                    return Mono.just("{\"error\": \"" + ex.getMessage() + "\"}");
-                })
-                .block();
-        
-        log.info("날씨 조회 결과: {}", result);
-        return result;
+        return weatherGateway.getCurrentWeather(city)
+                .doOnNext(result -> log.info("날씨 조회 결과: {}", result));
     }
 }
@@ -0,0 +1,81 @@
+package com.skala.springbootsample.mcp.async;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.ai.mcp.McpToolUtils;
+import org.springframework.ai.model.ModelOptionsUtils;
+import org.springframework.ai.tool.ToolCallback;
+
+import com.skala.springbootsample.mcp.metrics.ToolMetrics;
+
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * ASYNC MCP 서버용 도구 명세 생성
+ *
+ * 도구 이름 / 설명 / 입력 스키마는 기존 @Tool 메서드의 ToolCallback에서 가져오고, 실행 방식만 도구 성격에 맞게 정한다.
+ * - blocking : JPA 등 블로킹 도구. JDBC 전용 스케줄러에서 실행하여 요청 스레드와 Reactor 스레드를 막지 않음
+ * - inline   : I/O 없는 도구. 구독한 스레드에서 바로 실행
+ * - reactive : 네트워크 도구. Mono를 반환하는 논블로킹 구현을 그대로 연결
+ *
+ * Spring AI 기본 변환(McpToolUtils.toAsyncToolSpecification)은 모든 도구를 boundedElastic에서 동기 호출하므로 사용하지 않는다.
+ */
+@Slf4j
+public class AsyncToolSpecificationFactory {
+
+    private final Scheduler jdbcScheduler;
+    private final ToolMetrics toolMetrics;
+
+    public AsyncToolSpecificationFactory(Scheduler jdbcScheduler, ToolMetrics toolMetrics) {
+        this.jdbcScheduler = jdbcScheduler;
+        this.toolMetrics = toolMetrics;
+    }
+
+    // 블로킹 도구 (ToolCallback은 이미 메트릭이 적용된 콜백)
+    public AsyncToolSpecification blocking(ToolCallback callback) {
+        return specification(callback, arguments ->
+                Mono.fromCallable(() -> callback.call(ModelOptionsUtils.toJsonString(arguments)))
+                        .subscribeOn(jdbcScheduler));
+    }
+
+    // I/O 없는 도구
+    public AsyncToolSpecification inline(ToolCallback callback) {
+        return specification(callback, arguments ->
+                Mono.fromCallable(() -> callback.call(ModelOptionsUtils.toJsonString(arguments))));
+    }
+
+    // 논블로킹 도구 (스키마는 callback, 실행은 implementation)
+    public AsyncToolSpecification reactive(ToolCallback callback,
+                                           Function<Map<String, Object>, Mono<String>> implementation) {
+        String tool = callback.getToolDefinition().name();
+        return specification(callback, arguments ->
+                toolMetrics.instrument(tool, Mono.defer(() -> implementation.apply(arguments))));
+    }
+
+    private AsyncToolSpecification specification(ToolCallback callback,
+                                                  Function<Map<String, Object>, Mono<String>> call) {
+        String tool = callback.getToolDefinition().name();
+        return AsyncToolSpecification.builder()
+                .tool(McpToolUtils.toAsyncToolSpecification(callback).tool())
+                .callHandler((exchange, request) -> call.apply(request.arguments())
+                        .map(result -> CallToolResult.builder()
+                                .content(List.of(new McpSchema.TextContent(result)))
+                                .isError(false)
+                                .build())
+                        .onErrorResume(e -> {
+                            log.error("MCP Tool 실행 오류: {}", tool, e);
+                            return Mono.just(CallToolResult.builder()
+                                    .content(List.of(new McpSchema.TextContent(String.valueOf(e.getMessage()))))
+                                    .isError(true)
+                                    .build());
+                        }))
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.skala.springbootsample.mcp.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.execution.ToolExecutionException;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+
+import com.skala.springbootsample.mcp.metrics.ToolMetrics.Invocation;
+import com.skala.springbootsample.mcp.metrics.ToolMetrics.ToolMeters;
+
+/**
+ * 호출 시간 / 실행 중 호출 수 / 결과 크기 / 예외를 기록하는 ToolCallback 래퍼
+ */
+final class InstrumentedToolCallback implements ToolCallback {
+
+    private final ToolCallback delegate;
+    private final ToolMeters meters;
+    private final ToolMetrics toolMetrics;
+
+    InstrumentedToolCallback(ToolCallback delegate, ToolMeters meters, ToolMetrics toolMetrics) {
+        this.delegate = delegate;
+        this.meters = meters;
+        this.toolMetrics = toolMetrics;
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public String call(String toolInput) {
+        return call(toolInput, null);
+    }
+
+    @Override
+    public String call(String toolInput, ToolContext toolContext) {
+        long start = System.nanoTime();
+        meters.active().incrementAndGet();
+        ToolMetrics.begin(new Invocation(meters, start));
+        try {
+            String result = toolContext != null ? delegate.call(toolInput, toolContext) : delegate.call(toolInput);
+            meters.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            meters.resultSize().record(result != null ? result.length() : 0);
+            return result;
+        } catch (RuntimeException e) {
+            meters.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            // ToolExecutionException은 도구 메서드에서 발생한 원인 예외로 분류
+            Throwable cause = e instanceof ToolExecutionException && e.getCause() != null ? e.getCause() : e;
+            toolMetrics.recordError(meters.tool(), cause);
+            throw e;
+        } finally {
+            ToolMetrics.end();
+            meters.active().decrementAndGet();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedToolCallback[" + delegate + "]";
+    }
+}
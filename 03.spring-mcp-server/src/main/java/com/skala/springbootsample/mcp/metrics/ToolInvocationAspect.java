@@ -0,0 +1,25 @@
+package com.skala.springbootsample.mcp.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * @Tool 메서드 진입 시점을 ToolMetrics에 알려 인자 바인딩 시간(콜백 진입 → 메서드 진입)을 측정한다.
+ *
+ * MethodToolCallback은 final 클래스이고 바인딩 로직이 private 이므로, 인자를 다시 파싱하지 않고
+ * 도구 빈의 프록시에서 진입 시각만 기록한다. (MethodToolCallbackProvider는 AOP 프록시를 지원)
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "mcp.tools.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class ToolInvocationAspect {
+
+    @Around("@annotation(org.springframework.ai.tool.annotation.Tool) && within(com.skala.springbootsample.mcp..*)")
+    public Object markMethodEntry(ProceedingJoinPoint joinPoint) throws Throwable {
+        ToolMetrics.methodEntered();
+        return joinPoint.proceed();
+    }
+}
@@ -0,0 +1,178 @@
+package com.skala.springbootsample.mcp.metrics;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.stereotype.Component;
+
+import com.skala.springbootsample.config.ToolMetricsProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * MCP 도구 호출 메트릭
+ *
+ * 모든 ToolCallback을 InstrumentedToolCallback으로 감싸 도구 클래스를 수정하지 않고 아래 메트릭을 수집한다.
+ * - mcp.tool.calls{tool, outcome}      : 호출 시간 (SLO 버킷 히스토그램), outcome = success | error
+ * - mcp.tool.active{tool}              : 실행 중인 호출 수
+ * - mcp.tool.binding{tool}             : 인자 바인딩 시간 (JSON 인자 → 메서드 인자 변환, 도구 메서드 진입 직전까지)
+ * - mcp.tool.result.size{tool}         : 결과 크기 (문자 수)
+ * - mcp.tool.errors{tool, exception}   : 예외로 끝난 호출 수
+ *
+ * 각 도구는 예외를 잡아 오류 문장을 반환하므로, 여기서의 error 는 인자 바인딩 실패나 처리되지 않은 예외만 해당한다.
+ * 도구별 미터는 감쌀 때 한 번 만들어 두어 호출 경로에서 레지스트리를 조회하지 않는다.
+ * ASYNC 서버 모드의 논블로킹 도구(Mono)는 instrument(tool, mono)로 같은 미터에 기록한다. (바인딩 시간 제외)
+ */
+@Slf4j
+@Component
+public class ToolMetrics {
+
+    // 현재 스레드에서 실행 중인 호출 (바인딩 시간 측정용, ToolInvocationAspect에서 사용)
+    private static final ThreadLocal<Invocation> CURRENT = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+    private final ToolMetricsProperties properties;
+    private final Map<String, Counter> errorCounters = new ConcurrentHashMap<>();
+    private final Map<String, ToolMeters> toolMeters = new ConcurrentHashMap<>();
+
+    public ToolMetrics(MeterRegistry meterRegistry, ToolMetricsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    // 콜백 목록을 계측 콜백으로 감싸기 (비활성화 시 그대로 반환)
+    public ToolCallback[] instrument(ToolCallback[] callbacks) {
+        if (!properties.isEnabled()) {
+            return callbacks;
+        }
+        log.info("MCP 도구 호출 메트릭 적용: {}개 도구", callbacks.length);
+        return Arrays.stream(callbacks)
+                .map(callback -> new InstrumentedToolCallback(callback, meters(callback.getToolDefinition().name()), this))
+                .toArray(ToolCallback[]::new);
+    }
+
+    // 논블로킹 도구 호출(구독 ~ 완료)을 계측 (비활성화 시 그대로 반환)
+    public Mono<String> instrument(String tool, Mono<String> call) {
+        if (!properties.isEnabled()) {
+            return call;
+        }
+        ToolMeters meters = meters(tool);
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            meters.active().incrementAndGet();
+            return call
+                    .doOnSuccess(result -> {
+                        meters.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        meters.resultSize().record(result != null ? result.length() : 0);
+                    })
+                    .doOnError(error -> {
+                        meters.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        recordError(tool, error);
+                    })
+                    .doFinally(signal -> meters.active().decrementAndGet());
+        });
+    }
+
+    // 모든 도구의 실행 중인 호출 수 합계 (과부하 판단용, 비활성화 시 0)
+    public int activeCalls() {
+        int active = 0;
+        for (ToolMeters meters : toolMeters.values()) {
+            active += meters.active().get();
+        }
+        return active;
+    }
+
+    // 도구별 미터 (도구 이름당 한 번 등록, 실행 중 호출 수 게이지를 공유하기 위해 캐시)
+    ToolMeters meters(String tool) {
+        return toolMeters.computeIfAbsent(tool, this::register);
+    }
+
+    private ToolMeters register(String tool) {
+        Duration[] slo = properties.getSlo().toArray(Duration[]::new);
+        double[] sizeBuckets = properties.getResultSizeBuckets().stream().mapToDouble(Double::doubleValue).toArray();
+
+        AtomicInteger active = new AtomicInteger();
+        Gauge.builder("mcp.tool.active", active, AtomicInteger::get)
+                .tag("tool", tool)
+                .description("실행 중인 MCP 도구 호출 수")
+                .register(meterRegistry);
+
+        return new ToolMeters(tool,
+                callTimer(tool, "success", slo),
+                callTimer(tool, "error", slo),
+                Timer.builder("mcp.tool.binding")
+                        .tag("tool", tool)
+                        .description("MCP 도구 인자 바인딩 시간")
+                        .register(meterRegistry),
+                DistributionSummary.builder("mcp.tool.result.size")
+                        .tag("tool", tool)
+                        .baseUnit("characters")
+                        .serviceLevelObjectives(sizeBuckets)
+                        .description("MCP 도구 결과 크기")
+                        .register(meterRegistry),
+                active);
+    }
+
+    private Timer callTimer(String tool, String outcome, Duration[] slo) {
+        return Timer.builder("mcp.tool.calls")
+                .tag("tool", tool)
+                .tag("outcome", outcome)
+                .serviceLevelObjectives(slo)
+                .description("MCP 도구 호출 시간")
+                .register(meterRegistry);
+    }
+
+    void recordError(String tool, Throwable error) {
+        String exception = error.getClass().getSimpleName();
+        errorCounters.computeIfAbsent(tool + '|' + exception, key -> Counter.builder("mcp.tool.errors")
+                        .tag("tool", tool)
+                        .tag("exception", exception)
+                        .description("예외로 끝난 MCP 도구 호출 수")
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    static void begin(Invocation invocation) {
+        CURRENT.set(invocation);
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    // 도구 메서드 진입 시점: 콜백 진입부터 지금까지를 바인딩 시간으로 기록 (호출당 한 번)
+    static void methodEntered() {
+        Invocation invocation = CURRENT.get();
+        if (invocation != null && !invocation.bound) {
+            invocation.bound = true;
+            invocation.meters.binding().record(System.nanoTime() - invocation.startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    record ToolMeters(String tool, Timer success, Timer error, Timer binding, DistributionSummary resultSize,
+                      AtomicInteger active) {
+    }
+
+    static final class Invocation {
+
+        final ToolMeters meters;
+        final long startNanos;
+        boolean bound;
+
+        Invocation(ToolMeters meters, long startNanos) {
+            this.meters = meters;
+            this.startNanos = startNanos;
+        }
+    }
+}
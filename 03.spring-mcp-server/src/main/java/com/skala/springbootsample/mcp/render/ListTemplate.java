@@ -0,0 +1,52 @@
+package com.skala.springbootsample.mcp.render;
+
+import java.util.List;
+
+/**
+ * 목록 응답 템플릿: 행 템플릿 + 문장(prose) 머리말
+ *
+ * 머리말에는 {count}(행 수)와 {title}(호출 시 전달하는 제목, 예: 지역명) 자리표시자를 쓸 수 있다.
+ * titleKey는 JSON/TSV 형식에서 제목을 기록할 키 이름이다.
+ */
+public final class ListTemplate<T> {
+
+    private static final List<String> HEADER_NAMES = List.of("count", "title");
+
+    private final RowTemplate<T> row;
+    private final TextTemplate proseHeader;
+    private final String titleKey;
+
+    public ListTemplate(RowTemplate<T> row, String proseHeader) {
+        this(row, proseHeader, "title");
+    }
+
+    public ListTemplate(RowTemplate<T> row, String proseHeader, String titleKey) {
+        this.row = row;
+        this.proseHeader = TextTemplate.compile(proseHeader, HEADER_NAMES);
+        this.titleKey = titleKey;
+    }
+
+    RowTemplate<T> row() {
+        return row;
+    }
+
+    String titleKey() {
+        return titleKey;
+    }
+
+    int headerLength() {
+        return proseHeader.literalLength() + 32;
+    }
+
+    void appendProseHeader(StringBuilder out, int count, String title) {
+        for (int i = 0; i < proseHeader.slotCount(); i++) {
+            out.append(proseHeader.literal(i));
+            if (proseHeader.slot(i) == 0) {
+                out.append(count);
+            } else {
+                out.append(title);
+            }
+        }
+        out.append(proseHeader.literal(proseHeader.slotCount()));
+    }
+}
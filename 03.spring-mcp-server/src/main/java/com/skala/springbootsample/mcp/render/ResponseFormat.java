@@ -0,0 +1,16 @@
+package com.skala.springbootsample.mcp.render;
+
+/**
+ * MCP 도구 응답 형식
+ */
+public enum ResponseFormat {
+
+    // 기존 한국어 문장 형식
+    PROSE,
+
+    // 간결한 JSON (키는 필드 이름)
+    JSON,
+
+    // 헤더 한 줄 + 탭 구분 행 (토큰 수가 가장 적음)
+    TSV
+}
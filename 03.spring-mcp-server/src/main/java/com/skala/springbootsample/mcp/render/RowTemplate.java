@@ -0,0 +1,186 @@
+package com.skala.springbootsample.mcp.render;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 도구 응답 한 건(목록의 한 행 또는 단건 상세)의 필드 정의와 문장(prose) 템플릿
+ *
+ * 필드 이름은 JSON 키 / TSV 헤더로, 문장 템플릿의 {필드이름} 자리표시자로 사용된다.
+ * 템플릿은 static final 상수로 선언하여 기동 시 한 번만 컴파일한다.
+ *
+ * <pre>
+ * RowTemplate.&lt;User&gt;builder()
+ *         .field("id", User::getId)
+ *         .field("name", User::getName)
+ *         .prose("- ID: {id}, 이름: {name}\n")
+ *         .build();
+ * </pre>
+ */
+public final class RowTemplate<T> {
+
+    // 필드당 초기 크기 추정치 (문자 수), 이후 실제 렌더링 크기로 보정
+    private static final int INITIAL_FIELD_SIZE = 16;
+
+    private final String[] names;
+    private final Function<? super T, ?>[] getters;
+    private final TextTemplate prose;
+
+    // 형식별 한 건당 출력 크기 추정치 (경쟁 조건은 추정치 오차일 뿐이므로 동기화하지 않음)
+    private final int[] estimatedSize = new int[ResponseFormat.values().length];
+
+    private RowTemplate(List<String> names, List<Function<? super T, ?>> getters, String prose) {
+        this.names = names.toArray(String[]::new);
+        @SuppressWarnings("unchecked")
+        Function<? super T, ?>[] array = getters.toArray(Function[]::new);
+        this.getters = array;
+        this.prose = TextTemplate.compile(prose, names);
+
+        int jsonKeys = 0;
+        for (String name : this.names) {
+            jsonKeys += name.length() + 4;
+        }
+        estimatedSize[ResponseFormat.PROSE.ordinal()] = this.prose.literalLength() + this.prose.slotCount() * INITIAL_FIELD_SIZE;
+        estimatedSize[ResponseFormat.JSON.ordinal()] = jsonKeys + this.names.length * INITIAL_FIELD_SIZE;
+        estimatedSize[ResponseFormat.TSV.ordinal()] = this.names.length * (INITIAL_FIELD_SIZE + 1);
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    void appendProse(StringBuilder out, T row) {
+        for (int i = 0; i < prose.slotCount(); i++) {
+            out.append(prose.literal(i));
+            appendPlain(out, getters[prose.slot(i)].apply(row));
+        }
+        out.append(prose.literal(prose.slotCount()));
+    }
+
+    void appendJson(StringBuilder out, T row) {
+        out.append('{');
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            out.append('"').append(names[i]).append("\":");
+            appendJsonValue(out, getters[i].apply(row));
+        }
+        out.append('}');
+    }
+
+    void appendTsv(StringBuilder out, T row) {
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                out.append('\t');
+            }
+            appendTsvValue(out, getters[i].apply(row));
+        }
+        out.append('\n');
+    }
+
+    void appendTsvHeader(StringBuilder out) {
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                out.append('\t');
+            }
+            out.append(names[i]);
+        }
+        out.append('\n');
+    }
+
+    int estimatedSize(ResponseFormat format) {
+        return estimatedSize[format.ordinal()];
+    }
+
+    // 실제 렌더링된 한 건당 크기로 추정치 보정 (지수 이동 평균, 가중치 1/8)
+    void recordSize(ResponseFormat format, int observed) {
+        int index = format.ordinal();
+        estimatedSize[index] += (observed - estimatedSize[index]) >> 3;
+    }
+
+    static void appendPlain(StringBuilder out, Object value) {
+        if (value instanceof String s) {
+            out.append(s);
+        } else if (value instanceof Long l) {
+            out.append(l.longValue());
+        } else if (value instanceof Integer i) {
+            out.append(i.intValue());
+        } else {
+            out.append(value);
+        }
+    }
+
+    static void appendJsonValue(StringBuilder out, Object value) {
+        if (value == null) {
+            out.append("null");
+        } else if (value instanceof Number || value instanceof Boolean) {
+            appendPlain(out, value);
+        } else {
+            CharSequence text = value instanceof CharSequence cs ? cs : value.toString();
+            out.append('"');
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                switch (c) {
+                    case '"' -> out.append("\\\"");
+                    case '\\' -> out.append("\\\\");
+                    case '\n' -> out.append("\\n");
+                    case '\r' -> out.append("\\r");
+                    case '\t' -> out.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            out.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            out.append(c);
+                        }
+                    }
+                }
+            }
+            out.append('"');
+        }
+    }
+
+    // 탭/줄바꿈은 행 구분을 깨뜨리므로 공백으로 치환
+    static void appendTsvValue(StringBuilder out, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (!(value instanceof String s)) {
+            appendPlain(out, value);
+            return;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            out.append(c == '\t' || c == '\n' || c == '\r' ? ' ' : c);
+        }
+    }
+
+    public static final class Builder<T> {
+
+        private final List<String> names = new ArrayList<>();
+        private final List<Function<? super T, ?>> getters = new ArrayList<>();
+        private String prose;
+
+        private Builder() {
+        }
+
+        public Builder<T> field(String name, Function<? super T, ?> getter) {
+            names.add(name);
+            getters.add(getter);
+            return this;
+        }
+
+        public Builder<T> prose(String template) {
+            this.prose = template;
+            return this;
+        }
+
+        public RowTemplate<T> build() {
+            if (prose == null) {
+                throw new IllegalStateException("prose 템플릿은 필수입니다.");
+            }
+            return new RowTemplate<>(names, getters, prose);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.skala.springbootsample.mcp.render;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {name} 자리표시자를 가진 문장 템플릿을 기동 시 한 번 파싱해 둔 형태
+ *
+ * 리터럴 조각과 자리표시자 인덱스 배열로 보관하여 렌더링 시 String.format 처럼 매번 형식 문자열을 해석하지 않는다.
+ * literals.length == slots.length + 1 (리터럴, 슬롯, 리터럴, ... , 리터럴)
+ */
+final class TextTemplate {
+
+    private final String[] literals;
+    private final int[] slots;
+    private final int literalLength;
+
+    private TextTemplate(String[] literals, int[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    // names: 사용 가능한 자리표시자 이름 (인덱스가 슬롯 번호)
+    static TextTemplate compile(String text, List<String> names) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        int start = 0;
+        int open;
+        while ((open = text.indexOf('{', start)) >= 0) {
+            int close = text.indexOf('}', open);
+            if (close < 0) {
+                break;
+            }
+            String name = text.substring(open + 1, close);
+            int slot = names.indexOf(name);
+            if (slot < 0) {
+                throw new IllegalArgumentException("알 수 없는 템플릿 변수: {" + name + "} in \"" + text + "\"");
+            }
+            literals.add(text.substring(start, open));
+            slots.add(slot);
+            start = close + 1;
+        }
+        literals.add(text.substring(start));
+        return new TextTemplate(literals.toArray(String[]::new), slots.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    int slotCount() {
+        return slots.length;
+    }
+
+    String literal(int index) {
+        return literals[index];
+    }
+
+    int slot(int index) {
+        return slots[index];
+    }
+
+    int literalLength() {
+        return literalLength;
+    }
+}
@@ -0,0 +1,161 @@
+package com.skala.springbootsample.mcp.render;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.springframework.stereotype.Component;
+
+import com.skala.springbootsample.config.ToolResponseProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MCP 도구 응답 렌더러
+ *
+ * - 응답 형식(PROSE / JSON / TSV)은 도구별로 mcp.tools.response.formats 에서 선택한다.
+ * - 템플릿(RowTemplate, ListTemplate)은 기동 시 컴파일된 상수를 사용한다.
+ * - 출력 버퍼는 풀에서 재사용하고(Virtual Thread에서도 재사용되도록 ThreadLocal 대신 풀 사용),
+ *   템플릿별 추정 크기로 미리 용량을 확보하여 StringBuilder 확장 복사를 줄인다.
+ *
+ * 빈 결과와 오류 메시지는 형식과 관계없이 각 도구의 짧은 문장을 그대로 사용한다.
+ */
+@Slf4j
+@Component
+public class ToolResponseRenderer {
+
+    private static final int MIN_BUFFER_SIZE = 256;
+
+    private final ToolResponseProperties properties;
+    private final BlockingQueue<StringBuilder> buffers;
+
+    public ToolResponseRenderer(ToolResponseProperties properties) {
+        this.properties = properties;
+        this.buffers = new ArrayBlockingQueue<>(Math.max(1, properties.getBufferPoolSize()));
+        log.info("MCP 도구 응답 형식: 기본 {}, 도구별 {}", properties.getDefaultFormat(), properties.getFormats());
+    }
+
+    // 도구의 응답 형식
+    public ResponseFormat formatOf(String tool) {
+        return properties.getFormats().getOrDefault(tool, properties.getDefaultFormat());
+    }
+
+    // 단건 응답
+    public <T> String item(String tool, RowTemplate<T> template, T row) {
+        ResponseFormat format = formatOf(tool);
+        StringBuilder out = acquire(template.estimatedSize(format) + (format == ResponseFormat.TSV ? 64 : 0));
+        switch (format) {
+            case PROSE -> template.appendProse(out, row);
+            case JSON -> template.appendJson(out, row);
+            case TSV -> {
+                template.appendTsvHeader(out);
+                template.appendTsv(out, row);
+            }
+        }
+        if (format != ResponseFormat.TSV) {
+            template.recordSize(format, out.length());
+        }
+        return release(out);
+    }
+
+    // 목록 응답, title은 머리말의 {title} (없으면 null)
+    public <T> String list(String tool, ListTemplate<T> template, List<T> rows, String title) {
+        return render(formatOf(tool), template, rows, title, false, null);
+    }
+
+    // 키셋 페이지 응답, nextAfterId가 null이면 마지막 페이지
+    public <T> String page(String tool, ListTemplate<T> template, List<T> rows, String title, Long nextAfterId) {
+        return render(formatOf(tool), template, rows, title, true, nextAfterId);
+    }
+
+    private <T> String render(ResponseFormat format, ListTemplate<T> template, List<T> rows, String title,
+                              boolean paged, Long nextAfterId) {
+        RowTemplate<T> row = template.row();
+        int headerLength = template.headerLength();
+        StringBuilder out = acquire(headerLength + row.estimatedSize(format) * rows.size());
+        int start;
+
+        switch (format) {
+            case PROSE -> {
+                template.appendProseHeader(out, rows.size(), title);
+                start = out.length();
+                for (T item : rows) {
+                    row.appendProse(out, item);
+                }
+                recordRowSize(row, format, out.length() - start, rows.size());
+                if (paged) {
+                    if (nextAfterId != null) {
+                        out.append("\n다음 페이지 커서(afterId): ").append(nextAfterId.longValue()).append('\n');
+                    } else {
+                        out.append("\n마지막 페이지입니다.\n");
+                    }
+                }
+            }
+            case JSON -> {
+                out.append('{');
+                if (title != null) {
+                    out.append('"').append(template.titleKey()).append("\":");
+                    RowTemplate.appendJsonValue(out, title);
+                    out.append(',');
+                }
+                out.append("\"count\":").append(rows.size()).append(",\"items\":[");
+                start = out.length();
+                for (int i = 0; i < rows.size(); i++) {
+                    if (i > 0) {
+                        out.append(',');
+                    }
+                    row.appendJson(out, rows.get(i));
+                }
+                recordRowSize(row, format, out.length() - start, rows.size());
+                out.append(']');
+                if (paged) {
+                    out.append(",\"nextAfterId\":");
+                    RowTemplate.appendJsonValue(out, nextAfterId);
+                }
+                out.append('}');
+            }
+            case TSV -> {
+                if (title != null) {
+                    out.append("# ").append(template.titleKey()).append(": ");
+                    RowTemplate.appendTsvValue(out, title);
+                    out.append('\n');
+                }
+                row.appendTsvHeader(out);
+                start = out.length();
+                for (T item : rows) {
+                    row.appendTsv(out, item);
+                }
+                recordRowSize(row, format, out.length() - start, rows.size());
+                if (paged) {
+                    out.append(nextAfterId != null ? "# nextAfterId: " + nextAfterId : "# nextAfterId:").append('\n');
+                }
+            }
+        }
+        return release(out);
+    }
+
+    private static <T> void recordRowSize(RowTemplate<T> row, ResponseFormat format, int length, int count) {
+        if (count > 0) {
+            row.recordSize(format, length / count);
+        }
+    }
+
+    private StringBuilder acquire(int estimate) {
+        int capacity = Math.max(MIN_BUFFER_SIZE, estimate + (estimate >> 3));
+        StringBuilder buffer = buffers.poll();
+        if (buffer == null) {
+            return new StringBuilder(capacity);
+        }
+        buffer.ensureCapacity(capacity);
+        return buffer;
+    }
+
+    private String release(StringBuilder buffer) {
+        String result = buffer.toString();
+        if (buffer.capacity() <= properties.getMaxRetainedBufferSize()) {
+            buffer.setLength(0);
+            buffers.offer(buffer);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,10 @@
+package com.skala.springbootsample.repo;
+
+import com.skala.springbootsample.domain.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+// outbox 기록용 (발행 / 삭제는 OutboxRelay 가 JdbcTemplate 으로 수행)
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+}
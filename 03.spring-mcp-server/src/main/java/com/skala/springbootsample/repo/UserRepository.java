@@ -1,26 +1,135 @@
 package com.skala.springbootsample.repo;
 
 import com.skala.springbootsample.domain.User;
+import com.skala.springbootsample.dto.RegionUserCount;
+import com.skala.springbootsample.dto.UserSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    // 이름으로 사용자 검색 (대소문자 구분 없음)
-    List<User> findByNameIgnoreCase(String name);
+    // 엔티티를 반환하는 조회 메서드는 region을 EntityGraph로 함께 로딩 (N+1 방지)
+
+    // 전체 사용자 조회
+    @Override
+    @EntityGraph(attributePaths = "region")
+    List<User> findAll();
+
+    // ID로 사용자 조회
+    @Override
+    @EntityGraph(attributePaths = "region")
+    Optional<User> findById(Long id);
+
+    // 정규화된 이름 키로 사용자 검색 (대소문자 구분 없음, name_key 인덱스 사용, 키는 User.normalizeName 으로 생성)
+    @EntityGraph(attributePaths = "region")
+    List<User> findByNameKey(String nameKey);
+
+    // 이름 키가 비어 있는 사용자 (name_key 컬럼 추가 이전에 저장된 행 백필용)
+    List<User> findByNameKeyIsNull(Pageable pageable);
 
     // 지역별 사용자 조회
+    @EntityGraph(attributePaths = "region")
     List<User> findByRegionId(Long regionId);
 
+    // ID 목록으로 사용자 조회 (IN 쿼리, 다건 조회 / 단건 조회 병합용)
+    @EntityGraph(attributePaths = "region")
+    List<User> findByIdIn(Collection<Long> ids);
+
     // 지역명으로 사용자 조회 (Spring Data JPA 메서드 네이밍 규칙 사용)
+    @EntityGraph(attributePaths = "region")
     List<User> findByRegionName(String regionName);
 
     // 이메일로 사용자 존재 여부 확인
     boolean existsByEmail(String email);
 
+    // 내보내기용 전방향 스트림 (지역 ID / 지역명 필터 옵션, 트랜잭션 안에서 소비 후 close 필요)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select new com.skala.springbootsample.dto.UserSummary(u.id, u.name, u.email, r.id, r.name)
+            from User u join u.region r
+            where (:regionId is null or r.id = :regionId)
+              and (:regionName is null or r.name = :regionName)
+            order by u.id
+            """)
+    Stream<UserSummary> streamSummaries(@Param("regionId") Long regionId,
+                                        @Param("regionName") String regionName);
+
+    // 이미 등록된 이메일 조회 (대량 등록 사전 검증, IN 쿼리)
+    @Query("select u.email from User u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // 지역별 사용자 수 (COUNT)
+    long countByRegionId(Long regionId);
+
+    // 지역에 사용자가 존재하는지 확인 (삭제 가드용)
+    boolean existsByRegionId(Long regionId);
+
+    // 전체 지역의 사용자 수 집계 (GROUP BY region_id)
+    @Query("""
+            select new com.skala.springbootsample.dto.RegionUserCount(u.region.id, count(u))
+            from User u
+            group by u.region.id
+            """)
+    List<RegionUserCount> countGroupByRegion();
+
+    // 키셋 페이지네이션: afterId 이후 사용자를 id 순으로 조회 (이름 키 필터 옵션, 프로젝션 + 단일 조인)
+    @Query("""
+            select new com.skala.springbootsample.dto.UserSummary(u.id, u.name, u.email, r.id, r.name)
+            from User u join u.region r
+            where u.id > :afterId
+              and (:nameKey is null or u.nameKey = :nameKey)
+            order by u.id
+            """)
+    List<UserSummary> findSummariesAfter(@Param("afterId") long afterId,
+                                         @Param("nameKey") String nameKey,
+                                         Pageable pageable);
+
+    // 이메일 목록으로 사용자 요약 조회 (대량 등록 후 검색 색인 반영용, IN 쿼리)
+    @Query("""
+            select new com.skala.springbootsample.dto.UserSummary(u.id, u.name, u.email, r.id, r.name)
+            from User u join u.region r
+            where u.email in :emails
+            """)
+    List<UserSummary> findSummariesByEmailIn(@Param("emails") Collection<String> emails);
+
+    // 키셋 페이지네이션: 특정 지역의 사용자를 id 순으로 조회
+    @Query("""
+            select new com.skala.springbootsample.dto.UserSummary(u.id, u.name, u.email, r.id, r.name)
+            from User u join u.region r
+            where r.id = :regionId
+              and u.id > :afterId
+            order by u.id
+            """)
+    List<UserSummary> findSummariesByRegionIdAfter(@Param("regionId") Long regionId,
+                                                   @Param("afterId") long afterId,
+                                                   Pageable pageable);
+
+    // 키셋 페이지네이션: 여러 지역의 사용자를 id 순으로 조회 (IN 쿼리)
+    @Query("""
+            select new com.skala.springbootsample.dto.UserSummary(u.id, u.name, u.email, r.id, r.name)
+            from User u join u.region r
+            where r.id in :regionIds
+              and u.id > :afterId
+            order by u.id
+            """)
+    List<UserSummary> findSummariesByRegionIdInAfter(@Param("regionIds") Collection<Long> regionIds,
+                                                     @Param("afterId") long afterId,
+                                                     Pageable pageable);
+
 }
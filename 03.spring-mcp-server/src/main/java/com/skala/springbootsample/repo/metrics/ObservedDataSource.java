@@ -0,0 +1,163 @@
+package com.skala.springbootsample.repo.metrics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 느린 쿼리 기록용 DataSource 래퍼
+ *
+ * Connection / Statement 를 JDK 동적 프록시로 감싸 execute* 호출 시간을 재고,
+ * 임계값을 넘은 문장만 SQL 과 바인딩 파라미터를 SlowQueryLog 에 남긴다.
+ * 파라미터는 set* 호출 시 배열에 참조만 저장하고 문자열 변환은 느린 쿼리일 때만 하므로
+ * 모든 문장을 로그로 출력하는 show-sql / 바인딩 TRACE 로그보다 훨씬 가볍다.
+ * (HikariCP 풀 앞에 위치하므로 커넥션 대기 시간은 포함되지 않는다. 대기 시간은 hikaricp.connections.acquire 참고)
+ * 빈으로 등록된 원본 대신 이 래퍼가 종료 대상이 되므로, 닫으면 감싼 DataSource(풀)를 닫는다.
+ */
+public class ObservedDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public ObservedDataSource(DataSource target, SlowQueryLog slowQueryLog) {
+        super(target);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    // LazyConnectionDataSourceProxy 등 위임 DataSource 를 따라가 처음 만나는 닫을 수 있는 대상을 닫음
+    @Override
+    public void close() throws Exception {
+        DataSource target = getTargetDataSource();
+        while (!(target instanceof AutoCloseable) && target instanceof DelegatingDataSource delegating) {
+            target = delegating.getTargetDataSource();
+        }
+        if (target instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    // 프록시 자신의 equals / hashCode 는 대상 객체에 위임하지 않음
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        if (method.getName().equals("equals")) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode")) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = ObservedDataSource.invoke(proxy, target, method, args);
+            return switch (method.getName()) {
+                case "prepareCall" -> statement(CallableStatement.class, result, (String) args[0]);
+                case "prepareStatement" -> statement(PreparedStatement.class, result, (String) args[0]);
+                case "createStatement" -> statement(Statement.class, result, null);
+                default -> result;
+            };
+        }
+
+        private Object statement(Class<?> type, Object statement, String sql) {
+            return Proxy.newProxyInstance(ObservedDataSource.class.getClassLoader(),
+                    new Class<?>[]{type}, new StatementHandler((Statement) statement, sql));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String sql;
+        private final boolean captureParameters;
+        private Object[] parameters = new Object[8];
+        private int parameterCount;
+        private int batchSize;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+            this.captureParameters = sql != null && slowQueryLog.isCaptureParameters();
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return execute(proxy, method, args);
+            }
+            if (captureParameters && name.startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                Arrays.fill(parameters, null);
+                parameterCount = 0;
+            } else if (name.equals("addBatch")) {
+                batchSize++;
+            } else if (name.equals("clearBatch")) {
+                batchSize = 0;
+            }
+            return ObservedDataSource.invoke(proxy, target, method, args);
+        }
+
+        private Object execute(Object proxy, Method method, Object[] args) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                return ObservedDataSource.invoke(proxy, target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (slowQueryLog.isSlow(elapsed)) {
+                    String executed = sql != null ? sql : args != null && args.length > 0 ? (String) args[0] : null;
+                    slowQueryLog.record(executed, parameters, parameterCount, batchSize, elapsed);
+                }
+                if (method.getName().equals("executeBatch") || method.getName().equals("executeLargeBatch")) {
+                    batchSize = 0;
+                }
+            }
+        }
+
+        private void bind(int index, Object value) {
+            if (index >= parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index + 1, parameters.length * 2));
+            }
+            parameters[index] = value;
+            parameterCount = Math.max(parameterCount, index);
+        }
+    }
+}
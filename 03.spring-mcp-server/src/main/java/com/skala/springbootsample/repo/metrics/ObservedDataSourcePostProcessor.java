@@ -0,0 +1,33 @@
+package com.skala.springbootsample.repo.metrics;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * DataSource 빈을 ObservedDataSource 로 감싼다.
+ *
+ * 원본(HikariDataSource)은 unwrap 으로 접근 가능하므로 hikaricp.* 풀 메트릭은 그대로 등록된다.
+ */
+@Component
+@ConditionalOnProperty(name = "db.observation.enabled", havingValue = "true", matchIfMissing = true)
+public class ObservedDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SlowQueryLog> slowQueryLog;
+
+    public ObservedDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ObservedDataSource)) {
+            return new ObservedDataSource(dataSource, slowQueryLog.getObject());
+        }
+        return bean;
+    }
+}
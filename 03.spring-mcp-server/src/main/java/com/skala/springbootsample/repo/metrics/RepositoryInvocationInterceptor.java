@@ -0,0 +1,104 @@
+package com.skala.springbootsample.repo.metrics;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import com.skala.springbootsample.config.QueryObservationProperties;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 리포지토리 메서드 메트릭
+ * - repository.invocations{repository, method, outcome} : 호출 시간 (SLO 버킷 히스토그램), outcome = success | error
+ * - repository.rows{repository, method}                 : 반환 행 수 (List/Page 크기, Optional 0/1, Stream 소비 건수)
+ *
+ * 반환 값이 숫자 / boolean / void 인 메서드(count, exists, delete 등)는 행 수를 기록하지 않는다.
+ * Stream 반환 메서드의 호출 시간은 커서를 여는 데까지이며, 행 수는 스트림을 close 할 때 기록된다.
+ */
+final class RepositoryInvocationInterceptor implements MethodInterceptor {
+
+    private final String repository;
+    private final MeterRegistry meterRegistry;
+    private final Duration[] slo;
+    private final double[] rowsBuckets;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+    RepositoryInvocationInterceptor(String repository, MeterRegistry meterRegistry,
+                                    QueryObservationProperties properties) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+        this.slo = properties.getSlo().toArray(Duration[]::new);
+        this.rowsBuckets = properties.getRowsBuckets().stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MethodMeters methodMeters = meters.computeIfAbsent(invocation.getMethod(), this::register);
+        long start = System.nanoTime();
+        Object result;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            methodMeters.error().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        methodMeters.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return recordRows(result, methodMeters.rows());
+    }
+
+    private Object recordRows(Object result, DistributionSummary rows) {
+        if (result instanceof Collection<?> collection) {
+            rows.record(collection.size());
+        } else if (result instanceof Slice<?> slice) {
+            rows.record(slice.getNumberOfElements());
+        } else if (result instanceof Optional<?> optional) {
+            rows.record(optional.isPresent() ? 1 : 0);
+        } else if (result instanceof Stream<?> stream) {
+            LongAdder consumed = new LongAdder();
+            return stream.peek(row -> consumed.increment()).onClose(() -> rows.record(consumed.sum()));
+        } else if (result != null && !(result instanceof Number) && !(result instanceof Boolean)) {
+            rows.record(1);
+        }
+        return result;
+    }
+
+    private MethodMeters register(Method method) {
+        String name = method.getName();
+        return new MethodMeters(
+                timer(name, "success"),
+                timer(name, "error"),
+                DistributionSummary.builder("repository.rows")
+                        .tag("repository", repository)
+                        .tag("method", name)
+                        .baseUnit("rows")
+                        .serviceLevelObjectives(rowsBuckets)
+                        .description("리포지토리 메서드 반환 행 수")
+                        .register(meterRegistry));
+    }
+
+    private Timer timer(String method, String outcome) {
+        return Timer.builder("repository.invocations")
+                .tag("repository", repository)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .serviceLevelObjectives(slo)
+                .description("리포지토리 메서드 호출 시간")
+                .register(meterRegistry);
+    }
+
+    private record MethodMeters(Timer success, Timer error, DistributionSummary rows) {
+    }
+}
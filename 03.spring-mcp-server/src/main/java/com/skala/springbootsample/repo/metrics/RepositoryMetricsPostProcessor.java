@@ -0,0 +1,42 @@
+package com.skala.springbootsample.repo.metrics;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+import com.skala.springbootsample.config.QueryObservationProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 모든 Spring Data 리포지토리 프록시에 RepositoryInvocationInterceptor를 추가한다.
+ *
+ * BeanPostProcessor는 다른 빈보다 먼저 만들어지므로 MeterRegistry / 설정은 리포지토리 생성 시점에 꺼낸다.
+ */
+@Component
+@ConditionalOnProperty(name = "db.observation.enabled", havingValue = "true", matchIfMissing = true)
+public class RepositoryMetricsPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ObjectProvider<QueryObservationProperties> properties;
+
+    public RepositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                          ObjectProvider<QueryObservationProperties> properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, information) -> proxyFactory.addAdvice(new RepositoryInvocationInterceptor(
+                            information.getRepositoryInterface().getSimpleName(),
+                            meterRegistry.getObject(), properties.getObject()))));
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,15 @@
+package com.skala.springbootsample.repo.metrics;
+
+import java.time.Instant;
+import java.util.List;
+
+// 느린 쿼리 기록 항목 (batchSize: executeBatch 로 실행된 경우의 배치 건수, 그 외 0)
+public record SlowQuery(
+        Instant timestamp,
+        long durationMillis,
+        String sql,
+        List<String> parameters,
+        int batchSize,
+        String thread
+) {
+}
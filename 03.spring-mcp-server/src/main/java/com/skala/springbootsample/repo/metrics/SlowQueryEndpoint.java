@@ -0,0 +1,31 @@
+package com.skala.springbootsample.repo.metrics;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// 느린 쿼리 조회 Actuator 엔드포인트 (/actuator/slowqueries)
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+
+    // 최근 느린 쿼리 (최신순)
+    @ReadOperation
+    public List<SlowQuery> slowQueries() {
+        return slowQueryLog.recent();
+    }
+
+    // 기록 비우기
+    @DeleteOperation
+    public void clear() {
+        slowQueryLog.clear();
+    }
+}
@@ -0,0 +1,108 @@
+package com.skala.springbootsample.repo.metrics;
+
+import java.time.Instant;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.skala.springbootsample.config.QueryObservationProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 느린 쿼리 링 버퍼
+ *
+ * db.observation.slow-threshold 이상 걸린 JDBC 문장을 최근 slow-log-size 개까지 보관한다.
+ * 임계값 미만 쿼리는 기록하지 않으므로 평소에는 시간 측정 외 비용이 없다.
+ * suspend() ~ resume() 사이의 쿼리는 기록하지 않는다. (기동 워밍업의 콜드 쿼리)
+ * 조회: GET /actuator/slowqueries, 비우기: DELETE /actuator/slowqueries
+ */
+@Component
+public class SlowQueryLog {
+
+    private final QueryObservationProperties properties;
+    private final long thresholdNanos;
+    private final SlowQuery[] entries;
+    private final Counter slowQueries;
+    private long written;
+    private volatile boolean suspended;
+
+    public SlowQueryLog(MeterRegistry meterRegistry, QueryObservationProperties properties) {
+        this.properties = properties;
+        this.thresholdNanos = properties.getSlowThreshold().toNanos();
+        this.entries = new SlowQuery[Math.max(1, properties.getSlowLogSize())];
+        this.slowQueries = Counter.builder("jdbc.queries.slow")
+                .description("느린 쿼리 임계값을 넘은 JDBC 문장 수")
+                .register(meterRegistry);
+    }
+
+    boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos && !suspended;
+    }
+
+    public void suspend() {
+        suspended = true;
+    }
+
+    public void resume() {
+        suspended = false;
+    }
+
+    boolean isCaptureParameters() {
+        return properties.isCaptureParameters();
+    }
+
+    // 느린 쿼리 기록 (파라미터 문자열 변환은 여기서만 수행)
+    void record(String sql, Object[] parameters, int parameterCount, int batchSize, long elapsedNanos) {
+        List<String> formatted = new ArrayList<>(parameterCount);
+        for (int i = 1; i <= parameterCount; i++) {
+            formatted.add(format(parameters[i]));
+        }
+        SlowQuery entry = new SlowQuery(Instant.now(), elapsedNanos / 1_000_000, sql, formatted, batchSize,
+                Thread.currentThread().getName());
+        slowQueries.increment();
+        synchronized (entries) {
+            entries[(int) (written++ % entries.length)] = entry;
+        }
+    }
+
+    // 최신 항목부터 반환
+    public List<SlowQuery> recent() {
+        synchronized (entries) {
+            int size = (int) Math.min(written, entries.length);
+            List<SlowQuery> result = new ArrayList<>(size);
+            for (int i = 1; i <= size; i++) {
+                result.add(entries[(int) ((written - i) % entries.length)]);
+            }
+            return result;
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            Arrays.fill(entries, null);
+            written = 0;
+        }
+    }
+
+    private String format(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof byte[] bytes) {
+            return "<" + bytes.length + " bytes>";
+        }
+        if (!(value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                || value instanceof Temporal || value instanceof Date)) {
+            return "<" + value.getClass().getSimpleName() + ">";
+        }
+        String text = value.toString();
+        int max = properties.getMaxParameterLength();
+        return text.length() > max ? text.substring(0, max) + "..." : text;
+    }
+}
@@ -0,0 +1,96 @@
+package com.skala.springbootsample.repo.routing;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 / 쓰기 라우팅 DataSource
+ *
+ * 커넥션을 얻는 시점의 트랜잭션 속성으로 대상 풀을 고른다.
+ * - 읽기 전용 트랜잭션(@Transactional(readOnly = true)): 지연이 허용 범위인 replica (ReplicaSet)
+ *   단, 같은 요청 / 세션에서 최근에 쓰기가 있었으면(ReadYourWrites) 또는 사용 가능한 replica 가 없으면 primary
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖 접근): primary
+ * 트랜잭션 시작 시에는 readOnly 속성이 아직 설정되지 않았으므로 반드시 LazyConnectionDataSourceProxy 로 감싸
+ * 첫 SQL 실행 시점에 커넥션을 얻도록 한다.
+ * 메트릭: db.routing.connections (route=primary|replica 이름, reason=write|no-transaction|read|read-your-writes|replica-unavailable)
+ * 닫으면 primary 풀을 닫는다. (replica 풀은 ReplicaSet 이 닫음)
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final ReplicaSet replicaSet;
+    private final ReadYourWrites readYourWrites;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaSet replicaSet, ReadYourWrites readYourWrites,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicaSet = replicaSet;
+        this.readYourWrites = readYourWrites;
+        this.meterRegistry = meterRegistry;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (ReplicaSet.Replica replica : replicaSet.getReplicas()) {
+            targets.put(replica.getName(), replica.getDataSource());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return route(PRIMARY, "no-transaction");
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWrites.onWrite();
+            return route(PRIMARY, "write");
+        }
+        if (readYourWrites.requiresPrimary()) {
+            return route(PRIMARY, "read-your-writes");
+        }
+        ReplicaSet.Replica replica = replicaSet.pick();
+        if (replica == null) {
+            return route(PRIMARY, "replica-unavailable");
+        }
+        return route(replica.getName(), "read");
+    }
+
+    // primary 풀 종료
+    @Override
+    public void close() {
+        if (primary instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("primary 풀 종료 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    private String route(String target, String reason) {
+        counters.computeIfAbsent(target + '|' + reason, key -> Counter.builder("db.routing.connections")
+                .tag("route", target)
+                .tag("reason", reason)
+                .description("라우팅 대상별 커넥션 획득 수")
+                .register(meterRegistry)).increment();
+        return target;
+    }
+}
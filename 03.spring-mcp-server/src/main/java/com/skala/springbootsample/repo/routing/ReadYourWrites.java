@@ -0,0 +1,109 @@
+package com.skala.springbootsample.repo.routing;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 쓰기 이후 읽기 일관성(read-your-writes) 추적
+ *
+ * 요청 스레드에 세션 키를 묶어 두고(ReadYourWritesFilter), 쓰기 트랜잭션이 커밋되면
+ * 같은 세션의 읽기를 window 동안 primary 로 보낸다. 같은 요청 안에서는 쓰기 이후의 읽기를 항상 primary 로 보낸다.
+ * 세션 키는 요청 스레드에서만 보이므로 ASYNC MCP 서버의 JDBC 스케줄러에서 실행되는 도구에는 적용되지 않는다.
+ */
+public class ReadYourWrites {
+
+    private static final ThreadLocal<RequestState> CURRENT = new ThreadLocal<>();
+
+    private final long windowMillis;
+    private final int maxSessions;
+    private final Clock clock;
+    // 세션 키 -> primary 로 읽어야 하는 시각 (epoch millis)
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWrites(Duration window, int maxSessions, Clock clock) {
+        this.windowMillis = window.toMillis();
+        this.maxSessions = maxSessions;
+        this.clock = clock;
+    }
+
+    // 요청 시작 (sessionKey 가 없으면 요청 안에서만 추적)
+    public static void begin(String sessionKey) {
+        CURRENT.set(new RequestState(sessionKey));
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    // 쓰기 트랜잭션이 primary 커넥션을 얻음
+    void onWrite() {
+        RequestState state = CURRENT.get();
+        if (state == null) {
+            return;
+        }
+        state.wrote = true;
+        if (state.sessionKey == null) {
+            return;
+        }
+        mark(state.sessionKey);
+        // window 는 커밋 시점부터
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mark(state.sessionKey);
+                }
+            });
+        }
+    }
+
+    // 현재 요청 / 세션의 읽기를 primary 로 보내야 하는지
+    public boolean requiresPrimary() {
+        RequestState state = CURRENT.get();
+        if (state == null) {
+            return false;
+        }
+        if (state.wrote) {
+            return true;
+        }
+        if (state.sessionKey == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(state.sessionKey);
+        if (until == null) {
+            return false;
+        }
+        if (until <= clock.millis()) {
+            stickyUntil.remove(state.sessionKey, until);
+            return false;
+        }
+        return true;
+    }
+
+    private void mark(String sessionKey) {
+        long now = clock.millis();
+        if (stickyUntil.size() >= maxSessions) {
+            stickyUntil.values().removeIf(until -> until <= now);
+        }
+        stickyUntil.put(sessionKey, now + windowMillis);
+    }
+
+    int sessionCount() {
+        return stickyUntil.size();
+    }
+
+    private static final class RequestState {
+
+        private final String sessionKey;
+        private boolean wrote;
+
+        private RequestState(String sessionKey) {
+            this.sessionKey = sessionKey;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.skala.springbootsample.repo.routing;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// 요청 헤더(Mcp-Session-Id 등)의 세션 키를 요청 스레드에 묶어 ReadYourWrites 가 세션별로 추적하게 한다.
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final List<String> sessionHeaders;
+
+    public ReadYourWritesFilter(List<String> sessionHeaders) {
+        this.sessionHeaders = List.copyOf(sessionHeaders);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ReadYourWrites.begin(sessionKey(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.end();
+        }
+    }
+
+    private String sessionKey(HttpServletRequest request) {
+        for (String header : sessionHeaders) {
+            String value = request.getHeader(header);
+            if (value != null && !value.isBlank()) {
+                return header + ':' + value;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,141 @@
+package com.skala.springbootsample.repo.routing;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.skala.springbootsample.config.DataSourceRoutingProperties;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 전용 replica 목록과 복제 지연 상태
+ *
+ * db.routing.lag-check-interval 마다 replica 별로 lag-query 를 실행해 지연(초)을 확인하고,
+ * max-lag 이하인 replica 만 라운드 로빈으로 고른다. 조회 실패 / 결과 없음 / NULL 이면 제외한다.
+ * 첫 확인 전에는 모든 replica 를 제외한다. (primary 로 읽음)
+ * 메트릭: db.replica.lag (replica, 초, 확인 실패 시 NaN), db.replica.available (replica, 1|0)
+ */
+@Slf4j
+public class ReplicaSet implements AutoCloseable {
+
+    private final List<Replica> replicas;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final double maxLagSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaSet(List<Replica> replicas, DataSourceRoutingProperties properties, MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.lagQuery = properties.getLagQuery();
+        this.lagColumn = properties.getLagColumn();
+        this.maxLagSeconds = properties.getMaxLag().toMillis() / 1000.0;
+        for (Replica replica : this.replicas) {
+            Gauge.builder("db.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("replica", replica.name)
+                    .description("replica 복제 지연 (초)")
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            Gauge.builder("db.replica.available", replica, r -> r.available ? 1 : 0)
+                    .tag("replica", replica.name)
+                    .description("replica 읽기 사용 여부")
+                    .register(meterRegistry);
+        }
+    }
+
+    // 지연이 허용 범위인 replica 하나 (없으면 null)
+    Replica pick() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    @Scheduled(fixedDelayString = "${db.routing.lag-check-interval:2s}")
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            double lag = queryLag(replica);
+            boolean available = !Double.isNaN(lag) && lag <= maxLagSeconds;
+            if (available != replica.available) {
+                log.info("replica {} {} (지연 {}초)", replica.name, available ? "사용" : "제외", lag);
+            }
+            replica.lagSeconds = lag;
+            replica.available = available;
+        }
+    }
+
+    private double queryLag(Replica replica) {
+        try {
+            Double lag = new JdbcTemplate(replica.dataSource).query(lagQuery, (ResultSet rs) -> {
+                if (!rs.next()) {
+                    return null;
+                }
+                Object value = rs.getObject(lagColumn);
+                return value instanceof Number number ? number.doubleValue() : null;
+            });
+            return lag != null ? lag : Double.NaN;
+        } catch (Exception e) {
+            log.debug("replica {} 지연 확인 실패: {}", replica.name, e.getMessage());
+            return Double.NaN;
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    // replica 풀 종료
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("replica {} 풀 종료 실패: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    // replica 풀과 현재 상태
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile double lagSeconds = Double.NaN;
+        private volatile boolean available = false;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public DataSource getDataSource() {
+            return dataSource;
+        }
+
+        public boolean isAvailable() {
+            return available;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.skala.springbootsample.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 다건 조회용 ID 목록 검증 (null / 중복 제거, 건수 제한)
+ */
+public final class BatchIds {
+
+    // 다건 조회 한 번에 허용하는 최대 ID 수 (IN 절 크기 상한)
+    public static final int MAX_IDS = 100;
+
+    private BatchIds() {
+    }
+
+    // 요청 순서를 유지한 채 null / 중복 제거, 최대 건수 초과 시 IllegalArgumentException
+    public static List<Long> distinct(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("조회할 ID 목록이 비어 있습니다.");
+        }
+        List<Long> distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinct.size() > MAX_IDS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_IDS + "개 ID까지 조회할 수 있습니다. (요청: "
+                    + distinct.size() + "개)");
+        }
+        return distinct;
+    }
+
+    // 요청한 ID 중 조회 결과에 없는 ID (요청 순서, 중복 제거)
+    public static List<Long> missing(Collection<Long> requested, Collection<Long> found) {
+        Set<Long> foundIds = new HashSet<>(found);
+        return requested.stream().filter(Objects::nonNull).distinct().filter(id -> !foundIds.contains(id)).toList();
+    }
+}
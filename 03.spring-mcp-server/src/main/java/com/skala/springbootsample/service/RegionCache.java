@@ -0,0 +1,215 @@
+package com.skala.springbootsample.service;
+
+import com.skala.springbootsample.domain.Region;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 지역 조회용 in-process 캐시 (id → Region, name → id)
+ *
+ * 지역은 건수가 적고 거의 변경되지 않으므로 기동 시 전체를 적재하고, 이후에는 read-through로 채운다.
+ * region.cache.max-size를 넘으면 가장 오래 사용하지 않은 항목부터 제거한다(LRU).
+ * 캐시에는 연관관계를 끊은 사본을 보관하고 조회 시에도 사본을 반환한다.
+ * read-through 적재 중에 무효화(evict / clear)가 일어나면 읽은 값이 변경 전 값일 수 있으므로 저장하지 않는다. (generation 비교)
+ * 메트릭은 Micrometer 표준 캐시 이름(cache.gets, cache.evictions, cache.size, tag cache=regions)으로 등록한다.
+ */
+@Slf4j
+@Component
+public class RegionCache {
+
+    private static final String CACHE_NAME = "regions";
+
+    private final boolean enabled;
+    private final int maxSize;
+
+    // LinkedHashMap(access-order)로 LRU 구현, 건수가 적으므로 단일 락으로 보호
+    private final Map<Long, Region> byId;
+    private final Map<String, Long> idByName = new HashMap<>();
+    // 무효화할 때마다 증가 (적재 시작 시점 값과 다르면 적재 결과를 저장하지 않음)
+    private long generation = 0;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public RegionCache(MeterRegistry meterRegistry,
+                       @Value("${region.cache.enabled:true}") boolean enabled,
+                       @Value("${region.cache.max-size:1000}") int maxSize) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.byId = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Region> eldest) {
+                if (size() > RegionCache.this.maxSize) {
+                    idByName.remove(eldest.getValue().getName());
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+                .description("지역 캐시 조회 적중 수").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss")
+                .description("지역 캐시 조회 실패 수").register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", CACHE_NAME)
+                .description("지역 캐시 제거 수").register(meterRegistry);
+        Gauge.builder("cache.size", this, RegionCache::size).tag("cache", CACHE_NAME)
+                .description("지역 캐시 항목 수").register(meterRegistry);
+    }
+
+    // ID로 조회, 없으면 loader로 읽어서 적재
+    public Optional<Region> getById(Long id, Supplier<Optional<Region>> loader) {
+        if (!enabled || id == null) {
+            return loader.get();
+        }
+        long startGeneration;
+        synchronized (this) {
+            Region cached = byId.get(id);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(copyOf(cached));
+            }
+            startGeneration = generation;
+        }
+        misses.increment();
+        Optional<Region> loaded = loader.get();
+        loaded.ifPresent(region -> put(region, startGeneration));
+        return loaded;
+    }
+
+    // 여러 ID 조회, 캐시에 없는 ID만 loader로 한 번에 읽어서 적재 (ids 순서, 존재하지 않는 ID는 제외)
+    public List<Region> getAllById(Collection<Long> ids, Function<Collection<Long>, List<Region>> loader) {
+        if (!enabled) {
+            return orderBy(ids, loader.apply(ids));
+        }
+        Map<Long, Region> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        long startGeneration;
+        synchronized (this) {
+            for (Long id : ids) {
+                Region cached = byId.get(id);
+                if (cached != null) {
+                    found.put(id, copyOf(cached));
+                } else {
+                    missing.add(id);
+                }
+            }
+            startGeneration = generation;
+        }
+        hits.increment(found.size());
+        if (!missing.isEmpty()) {
+            misses.increment(missing.size());
+            for (Region loaded : loader.apply(missing)) {
+                put(loaded, startGeneration);
+                found.put(loaded.getId(), loaded);
+            }
+        }
+        return orderBy(ids, found.values());
+    }
+
+    private static List<Region> orderBy(Collection<Long> ids, Collection<Region> regions) {
+        Map<Long, Region> byRegionId = new HashMap<>();
+        regions.forEach(region -> byRegionId.put(region.getId(), region));
+        List<Region> ordered = new ArrayList<>(regions.size());
+        for (Long id : ids) {
+            Region region = byRegionId.get(id);
+            if (region != null) {
+                ordered.add(region);
+            }
+        }
+        return ordered;
+    }
+
+    // 지역명으로 조회, 없으면 loader로 읽어서 적재
+    public Optional<Region> getByName(String name, Supplier<Optional<Region>> loader) {
+        if (!enabled || name == null) {
+            return loader.get();
+        }
+        long startGeneration;
+        synchronized (this) {
+            Long id = idByName.get(name);
+            Region cached = id != null ? byId.get(id) : null;
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(copyOf(cached));
+            }
+            startGeneration = generation;
+        }
+        misses.increment();
+        Optional<Region> loaded = loader.get();
+        loaded.ifPresent(region -> put(region, startGeneration));
+        return loaded;
+    }
+
+    // 전체 적재 (기동 시)
+    public void putAll(List<Region> regions) {
+        if (!enabled) {
+            return;
+        }
+        regions.forEach(this::put);
+        log.info("지역 캐시 적재 완료: {}건", size());
+    }
+
+    public synchronized void put(Region region) {
+        if (!enabled || region.getId() == null) {
+            return;
+        }
+        Region previous = byId.put(region.getId(), copyOf(region));
+        if (previous != null && !previous.getName().equals(region.getName())) {
+            idByName.remove(previous.getName());
+        }
+        idByName.put(region.getName(), region.getId());
+    }
+
+    // read-through 적재 결과 저장 (적재 중에 무효화가 있었으면 버림)
+    private synchronized void put(Region region, long startGeneration) {
+        if (startGeneration == generation) {
+            put(region);
+        }
+    }
+
+    // 특정 지역 무효화
+    public synchronized void evict(Long id) {
+        generation++;
+        Region removed = byId.remove(id);
+        if (removed != null) {
+            idByName.remove(removed.getName());
+            evictions.increment();
+        }
+    }
+
+    // 전체 무효화
+    public synchronized void clear() {
+        generation++;
+        evictions.increment(byId.size());
+        byId.clear();
+        idByName.clear();
+    }
+
+    public synchronized int size() {
+        return byId.size();
+    }
+
+    // 영속성 컨텍스트와 분리된 사본 (users 연관관계는 포함하지 않음)
+    private static Region copyOf(Region region) {
+        Region copy = new Region(region.getName());
+        copy.setId(region.getId());
+        return copy;
+    }
+}
@@ -0,0 +1,13 @@
+package com.skala.springbootsample.service;
+
+/**
+ * 지역 변경을 다른 인스턴스에 전파하기 위한 확장 지점
+ *
+ * RegionService의 생성/수정/삭제가 커밋된 후 호출된다.
+ * 빈이 없으면 로컬 캐시만 무효화된다 (단일 인스턴스 배포).
+ */
+public interface RegionCacheInvalidationHook {
+
+    // 변경된 지역 ID를 다른 인스턴스에 알림
+    void regionChanged(Long regionId);
+}
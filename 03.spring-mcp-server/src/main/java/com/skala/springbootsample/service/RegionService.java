@@ -2,12 +2,19 @@ package com.skala.springbootsample.service;
 
 import com.skala.springbootsample.domain.Region;
 import com.skala.springbootsample.repo.RegionRepository;
+import com.skala.springbootsample.service.outbox.ChangeEventOutbox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +25,17 @@ import java.util.Optional;
 public class RegionService {
 
     private final RegionRepository regionRepository;
+    private final StatisticsService statisticsService;
+    private final RegionCache regionCache;
+    private final ObjectProvider<RegionCacheInvalidationHook> invalidationHooks;
+    private final ChangeEventOutbox changeEventOutbox;
+
+    // 초기 데이터 적재(CommandLineRunner) 이후 지역 캐시 적재 (JIT 워밍업(WarmupRunner)보다 먼저)
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void warmUpCache() {
+        regionCache.putAll(regionRepository.findAll());
+    }
 
     // 모든 지역 조회
     public List<Region> findAll() {
@@ -26,12 +44,17 @@ public class RegionService {
 
     // ID로 지역 조회
     public Optional<Region> findById(Long id) {
-        return regionRepository.findById(id);
+        return regionCache.getById(id, () -> regionRepository.findById(id));
+    }
+
+    // 여러 ID로 지역 조회 (캐시에 없는 지역만 IN 쿼리 한 번, 요청 순서 유지, 중복 / 없는 ID 제외)
+    public List<Region> findAllById(Collection<Long> ids) {
+        return regionCache.getAllById(BatchIds.distinct(ids), regionRepository::findAllById);
     }
 
     // 지역명으로 조회
     public Optional<Region> findByName(String name) {
-        return regionRepository.findByName(name);
+        return regionCache.getByName(name, () -> regionRepository.findByName(name));
     }
 
     // 지역 생성
@@ -40,7 +63,14 @@ public class RegionService {
         if (regionRepository.existsByName(region.getName())) {
             throw new IllegalArgumentException("이미 존재하는 지역명입니다: " + region.getName());
         }
-        return regionRepository.save(region);
+        Region saved = regionRepository.save(region);
+        statisticsService.onRegionCreated();
+        changeEventOutbox.region(ChangeEventOutbox.CREATED, saved);
+        TransactionCallbacks.afterCommit(() -> {
+            regionCache.put(saved);
+            notifyRegionChanged(saved.getId());
+        });
+        return saved;
     }
 
     // 지역 수정
@@ -55,7 +85,13 @@ public class RegionService {
                         }
                         region.setName(updatedRegion.getName());
                     }
-                    return regionRepository.save(region);
+                    Region saved = regionRepository.save(region);
+                    changeEventOutbox.region(ChangeEventOutbox.UPDATED, saved);
+                    TransactionCallbacks.afterCommit(() -> {
+                        regionCache.evict(id);
+                        notifyRegionChanged(id);
+                    });
+                    return saved;
                 });
     }
 
@@ -64,8 +100,25 @@ public class RegionService {
     public boolean delete(Long id) {
         if (regionRepository.existsById(id)) {
             regionRepository.deleteById(id);
+            statisticsService.onRegionDeleted(id);
+            changeEventOutbox.regionDeleted(id);
+            TransactionCallbacks.afterCommit(() -> {
+                regionCache.evict(id);
+                notifyRegionChanged(id);
+            });
             return true;
         }
         return false;
     }
+
+    // 다른 인스턴스 캐시 무효화 (RegionCacheInvalidationHook 빈이 있는 경우)
+    private void notifyRegionChanged(Long id) {
+        invalidationHooks.forEach(hook -> {
+            try {
+                hook.regionChanged(id);
+            } catch (Exception e) {
+                log.warn("지역 캐시 무효화 전파 실패: regionId={}, {}", id, e.getMessage());
+            }
+        });
+    }
 }
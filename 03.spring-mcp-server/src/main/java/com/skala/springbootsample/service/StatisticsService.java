@@ -0,0 +1,269 @@
+package com.skala.springbootsample.service;
+
+import com.skala.springbootsample.dto.RegionUserCount;
+import com.skala.springbootsample.repo.RegionRepository;
+import com.skala.springbootsample.repo.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자/지역 건수 통계 서비스
+ *
+ * 목록을 조회해서 size()를 세는 대신 COUNT / GROUP BY 쿼리를 사용한다.
+ * statistics.snapshot.enabled=true 이면 기동 시 DB에서 한 번 집계한 뒤
+ * UserService/RegionService의 생성·수정·삭제 커밋 시점에 메모리 카운터를 갱신하여 O(1)로 응답한다.
+ * 카운터는 인스턴스 로컬 값이므로 다른 인스턴스나 DB 직접 변경은 refresh() 전까지 반영되지 않는다.
+ * refresh() 중에 도착한 커밋 후 변경분은 모아 두었다가 새 집계 결과에 다시 적용한다. (집계로 덮어써 누락되지 않도록)
+ * 다만 집계 직전에 커밋되어 집계에 포함된 변경분도 커밋 후 처리가 늦으면 다시 적용되므로,
+ * 적용 후 한 번 더 집계해 카운터와 같을 때만 스냅샷을 사용한다. (다르면 다시 집계, 계속 다르면 DB 조회로 응답)
+ * 잠금은 synchronized 대신 ReentrantLock 을 사용한다. (JDBC 호출 중 가상 스레드가 캐리어에 고정되지 않도록)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class StatisticsService {
+
+    // 검증에 실패하면 다시 집계하는 최대 횟수
+    private static final int MAX_REFRESH_ATTEMPTS = 3;
+
+    private final UserRepository userRepository;
+    private final RegionRepository regionRepository;
+    private final boolean snapshotEnabled;
+
+    // 메모리 카운터 스냅샷
+    private final AtomicLong userCount = new AtomicLong();
+    private final AtomicLong regionCount = new AtomicLong();
+    private final Map<Long, AtomicLong> userCountByRegion = new ConcurrentHashMap<>();
+    private volatile boolean snapshotReady = false;
+
+    // refresh 는 한 번에 하나만 실행
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    // 카운터 변경과 스냅샷 교체 사이의 순서 보장 (deltasDuringRefresh 보호)
+    private final ReentrantLock deltaLock = new ReentrantLock();
+    // refresh 중에 도착한 변경분 (refresh 중이 아니면 null)
+    private List<Runnable> deltasDuringRefresh;
+
+    public StatisticsService(UserRepository userRepository,
+                             RegionRepository regionRepository,
+                             @Value("${statistics.snapshot.enabled:true}") boolean snapshotEnabled) {
+        this.userRepository = userRepository;
+        this.regionRepository = regionRepository;
+        this.snapshotEnabled = snapshotEnabled;
+    }
+
+    // 초기 데이터 적재(CommandLineRunner) 이후 스냅샷 구성 (JIT 워밍업(WarmupRunner)보다 먼저)
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onApplicationReady() {
+        if (snapshotEnabled) {
+            refresh();
+        }
+    }
+
+    // DB 집계 결과로 스냅샷 재구성
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            for (int attempt = 1; attempt <= MAX_REFRESH_ATTEMPTS; attempt++) {
+                collectDeltas(new ArrayList<>());
+                Counts counted = countOrStopCollecting();
+                int replayed = install(counted);
+
+                // 집계가 이미 포함한 커밋의 변경분이 재적용 / 바로 적용되면 중복 반영되므로 다시 집계해 비교
+                Counts verified = countOrStopCollecting();
+                deltaLock.lock();
+                try {
+                    if (matches(verified)) {
+                        snapshotReady = true;
+                        log.info("통계 스냅샷 갱신: 사용자 {}명, 지역 {}개 (갱신 중 변경 {}건 재적용, {}회차)",
+                                userCount.get(), regionCount.get(), replayed, attempt);
+                        return;
+                    }
+                } finally {
+                    deltaLock.unlock();
+                }
+                log.debug("통계 스냅샷 검증 불일치 ({}회차), 다시 집계", attempt);
+            }
+            // 쓰기가 계속 겹치면 스냅샷 없이 DB 조회로 응답 (snapshotReady=false)
+            log.warn("통계 스냅샷을 {}회 검증하지 못해 DB 집계로 응답합니다", MAX_REFRESH_ATTEMPTS);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // 집계 실패 시 변경분 수집을 멈추고 스냅샷 없이 DB 조회로 응답 (snapshotReady=false)
+    private Counts countOrStopCollecting() {
+        try {
+            return new Counts(userRepository.countGroupByRegion(), regionRepository.count());
+        } catch (RuntimeException e) {
+            collectDeltas(null);
+            throw e;
+        }
+    }
+
+    // 집계 결과로 카운터를 바꾸고 집계 중에 커밋된 변경분을 다시 적용, 이후 변경분은 바로 적용 (재적용 건수 반환)
+    private int install(Counts counts) {
+        deltaLock.lock();
+        try {
+            userCountByRegion.clear();
+            long total = 0;
+            for (RegionUserCount count : counts.byRegion()) {
+                userCountByRegion.put(count.regionId(), new AtomicLong(count.userCount()));
+                total += count.userCount();
+            }
+            userCount.set(total);
+            regionCount.set(counts.regions());
+            int replayed = deltasDuringRefresh.size();
+            deltasDuringRefresh.forEach(Runnable::run);
+            deltasDuringRefresh = null;
+            return replayed;
+        } finally {
+            deltaLock.unlock();
+        }
+    }
+
+    // 현재 카운터가 집계 결과와 같은지 (deltaLock 안에서 호출, 건수 0인 지역은 비교하지 않음)
+    private boolean matches(Counts counts) {
+        if (counts.regions() != regionCount.get()) {
+            return false;
+        }
+        long total = 0;
+        Map<Long, Long> byRegion = new HashMap<>();
+        for (RegionUserCount count : counts.byRegion()) {
+            total += count.userCount();
+            if (count.userCount() != 0) {
+                byRegion.put(count.regionId(), count.userCount());
+            }
+        }
+        Map<Long, Long> current = new HashMap<>();
+        userCountByRegion.forEach((regionId, count) -> {
+            if (count.get() != 0) {
+                current.put(regionId, count.get());
+            }
+        });
+        return total == userCount.get() && byRegion.equals(current);
+    }
+
+    // 변경분 수집 시작(목록) / 중단(null), 시작하면 검증이 끝날 때까지 스냅샷을 사용하지 않음
+    private void collectDeltas(List<Runnable> deltas) {
+        deltaLock.lock();
+        try {
+            snapshotReady = false;
+            deltasDuringRefresh = deltas;
+        } finally {
+            deltaLock.unlock();
+        }
+    }
+
+    // 전체 사용자 수
+    public long countUsers() {
+        return snapshotReady ? userCount.get() : userRepository.count();
+    }
+
+    // 전체 지역 수
+    public long countRegions() {
+        return snapshotReady ? regionCount.get() : regionRepository.count();
+    }
+
+    // 지역별 사용자 수
+    public long countUsersByRegion(Long regionId) {
+        if (snapshotReady) {
+            AtomicLong count = userCountByRegion.get(regionId);
+            return count != null ? count.get() : 0L;
+        }
+        return userRepository.countByRegionId(regionId);
+    }
+
+    // 지역에 사용자가 존재하는지 여부 (지역 삭제 가드)
+    public boolean hasUsers(Long regionId) {
+        return userRepository.existsByRegionId(regionId);
+    }
+
+    // ##### 스냅샷 갱신 (트랜잭션 커밋 후 반영) #####
+
+    void onUserCreated(Long regionId) {
+        afterCommit(() -> {
+            userCount.incrementAndGet();
+            adjustRegion(regionId, 1);
+        });
+    }
+
+    // 대량 등록: 지역별 생성 건수
+    void onUsersCreated(Map<Long, Long> createdByRegion) {
+        afterCommit(() -> createdByRegion.forEach((regionId, count) -> {
+            userCount.addAndGet(count);
+            adjustRegion(regionId, count);
+        }));
+    }
+
+    void onUserDeleted(Long regionId) {
+        afterCommit(() -> {
+            userCount.decrementAndGet();
+            adjustRegion(regionId, -1);
+        });
+    }
+
+    void onUserMoved(Long fromRegionId, Long toRegionId) {
+        if (fromRegionId == null || fromRegionId.equals(toRegionId)) {
+            return;
+        }
+        afterCommit(() -> {
+            adjustRegion(fromRegionId, -1);
+            adjustRegion(toRegionId, 1);
+        });
+    }
+
+    void onRegionCreated() {
+        afterCommit(regionCount::incrementAndGet);
+    }
+
+    void onRegionDeleted(Long regionId) {
+        afterCommit(() -> {
+            regionCount.decrementAndGet();
+            userCountByRegion.remove(regionId);
+        });
+    }
+
+    private void adjustRegion(Long regionId, long delta) {
+        if (regionId != null) {
+            userCountByRegion.computeIfAbsent(regionId, id -> new AtomicLong()).addAndGet(delta);
+        }
+    }
+
+    private void afterCommit(Runnable delta) {
+        if (snapshotEnabled) {
+            TransactionCallbacks.afterCommit(() -> apply(delta));
+        }
+    }
+
+    // refresh 중이면 변경분을 모아 두었다가 새 스냅샷에 적용, 아니면 바로 적용
+    private void apply(Runnable delta) {
+        deltaLock.lock();
+        try {
+            if (deltasDuringRefresh != null) {
+                deltasDuringRefresh.add(delta);
+            } else {
+                delta.run();
+            }
+        } finally {
+            deltaLock.unlock();
+        }
+    }
+
+    private record Counts(List<RegionUserCount> byRegion, long regions) {
+    }
+}
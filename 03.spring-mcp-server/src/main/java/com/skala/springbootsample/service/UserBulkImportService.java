@@ -0,0 +1,304 @@
+package com.skala.springbootsample.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.skala.springbootsample.domain.Region;
+import com.skala.springbootsample.domain.User;
+import com.skala.springbootsample.dto.BulkImportReport;
+import com.skala.springbootsample.dto.BulkImportReport.RowResult;
+import com.skala.springbootsample.dto.BulkUserRow;
+import com.skala.springbootsample.dto.UserSummary;
+import com.skala.springbootsample.repo.UserRepository;
+import com.skala.springbootsample.service.outbox.ChangeEventOutbox;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 대량 등록 서비스
+ *
+ * 입력(JSON 배열 / CSV)을 스트리밍으로 읽어 batch-size 단위 청크로 처리한다.
+ * 청크마다 이메일 중복을 IN 쿼리 한 번으로 검증하고, JDBC batch insert로 저장한 뒤 청크 단위로 커밋한다.
+ * 청크 저장이 제약 조건 위반 등으로 실패하면 그 청크만 한 행씩 다시 저장해 실제로 실패한 행을 보고한다.
+ * 입력 형식 오류(JSON 문법 / CSV 따옴표 등)를 만나면 읽기를 멈추고, 이미 커밋된 청크를 포함한 보고서에 오류를 담아 반환한다.
+ * User 엔티티는 IDENTITY 전략이라 Hibernate insert 배칭이 불가능하므로 JdbcTemplate로 직접 INSERT 한다.
+ * 지역은 시작 시 한 번만 조회한다.
+ * JDBC로 직접 저장하므로 name_key 계산과 검색 색인 반영(UserSearchIndex), 변경 이벤트 기록(ChangeEventOutbox)도 여기서 수행한다.
+ */
+@Slf4j
+@Service
+public class UserBulkImportService {
+
+    private static final String INSERT_SQL = "insert into users (name, name_key, email, region_id) values (?, ?, ?, ?)";
+
+    private final UserRepository userRepository;
+    private final RegionService regionService;
+    private final StatisticsService statisticsService;
+    private final UserSearchIndex userSearchIndex;
+    private final ChangeEventOutbox changeEventOutbox;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+    private final int batchSize;
+
+    public UserBulkImportService(UserRepository userRepository,
+                                 RegionService regionService,
+                                 StatisticsService statisticsService,
+                                 UserSearchIndex userSearchIndex,
+                                 ChangeEventOutbox changeEventOutbox,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${user.bulk.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.regionService = regionService;
+        this.statisticsService = statisticsService;
+        this.userSearchIndex = userSearchIndex;
+        this.changeEventOutbox = changeEventOutbox;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    // 목록으로 전달된 행 등록 (MCP 도구 등)
+    public BulkImportReport importRows(List<BulkUserRow> rows) {
+        ImportSession session = new ImportSession();
+        rows.forEach(session::add);
+        return session.finish();
+    }
+
+    // JSON 배열 스트리밍 등록: [{"name":..,"email":..,"regionId":..}, ...]
+    public BulkImportReport importJson(InputStream in) throws IOException {
+        ImportSession session = new ImportSession();
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("JSON 배열 형식이어야 합니다.");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    return session.finish("JSON 배열이 닫히지 않았습니다.");
+                }
+                // 원소 단위로 읽은 뒤 변환 (필드 타입 오류는 해당 행만 실패, 이후 원소는 계속 처리)
+                JsonNode element = objectMapper.readTree(parser);
+                if (element == null || !element.isObject()) {
+                    session.reject(null, "객체 형식이 아닌 행입니다: " + element);
+                    continue;
+                }
+                try {
+                    session.add(objectMapper.treeToValue(element, BulkUserRow.class));
+                } catch (JsonProcessingException e) {
+                    session.reject(element.path("email").asText(null), "행 형식 오류: " + e.getOriginalMessage());
+                }
+            }
+        } catch (JsonProcessingException e) {
+            return session.finish("JSON 파싱 오류: " + e.getOriginalMessage());
+        }
+        return session.finish();
+    }
+
+    // CSV 스트리밍 등록: name,email,regionId
+    // 첫 줄이 헤더이면 헤더의 열 이름으로 매핑한다. (내보내기 CSV: id,name,email,regionId,regionName 재등록 가능)
+    public BulkImportReport importCsv(Reader in) throws IOException {
+        ImportSession session = new ImportSession();
+        try (MappingIterator<String[]> rows = csvMapper.readerFor(String[].class)
+                .with(CsvParser.Feature.WRAP_AS_ARRAY)
+                .with(CsvParser.Feature.SKIP_EMPTY_LINES)
+                .readValues(in)) {
+            int nameColumn = 0;
+            int emailColumn = 1;
+            int regionIdColumn = 2;
+            boolean first = true;
+            while (rows.hasNextValue()) {
+                String[] cols = rows.nextValue();
+                if (first) {
+                    first = false;
+                    List<String> header = new ArrayList<>();
+                    for (String col : cols) {
+                        header.add(col.trim().toLowerCase(Locale.ROOT));
+                    }
+                    if (header.contains("name") || header.contains("email")) {
+                        nameColumn = header.indexOf("name");
+                        emailColumn = header.indexOf("email");
+                        regionIdColumn = header.indexOf("regionid");
+                        continue;
+                    }
+                }
+                String regionId = column(cols, regionIdColumn);
+                session.add(new BulkUserRow(column(cols, nameColumn), column(cols, emailColumn),
+                        regionId != null ? parseLong(regionId) : null));
+            }
+        } catch (JsonProcessingException e) {
+            return session.finish("CSV 파싱 오류: " + e.getOriginalMessage());
+        }
+        return session.finish();
+    }
+
+    private static String column(String[] cols, int index) {
+        return index >= 0 && index < cols.length ? cols[index] : null;
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 한 번의 대량 등록 요청 상태 (청크 버퍼, 처리 결과)
+    private class ImportSession {
+
+        private final long startedAt = System.currentTimeMillis();
+        private final Set<Long> regionIds = regionService.findAll().stream()
+                .map(Region::getId)
+                .collect(Collectors.toSet());
+        private final Set<String> seenEmails = new HashSet<>();
+        private final List<RowResult> results = new ArrayList<>();
+        private final List<Pending> chunk = new ArrayList<>(batchSize);
+        private int rowNumber = 0;
+        private int created = 0;
+
+        // 행으로 해석할 수 없는 입력 (번호만 매기고 실패로 기록)
+        void reject(String email, String error) {
+            rowNumber++;
+            results.add(new RowResult(rowNumber, email, false, error));
+        }
+
+        void add(BulkUserRow row) {
+            rowNumber++;
+            String name = row.name() != null ? row.name().trim() : "";
+            String email = row.email() != null ? row.email().trim() : "";
+
+            String error = null;
+            if (name.isEmpty()) {
+                error = "사용자 이름은 필수입니다.";
+            } else if (email.isEmpty() || !email.contains("@")) {
+                error = "올바른 이메일이 아닙니다.";
+            } else if (row.regionId() == null || !regionIds.contains(row.regionId())) {
+                error = "존재하지 않는 지역입니다: " + row.regionId();
+            } else if (!seenEmails.add(email)) {
+                error = "요청 내에서 중복된 이메일입니다: " + email;
+            }
+
+            if (error != null) {
+                results.add(new RowResult(rowNumber, email, false, error));
+                return;
+            }
+            chunk.add(new Pending(rowNumber, name, email, row.regionId()));
+            if (chunk.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        BulkImportReport finish() {
+            return finish(null);
+        }
+
+        // error: 입력 형식 오류로 읽기를 멈춘 경우 그 내용 (그 전까지 읽은 행은 저장)
+        BulkImportReport finish(String error) {
+            flush();
+            results.sort((a, b) -> Integer.compare(a.row(), b.row()));
+            long elapsed = System.currentTimeMillis() - startedAt;
+            if (error != null) {
+                log.warn("사용자 대량 등록 중단: {}행까지 처리, {}", rowNumber, error);
+            }
+            log.info("사용자 대량 등록 완료: 전체 {}건, 성공 {}건, 실패 {}건, {}ms",
+                    rowNumber, created, rowNumber - created, elapsed);
+            return new BulkImportReport(rowNumber, created, rowNumber - created, elapsed, results, error);
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<Pending> pending = List.copyOf(chunk);
+            chunk.clear();
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertChunk(pending));
+            } catch (Exception e) {
+                if (pending.size() == 1) {
+                    Pending p = pending.get(0);
+                    results.add(new RowResult(p.row(), p.email(), false, "저장 실패: " + e.getMessage()));
+                    return;
+                }
+                // 청크 전체가 롤백됨, 한 행씩 다시 저장해 실패한 행만 보고
+                log.warn("사용자 대량 등록 청크 실패, 행 단위로 재시도: {}건, {}", pending.size(), e.getMessage());
+                for (Pending p : pending) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> insertChunk(List.of(p)));
+                    } catch (Exception rowError) {
+                        results.add(new RowResult(p.row(), p.email(), false, "저장 실패: " + rowError.getMessage()));
+                    }
+                }
+            }
+        }
+
+        private void insertChunk(List<Pending> pending) {
+            // 이미 등록된 이메일을 IN 쿼리 한 번으로 검증
+            Set<String> existing = new HashSet<>(userRepository.findExistingEmails(
+                    pending.stream().map(Pending::email).toList()));
+
+            List<Pending> inserts = new ArrayList<>(pending.size());
+            List<RowResult> chunkResults = new ArrayList<>(pending.size());
+            for (Pending p : pending) {
+                if (existing.contains(p.email())) {
+                    chunkResults.add(new RowResult(p.row(), p.email(), false, "이미 존재하는 이메일입니다: " + p.email()));
+                } else {
+                    inserts.add(p);
+                }
+            }
+
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts, batchSize, (ps, p) -> {
+                ps.setString(1, p.name());
+                ps.setString(2, User.normalizeName(p.name()));
+                ps.setString(3, p.email());
+                ps.setLong(4, p.regionId());
+            });
+
+            Map<Long, Long> createdByRegion = new HashMap<>();
+            for (Pending p : inserts) {
+                chunkResults.add(new RowResult(p.row(), p.email(), true, "생성됨"));
+                createdByRegion.merge(p.regionId(), 1L, Long::sum);
+            }
+            statisticsService.onUsersCreated(createdByRegion);
+
+            // 생성된 행(id 포함)을 이메일 IN 쿼리 한 번으로 조회해 검색 색인과 outbox 에 반영
+            List<UserSummary> createdRows = inserts.isEmpty() ? List.of()
+                    : userRepository.findSummariesByEmailIn(inserts.stream().map(Pending::email).toList());
+            userSearchIndex.onUsersImported(createdRows);
+            changeEventOutbox.usersCreated(createdRows);
+
+            // 커밋 이후에만 결과 반영 (롤백 시 flush()에서 실패로 기록)
+            TransactionCallbacks.afterCommit(() -> {
+                results.addAll(chunkResults);
+                created += inserts.size();
+            });
+        }
+    }
+
+    private record Pending(int row, String name, String email, Long regionId) {
+    }
+}
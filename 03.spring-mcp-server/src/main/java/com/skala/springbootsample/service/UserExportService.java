@@ -0,0 +1,107 @@
+package com.skala.springbootsample.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.skala.springbootsample.dto.UserSummary;
+import com.skala.springbootsample.repo.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 내보내기 서비스
+ *
+ * 전체 목록을 메모리에 올리지 않고 읽기 전용 트랜잭션 안에서 프로젝션 스트림(fetch size 힌트)을
+ * 한 행씩 읽어 바로 출력 스트림에 기록한다. 엔티티가 아닌 프로젝션이므로 영속성 컨텍스트에 쌓이지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserExportService {
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    // 사용자 내보내기 (지역 ID / 지역명 필터 옵션), 기록한 행 수 반환
+    @Transactional(readOnly = true)
+    public long export(Format format, Long regionId, String regionName, OutputStream out) throws IOException {
+        long started = System.currentTimeMillis();
+        long count;
+        try (Stream<UserSummary> users = userRepository.streamSummaries(regionId, regionName)) {
+            count = format == Format.CSV
+                    ? writeCsv(users.iterator(), out)
+                    : writeNdjson(users.iterator(), out);
+        }
+        log.info("사용자 내보내기 완료: format={}, regionId={}, regionName={}, {}건, {}ms",
+                format, regionId, regionName, count, System.currentTimeMillis() - started);
+        return count;
+    }
+
+    private long writeNdjson(Iterator<UserSummary> users, OutputStream out) throws IOException {
+        long count = 0;
+        // 행마다 flush 하지 않고 generator 버퍼 단위로 출력
+        ObjectWriter writer = objectMapper.writerFor(UserSummary.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.setRootValueSeparator(null);
+            while (users.hasNext()) {
+                writer.writeValue(generator, users.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Iterator<UserSummary> users, OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("id,name,email,regionId,regionName\n");
+        while (users.hasNext()) {
+            UserSummary user = users.next();
+            writer.write(String.valueOf(user.id()));
+            writer.write(',');
+            writeCsvField(writer, user.name());
+            writer.write(',');
+            writeCsvField(writer, user.email());
+            writer.write(',');
+            writer.write(String.valueOf(user.regionId()));
+            writer.write(',');
+            writeCsvField(writer, user.regionName());
+            writer.write('\n');
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
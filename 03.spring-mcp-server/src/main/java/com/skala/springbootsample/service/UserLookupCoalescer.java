@@ -0,0 +1,160 @@
+package com.skala.springbootsample.service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.skala.springbootsample.domain.Region;
+import com.skala.springbootsample.domain.User;
+import com.skala.springbootsample.repo.UserRepository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 단건 사용자 조회 병합기
+ *
+ * 동시에 들어온 findById 요청을 모아 IN 쿼리 한 번으로 처리한다. (그룹 커밋 방식)
+ * - 대기 중인 조회가 없으면 호출한 스레드가 바로 리더가 되어 자신을 포함한 대기열을 조회한다.
+ * - 리더가 조회하는 동안 도착한 요청은 대기열에 쌓이고, 조회가 끝나면 대기열의 첫 요청이 다음 리더가 된다.
+ * 따라서 부하가 없을 때는 추가 지연이 없고, 동시 요청이 많을수록 한 번에 묶이는 건수가 늘어난다.
+ * user.lookup.coalescing.window 를 지정하면 리더가 그 시간만큼 더 기다렸다가 모아서 조회한다.
+ * 대기열은 ID 기준으로 shards 개로 나뉘어 샤드마다 리더가 따로 조회한다.
+ * (하나의 병합 조회가 느려도 다른 샤드의 조회는 그 뒤에 줄 서지 않음)
+ *
+ * 조회 결과는 리더 스레드의 영속성 컨텍스트(open-in-view)에 속한 엔티티를 다른 스레드에 넘기지 않도록
+ * 연관관계를 끊은 사본(User + Region)으로 반환한다. 영속 상태가 필요한 트랜잭션 안에서는 사용하지 않는다.
+ * 메트릭: user.lookup.batch.size (병합된 조회 1회당 ID 수)
+ */
+@Slf4j
+@Component
+public class UserLookupCoalescer {
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final DistributionSummary batchSize;
+    private final Shard[] shards;
+
+    public UserLookupCoalescer(UserRepository userRepository, MeterRegistry meterRegistry,
+                               @Value("${user.lookup.coalescing.enabled:true}") boolean enabled,
+                               @Value("${user.lookup.coalescing.window:0ms}") Duration window,
+                               @Value("${user.lookup.coalescing.max-batch-size:100}") int maxBatchSize,
+                               @Value("${user.lookup.coalescing.shards:4}") int shards) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = Math.max(1, Math.min(maxBatchSize, BatchIds.MAX_IDS));
+        this.shards = new Shard[Math.max(1, shards)];
+        for (int i = 0; i < this.shards.length; i++) {
+            this.shards[i] = new Shard();
+        }
+        this.batchSize = DistributionSummary.builder("user.lookup.batch.size")
+                .description("병합된 사용자 단건 조회 1회당 ID 수")
+                .serviceLevelObjectives(1, 2, 5, 10, 50, 100)
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<User> findById(Long id) {
+        Shard shard = shards[Math.floorMod(Objects.hashCode(id), shards.length)];
+        Lookup lookup = new Lookup(id);
+        boolean leader;
+        synchronized (shard.queue) {
+            shard.queue.add(lookup);
+            leader = !shard.running;
+            shard.running = true;
+        }
+        if (leader) {
+            drain(shard);
+        } else {
+            // 결과를 받거나, 앞선 리더로부터 다음 리더로 지정될 때까지 대기
+            CompletableFuture.anyOf(lookup.result, lookup.promoted).join();
+            if (!lookup.result.isDone()) {
+                drain(shard);
+            }
+        }
+        try {
+            return lookup.result.join();
+        } catch (CompletionException e) {
+            // 리더 스레드에서 발생한 조회 예외를 호출자에게 그대로 전달
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    // 샤드 대기열에서 최대 maxBatchSize 건을 꺼내 한 번에 조회하고, 남은 요청이 있으면 다음 리더를 지정
+    private void drain(Shard shard) {
+        if (windowNanos > 0) {
+            LockSupport.parkNanos(windowNanos);
+        }
+        List<Lookup> batch = new ArrayList<>();
+        synchronized (shard.queue) {
+            while (!shard.queue.isEmpty() && batch.size() < maxBatchSize) {
+                batch.add(shard.queue.poll());
+            }
+        }
+
+        try {
+            Map<Long, User> found = new HashMap<>();
+            for (User user : userRepository.findByIdIn(batch.stream().map(Lookup::id).distinct().toList())) {
+                found.put(user.getId(), user);
+            }
+            batchSize.record(batch.size());
+            // 같은 ID를 요청한 호출자끼리도 서로 다른 사본을 받음
+            batch.forEach(lookup -> lookup.result.complete(
+                    Optional.ofNullable(found.get(lookup.id())).map(UserLookupCoalescer::detachedCopy)));
+        } catch (RuntimeException e) {
+            log.warn("사용자 병합 조회 실패: {}건", batch.size(), e);
+            batch.forEach(lookup -> lookup.result.completeExceptionally(e));
+        } finally {
+            Lookup next;
+            synchronized (shard.queue) {
+                next = shard.queue.peek();
+                shard.running = next != null;
+            }
+            if (next != null) {
+                next.promoted.complete(null);
+            }
+        }
+    }
+
+    // 리더의 영속성 컨텍스트와 분리된 사본 (region 은 id / name 만, users 연관관계는 포함하지 않음)
+    private static User detachedCopy(User user) {
+        Region region = null;
+        if (user.getRegion() != null) {
+            region = new Region(user.getRegion().getName());
+            region.setId(user.getRegion().getId());
+        }
+        return new User(user.getId(), user.getName(), user.getNameKey(), user.getEmail(), region);
+    }
+
+    // ID 샤드별 대기열과 리더 실행 여부
+    private static final class Shard {
+
+        private final ArrayDeque<Lookup> queue = new ArrayDeque<>();
+        private boolean running;
+    }
+
+    private record Lookup(Long id, CompletableFuture<Optional<User>> result, CompletableFuture<Void> promoted) {
+
+        Lookup(Long id) {
+            this(id, new CompletableFuture<>(), new CompletableFuture<>());
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package com.skala.springbootsample.service;
+
+import com.skala.springbootsample.domain.Region;
+import com.skala.springbootsample.domain.User;
+import com.skala.springbootsample.dto.UserSearchHit;
+import com.skala.springbootsample.dto.UserSummary;
+import com.skala.springbootsample.repo.RegionRepository;
+import com.skala.springbootsample.repo.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 이름 검색 색인 (in-process)
+ *
+ * 정규화된 이름 키(User.normalizeName)를 기준으로 두 가지 색인을 메모리에 유지한다.
+ * - 정렬된 키 맵(TreeMap): 완전 일치(1.0) / 접두어 일치(0.8 ~ 1.0, 키 길이에 가까울수록 높음)
+ * - 트라이그램 역색인: 오타가 있는 이름의 유사도 검색 (Jaccard 유사도 × 0.8, user.search.min-similarity 이상만)
+ * 기동 시 name_key 가 비어 있는 행을 채운 뒤 DB에서 한 번 적재하고,
+ * 이후에는 UserService / UserBulkImportService 의 변경을 커밋 시점에 반영한다.
+ * 색인은 인스턴스 로컬이므로 다른 인스턴스나 DB 직접 변경은 rebuild() 전까지 반영되지 않는다.
+ * 색인 항목에는 지역 ID만 두고, 지역명은 검색 결과를 만들 때 지역 캐시(RegionCache)로 채운다. (지역명 변경이 바로 반영되도록)
+ * 메트릭: user.search.index.size
+ */
+@Slf4j
+@Component
+public class UserSearchIndex {
+
+    public static final String EXACT = "exact";
+    public static final String PREFIX = "prefix";
+    public static final String FUZZY = "fuzzy";
+
+    private static final double PREFIX_BASE = 0.8;
+    private static final double FUZZY_WEIGHT = 0.8;
+    private static final int BACKFILL_BATCH = 500;
+    private static final int LOAD_BATCH = 1000;
+
+    private static final Comparator<UserSearchHit> RANKING = Comparator.comparingDouble(UserSearchHit::score).reversed()
+            .thenComparing(UserSearchHit::name)
+            .thenComparing(UserSearchHit::id);
+
+    private final UserRepository userRepository;
+    private final RegionRepository regionRepository;
+    private final RegionCache regionCache;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final double minSimilarity;
+    private final int defaultLimit;
+    private final int maxLimit;
+
+    // 읽기(검색)는 동시에, 변경은 단독으로 수행
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final NavigableMap<String, Set<Long>> idsByKey = new TreeMap<>();
+    private final Map<String, Set<Long>> idsByTrigram = new HashMap<>();
+    // 적재 중에 커밋된 변경 (적재 중인 DB 스냅샷보다 최신이므로 스냅샷으로 덮어쓰지 않음)
+    private final Set<Long> touchedDuringLoad = new HashSet<>();
+    private boolean loading = false;
+    private volatile boolean ready = false;
+
+    public UserSearchIndex(UserRepository userRepository,
+                           RegionRepository regionRepository,
+                           RegionCache regionCache,
+                           TransactionTemplate transactionTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${user.search.enabled:true}") boolean enabled,
+                           @Value("${user.search.min-similarity:0.3}") double minSimilarity,
+                           @Value("${user.search.default-limit:10}") int defaultLimit,
+                           @Value("${user.search.max-limit:50}") int maxLimit) {
+        this.userRepository = userRepository;
+        this.regionRepository = regionRepository;
+        this.regionCache = regionCache;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.minSimilarity = minSimilarity;
+        this.maxLimit = Math.max(1, maxLimit);
+        this.defaultLimit = Math.max(1, Math.min(defaultLimit, this.maxLimit));
+        Gauge.builder("user.search.index.size", this, UserSearchIndex::size)
+                .description("사용자 이름 검색 색인에 적재된 사용자 수")
+                .register(meterRegistry);
+    }
+
+    // 색인 검색 가능 여부 (비활성화 또는 적재 전이면 false)
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 초기 데이터 적재(CommandLineRunner) 이후 색인 구성 (JIT 워밍업(WarmupRunner)보다 먼저)
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    // name_key 백필 후 DB 전체로 색인 재구성 (적재 중에는 isReady() == false)
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        int backfilled = backfillNameKeys();
+
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            loading = true;
+            entries.clear();
+            idsByKey.clear();
+            idsByTrigram.clear();
+            touchedDuringLoad.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<UserSummary> rows = userRepository.streamSummaries(null, null)) {
+                    List<UserSummary> batch = new ArrayList<>(LOAD_BATCH);
+                    rows.forEach(row -> {
+                        batch.add(row);
+                        if (batch.size() >= LOAD_BATCH) {
+                            load(batch);
+                            batch.clear();
+                        }
+                    });
+                    load(batch);
+                }
+            });
+            ready = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                loading = false;
+                touchedDuringLoad.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("사용자 검색 색인 구성: {}명 (name_key 백필 {}건), {}ms",
+                size(), backfilled, System.currentTimeMillis() - startedAt);
+    }
+
+    // name_key 컬럼 추가 이전에 저장된 행의 키 채우기 (BACKFILL_BATCH 건씩 커밋)
+    private int backfillNameKeys() {
+        int total = 0;
+        int updated;
+        do {
+            updated = transactionTemplate.execute(status -> {
+                List<User> users = userRepository.findByNameKeyIsNull(PageRequest.of(0, BACKFILL_BATCH));
+                users.forEach(user -> user.setNameKey(User.normalizeName(user.getName())));
+                return users.size();
+            });
+            total += updated;
+        } while (updated == BACKFILL_BATCH);
+        return total;
+    }
+
+    private void load(List<UserSummary> rows) {
+        lock.writeLock().lock();
+        try {
+            for (UserSummary row : rows) {
+                if (!touchedDuringLoad.contains(row.id())) {
+                    put(row);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 사용자 생성 / 수정 (커밋 후 반영)
+    void onUserSaved(User user) {
+        if (!enabled) {
+            return;
+        }
+        UserSummary summary = new UserSummary(user.getId(), user.getName(), user.getEmail(),
+                user.getRegion() != null ? user.getRegion().getId() : null, null);
+        TransactionCallbacks.afterCommit(() -> apply(List.of(summary), List.of()));
+    }
+
+    // 사용자 삭제 (커밋 후 반영)
+    void onUserDeleted(Long id) {
+        if (!enabled) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> apply(List.of(), List.of(id)));
+    }
+
+    // 대량 등록된 사용자 (청크 트랜잭션 안에서 조회한 행, 커밋 후 반영)
+    void onUsersImported(List<UserSummary> rows) {
+        if (!enabled || rows.isEmpty()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> apply(rows, List.of()));
+    }
+
+    private void apply(List<UserSummary> saved, List<Long> deleted) {
+        lock.writeLock().lock();
+        try {
+            for (UserSummary row : saved) {
+                if (loading) {
+                    touchedDuringLoad.add(row.id());
+                }
+                put(row);
+            }
+            for (Long id : deleted) {
+                if (loading) {
+                    touchedDuringLoad.add(id);
+                }
+                remove(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 이름 검색: 점수 내림차순 상위 limit건 (limit 생략 시 default-limit, 최대 max-limit)
+    public List<UserSearchHit> search(String query, Integer limit) {
+        String key = requireKey(query);
+        Map<Long, UserSearchHit> hits = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            // 완전 일치 / 접두어 일치
+            for (Map.Entry<String, Set<Long>> byKey
+                    : idsByKey.subMap(key, true, key + Character.MAX_VALUE, false).entrySet()) {
+                boolean exact = byKey.getKey().equals(key);
+                double score = exact ? 1.0 : PREFIX_BASE + (1 - PREFIX_BASE) * key.length() / byKey.getKey().length();
+                for (Long id : byKey.getValue()) {
+                    hits.put(id, hit(entries.get(id), score, exact ? EXACT : PREFIX));
+                }
+            }
+
+            // 트라이그램 유사도 (이미 일치한 사용자는 제외)
+            Set<String> queryTrigrams = trigrams(key);
+            Map<Long, Integer> overlaps = new HashMap<>();
+            for (String trigram : queryTrigrams) {
+                for (Long id : idsByTrigram.getOrDefault(trigram, Set.of())) {
+                    overlaps.merge(id, 1, Integer::sum);
+                }
+            }
+            overlaps.forEach((id, overlap) -> {
+                if (hits.containsKey(id)) {
+                    return;
+                }
+                Entry entry = entries.get(id);
+                double similarity = (double) overlap / (queryTrigrams.size() + entry.trigrams().size() - overlap);
+                if (similarity >= minSimilarity) {
+                    hits.put(id, hit(entry, FUZZY_WEIGHT * similarity, FUZZY));
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return withRegionNames(hits.values().stream()
+                .sorted(RANKING)
+                .limit(normalizeLimit(limit))
+                .toList());
+    }
+
+    // 결과의 지역명을 현재 값으로 채움 (지역 캐시, 캐시에 없는 지역만 IN 쿼리 한 번)
+    private List<UserSearchHit> withRegionNames(List<UserSearchHit> hits) {
+        Set<Long> regionIds = hits.stream()
+                .map(UserSearchHit::regionId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (regionIds.isEmpty()) {
+            return hits;
+        }
+        Map<Long, String> regionNames = regionCache.getAllById(regionIds, regionRepository::findAllById).stream()
+                .collect(Collectors.toMap(Region::getId, Region::getName));
+        return hits.stream()
+                .map(hit -> new UserSearchHit(hit.id(), hit.name(), hit.email(), hit.regionId(),
+                        regionNames.get(hit.regionId()), hit.score(), hit.match()))
+                .toList();
+    }
+
+    public int normalizeLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return defaultLimit;
+        }
+        return Math.min(limit, maxLimit);
+    }
+
+    // 검색어를 이름 키로 정규화 (비어 있으면 IllegalArgumentException)
+    public static String requireKey(String query) {
+        String key = User.normalizeName(query);
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("검색어는 필수입니다.");
+        }
+        return key;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 이하 쓰기 락 안에서 호출
+
+    private void put(UserSummary row) {
+        remove(row.id());
+        String key = User.normalizeName(row.name());
+        Set<String> trigrams = trigrams(key);
+        // 지역명은 보관하지 않음 (검색 시 withRegionNames 로 채움)
+        UserSummary user = new UserSummary(row.id(), row.name(), row.email(), row.regionId(), null);
+        entries.put(row.id(), new Entry(user, key, trigrams));
+        idsByKey.computeIfAbsent(key, k -> new HashSet<>()).add(row.id());
+        for (String trigram : trigrams) {
+            idsByTrigram.computeIfAbsent(trigram, t -> new HashSet<>()).add(row.id());
+        }
+    }
+
+    private void remove(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        removeId(idsByKey, entry.key(), id);
+        for (String trigram : entry.trigrams()) {
+            removeId(idsByTrigram, trigram, id);
+        }
+    }
+
+    private static void removeId(Map<String, Set<Long>> index, String term, Long id) {
+        Set<Long> ids = index.get(term);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            index.remove(term);
+        }
+    }
+
+    // pg_trgm 방식 트라이그램: 앞 2칸 / 뒤 1칸 공백을 붙여 짧은 이름과 앞부분 일치에 가중치
+    static Set<String> trigrams(String key) {
+        String padded = "  " + key + " ";
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private static UserSearchHit hit(Entry entry, double score, String match) {
+        UserSummary user = entry.user();
+        return new UserSearchHit(user.id(), user.name(), user.email(), user.regionId(), null,
+                Math.round(score * 1000) / 1000.0, match);
+    }
+
+    private record Entry(UserSummary user, String key, Set<String> trigrams) {
+    }
+}
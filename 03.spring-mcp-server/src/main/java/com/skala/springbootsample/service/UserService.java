@@ -2,17 +2,30 @@ package com.skala.springbootsample.service;
 
 import com.skala.springbootsample.domain.User;
 import com.skala.springbootsample.domain.Region;
+import com.skala.springbootsample.dto.UserPage;
+import com.skala.springbootsample.dto.UserSearchHit;
+import com.skala.springbootsample.dto.UserSummary;
 import com.skala.springbootsample.repo.UserRepository;
-import com.skala.springbootsample.repo.RegionRepository;
+import com.skala.springbootsample.repo.routing.ReadYourWrites;
+import com.skala.springbootsample.service.outbox.ChangeEventOutbox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -20,20 +33,63 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class UserService {
 
-    private final UserRepository userRepository;
-    private final RegionRepository regionRepository;
+    // 페이지 크기 기본값 / 최대값
+    public static final int DEFAULT_PAGE_LIMIT = 50;
+    public static final int MAX_PAGE_LIMIT = 500;
 
-    // 모든 사용자 조회 (이름 필터 옵션)
+    private final UserRepository userRepository;
+    private final RegionService regionService;
+    private final StatisticsService statisticsService;
+    private final UserLookupCoalescer userLookupCoalescer;
+    private final UserSearchIndex userSearchIndex;
+    private final ChangeEventOutbox changeEventOutbox;
+    // db.routing.enabled=true 인 경우에만 존재
+    private final ObjectProvider<ReadYourWrites> readYourWrites;
+
+    // 모든 사용자 조회 (이름 필터 옵션, 대소문자 구분 없이 name_key 인덱스로 조회)
     public List<User> findAll(Optional<String> name) {
         if (name.isPresent()) {
-            return userRepository.findByNameIgnoreCase(name.get());
+            return userRepository.findByNameKey(User.normalizeName(name.get()));
         }
         return userRepository.findAll();
     }
 
+    // 이름 검색 (완전 일치 > 접두어 > 오타 허용 유사도 순, 상위 limit건)
+    // 검색 색인이 꺼져 있거나 아직 적재 전이면 name_key 완전 일치 조회로 대체
+    public List<UserSearchHit> search(String query, Integer limit) {
+        if (userSearchIndex.isReady()) {
+            return userSearchIndex.search(query, limit);
+        }
+        return userRepository.findByNameKey(UserSearchIndex.requireKey(query)).stream()
+                .limit(userSearchIndex.normalizeLimit(limit))
+                .map(user -> new UserSearchHit(user.getId(), user.getName(), user.getEmail(),
+                        user.getRegion().getId(), user.getRegion().getName(), 1.0, UserSearchIndex.EXACT))
+                .toList();
+    }
+
     // ID로 사용자 조회
+    // 트랜잭션 밖에서 호출되면 동시에 들어온 단건 조회와 병합하여 IN 쿼리로 처리 (UserLookupCoalescer)
+    // 병합 조회는 리더 스레드에서 라우팅되므로, 쓰기 직후라 primary 에서 읽어야 하는 요청은 병합하지 않음
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Optional<User> findById(Long id) {
-        return userRepository.findById(id);
+        if (!userLookupCoalescer.isEnabled() || TransactionSynchronizationManager.isActualTransactionActive()
+                || requiresPrimary()) {
+            return userRepository.findById(id);
+        }
+        return userLookupCoalescer.findById(id);
+    }
+
+    private boolean requiresPrimary() {
+        ReadYourWrites tracker = readYourWrites.getIfAvailable();
+        return tracker != null && tracker.requiresPrimary();
+    }
+
+    // 여러 ID로 사용자 조회 (IN 쿼리 한 번, 요청 순서 유지, 중복 / 없는 ID 제외, 최대 BatchIds.MAX_IDS개)
+    public List<User> findAllById(Collection<Long> ids) {
+        List<Long> distinct = BatchIds.distinct(ids);
+        Map<Long, User> found = userRepository.findByIdIn(distinct).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return distinct.stream().map(found::get).filter(Objects::nonNull).toList();
     }
 
     // 지역별 사용자 조회
@@ -46,6 +102,46 @@ public class UserService {
         return userRepository.findByRegionName(regionName);
     }
 
+    // 사용자 목록 페이지 조회 (키셋 페이지네이션, 이름 필터 옵션)
+    public UserPage findPage(Long afterId, Integer limit, Optional<String> name) {
+        int size = normalizeLimit(limit);
+        List<UserSummary> rows = userRepository.findSummariesAfter(
+                afterId != null ? afterId : 0L, name.map(User::normalizeName).orElse(null), PageRequest.of(0, size + 1));
+        return toPage(rows, size);
+    }
+
+    // 지역별 사용자 페이지 조회 (키셋 페이지네이션)
+    public UserPage findPageByRegionId(Long regionId, Long afterId, Integer limit) {
+        int size = normalizeLimit(limit);
+        List<UserSummary> rows = userRepository.findSummariesByRegionIdAfter(
+                regionId, afterId != null ? afterId : 0L, PageRequest.of(0, size + 1));
+        return toPage(rows, size);
+    }
+
+    // 여러 지역의 사용자 페이지 조회 (키셋 페이지네이션, IN 쿼리 한 번, 최대 BatchIds.MAX_IDS개 지역)
+    public UserPage findPageByRegionIds(Collection<Long> regionIds, Long afterId, Integer limit) {
+        int size = normalizeLimit(limit);
+        List<UserSummary> rows = userRepository.findSummariesByRegionIdInAfter(
+                BatchIds.distinct(regionIds), afterId != null ? afterId : 0L, PageRequest.of(0, size + 1));
+        return toPage(rows, size);
+    }
+
+    private int normalizeLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_PAGE_LIMIT;
+        }
+        return Math.min(limit, MAX_PAGE_LIMIT);
+    }
+
+    // limit + 1건을 조회해서 다음 페이지 존재 여부를 판단
+    private UserPage toPage(List<UserSummary> rows, int size) {
+        if (rows.size() > size) {
+            List<UserSummary> users = List.copyOf(rows.subList(0, size));
+            return new UserPage(users, size, users.get(size - 1).id());
+        }
+        return new UserPage(rows, size, null);
+    }
+
     // 사용자 생성
     @Transactional
     public User create(User user) {
@@ -56,12 +152,16 @@ public class UserService {
 
         // 지역이 존재하는지 확인
         if (user.getRegion() != null && user.getRegion().getId() != null) {
-            Region region = regionRepository.findById(user.getRegion().getId())
+            Region region = regionService.findById(user.getRegion().getId())
                     .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 지역입니다: " + user.getRegion().getId()));
             user.setRegion(region);
         }
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        statisticsService.onUserCreated(saved.getRegion() != null ? saved.getRegion().getId() : null);
+        userSearchIndex.onUserSaved(saved);
+        changeEventOutbox.user(ChangeEventOutbox.CREATED, saved);
+        return saved;
     }
 
     // 사용자 수정
@@ -81,22 +181,30 @@ public class UserService {
 
                     // 지역 정보 업데이트
                     if (updatedUser.getRegion() != null && updatedUser.getRegion().getId() != null) {
-                        Region region = regionRepository.findById(updatedUser.getRegion().getId())
+                        Region region = regionService.findById(updatedUser.getRegion().getId())
                                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 지역입니다: " + updatedUser.getRegion().getId()));
+                        statisticsService.onUserMoved(user.getRegion() != null ? user.getRegion().getId() : null, region.getId());
                         user.setRegion(region);
                     }
 
-                    return userRepository.save(user);
+                    User saved = userRepository.save(user);
+                    userSearchIndex.onUserSaved(saved);
+                    changeEventOutbox.user(ChangeEventOutbox.UPDATED, saved);
+                    return saved;
                 });
     }
 
     // 사용자 삭제
     @Transactional
     public boolean delete(Long id) {
-        if (userRepository.existsById(id)) {
-            userRepository.deleteById(id);
-            return true;
-        }
-        return false;
+        return userRepository.findById(id)
+                .map(user -> {
+                    userRepository.delete(user);
+                    statisticsService.onUserDeleted(user.getRegion() != null ? user.getRegion().getId() : null);
+                    userSearchIndex.onUserDeleted(user.getId());
+                    changeEventOutbox.user(ChangeEventOutbox.DELETED, user);
+                    return true;
+                })
+                .orElse(false);
     }
 }
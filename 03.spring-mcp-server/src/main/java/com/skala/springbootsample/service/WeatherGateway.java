@@ -0,0 +1,248 @@
+package com.skala.springbootsample.service;
+
+import com.skala.springbootsample.config.WeatherProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 날씨 API 게이트웨이
+ *
+ * - 도시별 TTL 캐시: cache-ttl 이내는 캐시 값을 응답하고, stale-ttl 이내는 이전 값을 즉시 응답하면서 백그라운드로 갱신한다.
+ * - single-flight: 같은 도시에 대한 동시 요청은 하나의 upstream 호출을 공유한다.
+ * - 연결/응답 타임아웃과 크기를 지정한 커넥션 풀을 사용한다.
+ * - 서킷 브레이커: 연속 실패가 임계치를 넘으면 open-duration 동안 upstream 호출을 차단하고 캐시(stale) 값으로 대체한다.
+ */
+@Slf4j
+@Service
+public class WeatherGateway {
+
+    private final WeatherProperties properties;
+    private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private final Map<String, CachedWeather> cache = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter coalesced;
+    private final Counter rejected;
+    private final Counter errors;
+
+    public WeatherGateway(WebClient.Builder builder, WeatherProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("weather-api")
+                .maxConnections(properties.getMaxConnections())
+                .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+                .responseTimeout(properties.getReadTimeout());
+
+        this.webClient = builder
+                .baseUrl(properties.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+
+        this.hits = requestCounter(meterRegistry, "hit");
+        this.staleHits = requestCounter(meterRegistry, "stale");
+        this.misses = requestCounter(meterRegistry, "miss");
+        this.coalesced = requestCounter(meterRegistry, "coalesced");
+        this.rejected = requestCounter(meterRegistry, "rejected");
+        this.errors = requestCounter(meterRegistry, "error");
+        Gauge.builder("weather.gateway.circuit.open", circuitBreaker, cb -> cb.isOpen() ? 1 : 0)
+                .description("날씨 API 서킷 브레이커 open 여부 (1: open)")
+                .register(meterRegistry);
+        Gauge.builder("weather.gateway.cache.size", cache, Map::size)
+                .description("날씨 캐시 도시 수")
+                .register(meterRegistry);
+
+        log.info("WeatherGateway initialized with base URL: {}, API path: {}, API key: {}",
+                properties.getBaseUrl(), properties.getPath(), properties.getKey() != null ? "설정됨" : "null");
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("weather.gateway.requests")
+                .tag("result", result)
+                .description("날씨 조회 요청 수 (결과별)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 도시의 현재 날씨 JSON을 조회합니다. 실패 시 {"error": "..."} 형식의 JSON을 반환합니다.
+     */
+    public Mono<String> getCurrentWeather(String city) {
+        String key = city == null ? "" : city.trim().toLowerCase(Locale.ROOT);
+        long now = System.nanoTime();
+        CachedWeather cached = cache.get(key);
+
+        if (cached != null && cached.ageNanos(now) < properties.getCacheTtl().toNanos()) {
+            hits.increment();
+            return Mono.just(cached.body());
+        }
+
+        if (cached != null && cached.ageNanos(now) < properties.getStaleTtl().toNanos()) {
+            // stale-while-revalidate: 이전 값을 바로 응답하고 백그라운드로 갱신
+            staleHits.increment();
+            refresh(key, city).exceptionally(ex -> null);
+            return Mono.just(cached.body());
+        }
+
+        return Mono.fromFuture(() -> refresh(key, city), true)
+                .onErrorResume(ex -> {
+                    errors.increment();
+                    String message = ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName();
+                    log.error("날씨 조회 실패: {}", message);
+                    // stale-ttl이 지났더라도 남아 있는 값이 있으면 오류 대신 응답
+                    CachedWeather fallback = cache.get(key);
+                    return Mono.just(fallback != null ? fallback.body() : errorJson(message));
+                });
+    }
+
+    // 같은 도시에 대한 진행 중인 호출이 있으면 공유 (single-flight)
+    private CompletableFuture<String> refresh(String key, String city) {
+        CompletableFuture<String> existing = inFlight.get(key);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+
+        CompletableFuture<String> call = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+
+        if (!circuitBreaker.tryAcquire()) {
+            rejected.increment();
+            inFlight.remove(key, call);
+            call.completeExceptionally(new IllegalStateException("날씨 API가 일시적으로 차단되었습니다 (circuit open)"));
+            return call;
+        }
+
+        misses.increment();
+        fetch(city).subscribe(
+                body -> {
+                    putCache(key, body);
+                    circuitBreaker.onSuccess();
+                    inFlight.remove(key, call);
+                    call.complete(body);
+                },
+                ex -> {
+                    if (isUpstreamFailure(ex)) {
+                        circuitBreaker.onFailure();
+                    } else {
+                        circuitBreaker.onSuccess();
+                    }
+                    inFlight.remove(key, call);
+                    call.completeExceptionally(ex);
+                });
+        return call;
+    }
+
+    private Mono<String> fetch(String city) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(properties.getPath())
+                        .queryParam("q", city)
+                        .queryParam("appid", properties.getKey())
+                        .queryParam("units", "metric")
+                        .queryParam("lang", "kr")
+                        .build())
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(properties.getReadTimeout().plus(properties.getConnectTimeout()));
+    }
+
+    private void putCache(String key, String body) {
+        if (cache.size() >= properties.getMaxCacheEntries() && !cache.containsKey(key)) {
+            long now = System.nanoTime();
+            cache.entrySet().removeIf(e -> e.getValue().ageNanos(now) >= properties.getStaleTtl().toNanos());
+            if (cache.size() >= properties.getMaxCacheEntries()) {
+                cache.keySet().stream().findAny().ifPresent(cache::remove);
+            }
+        }
+        cache.put(key, new CachedWeather(body, System.nanoTime()));
+    }
+
+    // 4xx(도시 없음, 잘못된 키 등)는 upstream 장애로 보지 않음
+    private static boolean isUpstreamFailure(Throwable ex) {
+        return !(ex instanceof WebClientResponseException response && response.getStatusCode().is4xxClientError());
+    }
+
+    private static String errorJson(String message) {
+        String escaped = message.replace("\\", "\\\\").replace("\"", "\\\"");
+        return "{\"error\": \"" + escaped + "\"}";
+    }
+
+    private record CachedWeather(String body, long fetchedAt) {
+
+        long ageNanos(long now) {
+            return now - fetchedAt;
+        }
+    }
+
+    // 연속 실패 기반 서킷 브레이커 (CLOSED → OPEN → HALF_OPEN 시험 호출 1건 → CLOSED/OPEN)
+    private final class CircuitBreaker {
+
+        private int consecutiveFailures = 0;
+        private boolean open = false;
+        private boolean trialInProgress = false;
+        private long openUntil = 0L;
+
+        synchronized boolean tryAcquire() {
+            if (!open) {
+                return true;
+            }
+            if (!trialInProgress && System.nanoTime() - openUntil >= 0) {
+                trialInProgress = true;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized void onSuccess() {
+            if (open) {
+                log.info("날씨 API 서킷 브레이커 CLOSED");
+            }
+            consecutiveFailures = 0;
+            open = false;
+            trialInProgress = false;
+        }
+
+        synchronized void onFailure() {
+            consecutiveFailures++;
+            if (trialInProgress || consecutiveFailures >= properties.getFailureThreshold()) {
+                if (!open || trialInProgress) {
+                    log.warn("날씨 API 서킷 브레이커 OPEN ({}회 연속 실패, {} 동안 차단)",
+                            consecutiveFailures, properties.getOpenDuration());
+                }
+                open = true;
+                trialInProgress = false;
+                openUntil = System.nanoTime() + properties.getOpenDuration().toNanos();
+            }
+        }
+
+        synchronized boolean isOpen() {
+            return open;
+        }
+    }
+}
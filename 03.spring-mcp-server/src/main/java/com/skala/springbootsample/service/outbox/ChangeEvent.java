@@ -0,0 +1,15 @@
+package com.skala.springbootsample.service.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+
+// sink 로 발행되는 변경 이벤트 (id: outbox 순번, 같은 대상의 이벤트는 id 순서가 변경 순서)
+public record ChangeEvent(
+        Long id,
+        String aggregateType,
+        Long aggregateId,
+        String eventType,
+        @JsonRawValue String payload,
+        Instant createdAt) {
+}
@@ -0,0 +1,146 @@
+package com.skala.springbootsample.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skala.springbootsample.config.OutboxProperties;
+import com.skala.springbootsample.domain.OutboxEvent;
+import com.skala.springbootsample.domain.Region;
+import com.skala.springbootsample.domain.User;
+import com.skala.springbootsample.dto.UserSummary;
+import com.skala.springbootsample.repo.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.List;
+
+/**
+ * 변경 이벤트 outbox 기록
+ *
+ * UserService / RegionService 의 변경과 같은 트랜잭션에서 outbox_events 에 한 행씩 추가한다. (트랜잭션 밖 호출은 예외)
+ * 커밋되어야 이벤트도 남고, 롤백되면 함께 사라지므로 DB 상태와 발행 이벤트가 어긋나지 않는다.
+ * 기록 전에 영속성 컨텍스트를 flush 해서 대상 행 잠금을 먼저 잡으므로,
+ * 같은 대상에 대한 동시 변경은 커밋 순서대로 outbox id 를 받는다. (OutboxRelay 가 id 순으로 발행)
+ * 커밋되면 OutboxRelay 에 알려 다음 주기에 바로 발행되게 한다.
+ * 메트릭: outbox.events.appended (aggregate, type)
+ */
+@Component
+public class ChangeEventOutbox {
+
+    public static final String USER = "user";
+    public static final String REGION = "region";
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+
+    private static final String INSERT_SQL =
+            "insert into outbox_events (aggregate_type, aggregate_id, event_type, payload, created_at) values (?, ?, ?, ?, ?)";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final OutboxRelay outboxRelay;
+    private final boolean enabled;
+    private final Clock clock = Clock.systemUTC();
+
+    public ChangeEventOutbox(OutboxEventRepository outboxEventRepository,
+                             EntityManager entityManager,
+                             JdbcTemplate jdbcTemplate,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             OutboxRelay outboxRelay,
+                             OutboxProperties properties) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.outboxRelay = outboxRelay;
+        this.enabled = properties.isEnabled();
+    }
+
+    // 사용자 변경 (삭제는 삭제 직전 상태)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void user(String eventType, User user) {
+        Region region = user.getRegion();
+        append(USER, user.getId(), eventType, new UserSummary(user.getId(), user.getName(), user.getEmail(),
+                region != null ? region.getId() : null, region != null ? region.getName() : null));
+    }
+
+    // 지역 변경
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void region(String eventType, Region region) {
+        append(REGION, region.getId(), eventType, new RegionPayload(region.getId(), region.getName()));
+    }
+
+    // 지역 삭제 (엔티티를 읽지 않고 ID로 삭제하는 경우)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void regionDeleted(Long id) {
+        append(REGION, id, DELETED, new RegionPayload(id, null));
+    }
+
+    // 대량 등록된 사용자 (JDBC batch insert, id 순)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void usersCreated(List<UserSummary> users) {
+        if (!enabled || users.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(clock.instant());
+        List<UserSummary> ordered = users.stream()
+                .sorted((a, b) -> Long.compare(a.id(), b.id()))
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, ordered, ordered.size(), (ps, user) -> {
+            ps.setString(1, USER);
+            ps.setLong(2, user.id());
+            ps.setString(3, CREATED);
+            ps.setString(4, toJson(user));
+            ps.setTimestamp(5, now);
+        });
+        meterRegistry.counter("outbox.events.appended", "aggregate", USER, "type", CREATED).increment(ordered.size());
+        signalAfterCommit();
+    }
+
+    private void append(String aggregateType, Long aggregateId, String eventType, Object payload) {
+        if (!enabled) {
+            return;
+        }
+        entityManager.flush();
+        outboxEventRepository.save(new OutboxEvent(aggregateType, aggregateId, eventType, toJson(payload), clock.instant()));
+        meterRegistry.counter("outbox.events.appended", "aggregate", aggregateType, "type", eventType).increment();
+        signalAfterCommit();
+    }
+
+    private void signalAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                outboxRelay.signal();
+            }
+        });
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("변경 이벤트 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    record RegionPayload(Long id, String name) {
+    }
+}
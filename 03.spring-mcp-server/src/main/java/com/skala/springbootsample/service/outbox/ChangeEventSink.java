@@ -0,0 +1,15 @@
+package com.skala.springbootsample.service.outbox;
+
+import java.util.List;
+
+/**
+ * 변경 이벤트 발행 대상
+ *
+ * OutboxRelay 가 id 순으로 정렬된 배치를 전달한다. 예외를 던지면 배치 전체가 다음 주기에 다시 전달되므로
+ * (at-least-once) 수신 측은 이벤트 id 로 중복을 걸러야 한다.
+ * Kafka 등 다른 대상은 이 인터페이스의 빈을 등록해 교체한다. (outbox.sink.type 의 기본 sink 대신 사용)
+ */
+public interface ChangeEventSink {
+
+    void publish(List<ChangeEvent> events) throws Exception;
+}
@@ -0,0 +1,42 @@
+package com.skala.springbootsample.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// 이벤트를 JSON Lines 로 파일 끝에 추가하는 sink (로컬 개발 / 로그 수집기 연동용, 배치마다 한 번 열고 닫음)
+public class FileChangeEventSink implements ChangeEventSink {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    public FileChangeEventSink(Path file, ObjectMapper objectMapper) {
+        this.file = file;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<ChangeEvent> events) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (ChangeEvent event : events) {
+                writer.write(objectMapper.writeValueAsString(event));
+                writer.write('\n');
+            }
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+}
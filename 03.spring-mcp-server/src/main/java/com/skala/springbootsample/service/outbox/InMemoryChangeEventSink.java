@@ -0,0 +1,50 @@
+package com.skala.springbootsample.service.outbox;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+// 최근 이벤트를 메모리에 보관하는 sink (단일 인스턴스, capacity 초과 시 가장 오래된 이벤트부터 제거)
+// 소비자는 GET /api/changes?afterId= 로 마지막으로 받은 id 이후 이벤트를 가져간다.
+public class InMemoryChangeEventSink implements ChangeEventSink {
+
+    private final int capacity;
+    private final Deque<ChangeEvent> events = new ArrayDeque<>();
+    private long lastEvictedId;
+
+    public InMemoryChangeEventSink(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    @Override
+    public synchronized void publish(List<ChangeEvent> batch) {
+        for (ChangeEvent event : batch) {
+            events.addLast(event);
+            if (events.size() > capacity) {
+                lastEvictedId = events.removeFirst().id();
+            }
+        }
+    }
+
+    // afterId 이후 이벤트 (id 순, 최대 limit 건)
+    public synchronized List<ChangeEvent> eventsAfter(long afterId, int limit) {
+        return events.stream()
+                .filter(event -> event.id() > afterId)
+                .limit(limit)
+                .toList();
+    }
+
+    // afterId 이후 이벤트 중 capacity 초과로 이미 제거된 것이 있는지 (소비자가 너무 뒤처진 경우)
+    public synchronized boolean evictedAfter(long afterId) {
+        return afterId < lastEvictedId;
+    }
+
+    public synchronized List<ChangeEvent> events() {
+        return List.copyOf(events);
+    }
+
+    public synchronized void clear() {
+        events.clear();
+        lastEvictedId = 0;
+    }
+}
@@ -0,0 +1,181 @@
+package com.skala.springbootsample.service.outbox;
+
+import com.skala.springbootsample.config.OutboxProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 이벤트 발행기
+ *
+ * 발행 대기 이벤트를 id 순으로 batch-size 개씩 잠금 조회(SELECT ... FOR UPDATE)해 모든 ChangeEventSink 에 전달하고,
+ * 같은 트랜잭션에서 삭제한다. sink 가 실패하면 롤백하고 다음 주기에 같은 배치부터 다시 시도한다. (at-least-once, 순서 유지)
+ * 여러 인스턴스의 relay 가 동시에 돌면 뒤에 온 쪽이 잠금을 기다린다. (SKIP LOCKED 는 순서를 깨뜨리므로 사용하지 않음)
+ * 이 인스턴스에서 기록이 커밋되면(signal) 다음 interval 에 바로 조회하고, 그 외에는 idle-interval 마다만 조회해
+ * 변경이 없을 때 DB 폴링 부하를 줄인다. (다른 인스턴스 / 장애로 남은 이벤트는 idle-interval 안에 발행)
+ * 조회 / 삭제는 엔티티 대신 JdbcTemplate 으로 수행한다.
+ * 메트릭: outbox.events.published, outbox.publish.lag (기록 ~ 발행), outbox.relay.batch.size,
+ *        outbox.relay.duration (sink 전달 시간), outbox.publish.errors, outbox.pending (발행 대기 건수)
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private static final String SELECT_SQL = """
+            select id, aggregate_type, aggregate_id, event_type, payload, created_at
+            from outbox_events
+            order by id
+            limit ?
+            for update""";
+    private static final String DELETE_SQL = "delete from outbox_events where id in (%s)";
+    private static final String COUNT_SQL = "select count(*) from outbox_events";
+
+    private static final RowMapper<ChangeEvent> ROW_MAPPER = (rs, rowNum) -> new ChangeEvent(
+            rs.getLong("id"), rs.getString("aggregate_type"), rs.getLong("aggregate_id"),
+            rs.getString("event_type"), rs.getString("payload"), rs.getTimestamp("created_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<ChangeEventSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long idleIntervalNanos;
+    private final Clock clock = Clock.systemUTC();
+
+    // 마지막 조회 이후 이 인스턴스에서 커밋된 기록이 있거나 발행할 이벤트가 남아 있음 (기동 직후 한 번 조회)
+    private final AtomicBoolean signalled = new AtomicBoolean(true);
+    private volatile long lastPolledAt = System.nanoTime();
+
+    private final Counter published;
+    private final Counter errors;
+    private final Timer lag;
+    private final Timer relayDuration;
+    private final DistributionSummary batchSizes;
+    private final AtomicLong pending = new AtomicLong();
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate,
+                       List<ChangeEventSink> sinks,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       OutboxProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sinks = sinks;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = properties.isEnabled() && properties.getRelay().isEnabled();
+        this.batchSize = Math.max(1, properties.getRelay().getBatchSize());
+        this.maxBatchesPerRun = Math.max(1, properties.getRelay().getMaxBatchesPerRun());
+        this.idleIntervalNanos = properties.getRelay().getIdleInterval().toNanos();
+
+        this.published = Counter.builder("outbox.events.published")
+                .description("sink 로 발행된 변경 이벤트 수")
+                .register(meterRegistry);
+        this.errors = Counter.builder("outbox.publish.errors")
+                .description("변경 이벤트 발행 실패 횟수 (배치 단위)")
+                .register(meterRegistry);
+        this.lag = Timer.builder("outbox.publish.lag")
+                .description("outbox 기록부터 발행까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.relayDuration = Timer.builder("outbox.relay.duration")
+                .description("배치 하나를 sink 에 전달하는 데 걸린 시간")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("outbox.relay.batch.size")
+                .description("발행 배치 크기")
+                .register(meterRegistry);
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+                .description("발행 대기 이벤트 수 (마지막 relay 실행 시점)")
+                .register(meterRegistry);
+    }
+
+    // 이 인스턴스에서 outbox 기록이 커밋됨 (ChangeEventOutbox 가 커밋 후 호출)
+    public void signal() {
+        signalled.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval:500ms}")
+    public void scheduledRelay() {
+        if (!enabled) {
+            return;
+        }
+        if (!signalled.getAndSet(false) && System.nanoTime() - lastPolledAt < idleIntervalNanos) {
+            return;
+        }
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            log.warn("변경 이벤트 발행 실패, 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    // 발행 대기 이벤트를 최대 max-batches-per-run 배치까지 발행하고 발행한 이벤트 수 반환
+    public int relay() {
+        lastPolledAt = System.nanoTime();
+        int total = 0;
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                int count = transactionTemplate.execute(status -> relayBatch());
+                total += count;
+                if (count < batchSize) {
+                    break;
+                }
+                if (i == maxBatchesPerRun - 1) {
+                    // 남은 이벤트는 다음 주기에 이어서 발행
+                    signalled.set(true);
+                }
+            }
+        } catch (RuntimeException e) {
+            errors.increment();
+            signalled.set(true);
+            throw e;
+        } finally {
+            pending.set(jdbcTemplate.queryForObject(COUNT_SQL, Long.class));
+        }
+        return total;
+    }
+
+    private int relayBatch() {
+        List<ChangeEvent> events = jdbcTemplate.query(SELECT_SQL, ROW_MAPPER, batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        for (ChangeEventSink sink : sinks) {
+            try {
+                sink.publish(events);
+            } catch (Exception e) {
+                throw new IllegalStateException(sink.getClass().getSimpleName() + " 발행 실패: " + e.getMessage(), e);
+            }
+        }
+        relayDuration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+        jdbcTemplate.update(DELETE_SQL.formatted(String.join(",", Collections.nCopies(events.size(), "?"))),
+                events.stream().map(ChangeEvent::id).toArray());
+
+        Instant now = clock.instant();
+        for (ChangeEvent event : events) {
+            lag.record(Math.max(0, Duration.between(event.createdAt(), now).toNanos()), TimeUnit.NANOSECONDS);
+        }
+        published.increment(events.size());
+        batchSizes.record(events.size());
+        return events.size();
+    }
+}
@@ -0,0 +1,128 @@
+package com.skala.springbootsample.service.overload;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.skala.springbootsample.config.LoadSheddingProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 적응형 동시성 제한 (gradient + AIMD)
+ *
+ * 동시 실행 수가 limit 에 도달하면 새 요청은 대기 없이 거절하고, limit 은 완료된 요청의 응답 시간으로 조정한다.
+ * - window-size 개 표본마다 window 평균 응답 시간(short)과 장기 이동 평균(long)을 비교해
+ *   gradient = clamp(rtt-tolerance * long / short, 0.5, 1) 일 때 limit * gradient + sqrt(limit) 쪽으로 옮긴다.
+ *   (응답 시간이 평소 수준이면 sqrt(limit) 만큼 늘고, 대기가 쌓여 느려지면 줄어듦)
+ * - window 안에 5xx 실패(풀 타임아웃 등)가 있으면 limit * backoff-ratio 로 바로 줄인다.
+ * - 동시 실행 수가 limit 의 절반에도 못 미친 window 에서는 늘리지 않는다. (한가할 때 limit 이 계속 커지지 않게)
+ * MCP 와 REST 요청이 limit 하나를 공유하므로 Pod 전체 동시 실행 수의 상한으로 동작한다.
+ * 메트릭: load.shedding.limit, load.shedding.in.flight, load.shedding.rejections{endpoint}
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final LoadSheddingProperties.Limit settings;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    private volatile int limit;
+
+    // 아래 값은 onSample 에서만 (동기화하여) 변경
+    private double estimatedLimit;
+    private double longRtt;
+    private int windowCount;
+    private long windowRttSum;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+
+    public AdaptiveConcurrencyLimiter(LoadSheddingProperties.Limit settings, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        this.estimatedLimit = Math.clamp(settings.getInitial(), settings.getMin(), settings.getMax());
+        this.limit = (int) estimatedLimit;
+        Gauge.builder("load.shedding.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("현재 동시 실행 수 제한")
+                .register(meterRegistry);
+        Gauge.builder("load.shedding.in.flight", inFlight, AtomicInteger::get)
+                .description("제한 대상 요청 중 실행 중인 수")
+                .register(meterRegistry);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    // 실행 허가 (limit 에 도달했으면 false, 거절 수는 endpoint 별로 집계)
+    public boolean tryAcquire(String endpoint) {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejections.computeIfAbsent(endpoint, key -> Counter.builder("load.shedding.rejections")
+                                .tag("endpoint", key)
+                                .description("동시성 제한으로 거절한 요청 수")
+                                .register(meterRegistry))
+                        .increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // 완료된 요청의 응답 시간(나노초)과 실패 여부로 허가 반납
+    public void release(long rttNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        onSample(rttNanos, current, dropped);
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion, boolean dropped) {
+        windowCount++;
+        windowRttSum += rttNanos;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtCompletion);
+        windowDropped |= dropped;
+        if (windowCount < settings.getWindowSize()) {
+            return;
+        }
+        double shortRtt = Math.max(1, (double) windowRttSum / windowCount);
+        int maxInFlight = windowMaxInFlight;
+        boolean anyDropped = windowDropped;
+        windowCount = 0;
+        windowRttSum = 0;
+        windowMaxInFlight = 0;
+        windowDropped = false;
+
+        if (anyDropped) {
+            update(estimatedLimit * settings.getBackoffRatio());
+            return;
+        }
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            double factor = 2.0 / (settings.getLongWindow() + 1);
+            longRtt = longRtt * (1 - factor) + shortRtt * factor;
+        }
+        // 부하가 빠진 뒤 장기 평균이 과거의 느린 값에 머무르지 않도록 빠르게 낮춤
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        if (maxInFlight < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.clamp(settings.getRttTolerance() * longRtt / shortRtt, 0.5, 1.0);
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        update(estimatedLimit * (1 - settings.getSmoothing()) + target * settings.getSmoothing());
+    }
+
+    private void update(double newLimit) {
+        estimatedLimit = Math.clamp(newLimit, settings.getMin(), settings.getMax());
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,130 @@
+package com.skala.springbootsample.service.overload;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * /mcp, /api/** 요청에 AdaptiveConcurrencyLimiter 적용
+ *
+ * 허가를 얻지 못한 요청은 처리하지 않고 바로 503 + Retry-After 로 응답한다. (클라이언트가 재시도 가능)
+ * 응답 시간은 필터 진입부터 응답 완료까지이며, 비동기 응답(MCP 요청의 SSE 응답 등)은 완료 시점에 반납한다.
+ * GET 이벤트 스트림(MCP 세션 알림 스트림)은 연결 내내 열려 있으므로 제한하지 않는다.
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final List<String> paths;
+    private final List<String> excludePaths;
+    private final String retryAfterSeconds;
+
+    public LoadSheddingFilter(AdaptiveConcurrencyLimiter limiter, List<String> paths, List<String> excludePaths,
+                              Duration retryAfter) {
+        this.limiter = limiter;
+        this.paths = List.copyOf(paths);
+        this.excludePaths = List.copyOf(excludePaths);
+        this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfter.toSeconds()));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        if (!matches(paths, path) || matches(excludePaths, path)) {
+            return true;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return HttpMethod.GET.matches(request.getMethod())
+                && accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        if (!limiter.tryAcquire(path.startsWith("/mcp") ? "mcp" : "api")) {
+            reject(response);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            limiter.release(System.nanoTime() - start, true);
+            throw e;
+        }
+        if (request.isAsyncStarted()) {
+            request.getAsyncContext().addListener(new ReleaseOnComplete(start));
+        } else {
+            limiter.release(System.nanoTime() - start, isDropped(response));
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"overloaded\",\"retryAfterSeconds\":" + retryAfterSeconds + "}");
+    }
+
+    private static boolean matches(List<String> patterns, String path) {
+        for (String pattern : patterns) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isDropped(HttpServletResponse response) {
+        return response.getStatus() >= 500;
+    }
+
+    // 비동기 응답 완료 시 반납 (타임아웃 / 오류도 onComplete 가 뒤따름)
+    private final class ReleaseOnComplete implements AsyncListener {
+
+        private final long start;
+        private boolean failed;
+
+        ReleaseOnComplete(long start) {
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limiter.release(System.nanoTime() - start,
+                    failed || isDropped((HttpServletResponse) event.getSuppliedResponse()));
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
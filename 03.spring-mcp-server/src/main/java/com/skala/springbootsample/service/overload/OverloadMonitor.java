@@ -0,0 +1,145 @@
+package com.skala.springbootsample.service.overload;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.skala.springbootsample.config.LoadSheddingProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 과부하 시 ReadinessState 자동 전환
+ *
+ * load-shedding.readiness.check-interval 마다 아래 지표를 확인한다.
+ * - Hikari 커넥션 대기: 확인 주기 동안의 hikaricp.connections.acquire 평균 (풀이 여러 개면 최댓값),
+ *   hikaricp.connections.timeout 이 늘었으면 상한 초과로 봄
+ * - 실행 중인 MCP 도구 호출 수 (ToolMetrics)
+ * 하나라도 상한을 넘으면 REFUSING_TRAFFIC 을 발행해 Service 엔드포인트에서 빠지고,
+ * 두 지표가 상한의 recover-ratio 이하로 recover-after 동안 유지되면 ACCEPTING_TRAFFIC 으로 되돌린다.
+ * 기동 중이거나 다른 주체(POST /api/probe 등)가 바꾼 readiness 는 건드리지 않는다.
+ * 메트릭: load.shedding.overloaded (1|0), load.shedding.readiness.transitions{state, reason}
+ */
+@Slf4j
+public class OverloadMonitor {
+
+    private final LoadSheddingProperties.Readiness settings;
+    private final ApplicationEventPublisher publisher;
+    private final ApplicationAvailability availability;
+    private final MeterRegistry meterRegistry;
+    private final IntSupplier activeToolCalls;
+    private final Map<Meter.Id, double[]> lastAcquire = new HashMap<>();
+    private final Map<Meter.Id, Double> lastTimeouts = new HashMap<>();
+
+    // 이 모니터가 REFUSING_TRAFFIC 으로 바꾼 상태인지
+    private volatile boolean refusing;
+    private long recoveringSince = -1;
+
+    public OverloadMonitor(LoadSheddingProperties.Readiness settings, ApplicationEventPublisher publisher,
+                           ApplicationAvailability availability, MeterRegistry meterRegistry,
+                           IntSupplier activeToolCalls) {
+        this.settings = settings;
+        this.publisher = publisher;
+        this.availability = availability;
+        this.meterRegistry = meterRegistry;
+        this.activeToolCalls = activeToolCalls;
+        Gauge.builder("load.shedding.overloaded", this, monitor -> monitor.refusing ? 1 : 0)
+                .description("과부하로 트래픽을 거절 중인지 (1|0)")
+                .register(meterRegistry);
+    }
+
+    public boolean isRefusing() {
+        return refusing;
+    }
+
+    @Scheduled(fixedDelayString = "${load-shedding.readiness.check-interval:1s}")
+    public void check() {
+        check(System.nanoTime());
+    }
+
+    synchronized void check(long nowNanos) {
+        double poolWaitMillis = poolWaitMillis();
+        int toolCalls = activeToolCalls.getAsInt();
+        double maxPoolWaitMillis = settings.getMaxPoolWait().toMillis();
+        int maxToolCalls = settings.getMaxInFlightToolCalls();
+
+        if (!refusing) {
+            String reason = poolWaitMillis > maxPoolWaitMillis ? "pool-wait"
+                    : toolCalls > maxToolCalls ? "tool-calls"
+                    : null;
+            if (reason != null && availability.getReadinessState() == ReadinessState.ACCEPTING_TRAFFIC) {
+                log.warn("과부하로 트래픽 거절 시작: {} (커넥션 대기 {}ms, 실행 중 도구 호출 {}건)",
+                        reason, poolWaitMillis, toolCalls);
+                refusing = true;
+                recoveringSince = -1;
+                transition(ReadinessState.REFUSING_TRAFFIC, reason);
+            }
+            return;
+        }
+
+        double ratio = settings.getRecoverRatio();
+        if (poolWaitMillis > maxPoolWaitMillis * ratio || toolCalls > maxToolCalls * ratio) {
+            recoveringSince = -1;
+            return;
+        }
+        if (recoveringSince < 0) {
+            recoveringSince = nowNanos;
+        }
+        if (nowNanos - recoveringSince >= settings.getRecoverAfter().toNanos()) {
+            log.info("부하 회복으로 트래픽 수신 재개 (커넥션 대기 {}ms, 실행 중 도구 호출 {}건)", poolWaitMillis, toolCalls);
+            refusing = false;
+            transition(ReadinessState.ACCEPTING_TRAFFIC, "recovered");
+        }
+    }
+
+    // 다른 주체가 readiness 를 바꾸면 자동 복구 대상에서 제외
+    @EventListener
+    public void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getSource() != this) {
+            refusing = false;
+        }
+    }
+
+    private void transition(ReadinessState state, String reason) {
+        Counter.builder("load.shedding.readiness.transitions")
+                .tag("state", state.name())
+                .tag("reason", reason)
+                .description("과부하 감시에 의한 readiness 전환 수")
+                .register(meterRegistry)
+                .increment();
+        AvailabilityChangeEvent.publish(publisher, this, state);
+    }
+
+    // 직전 확인 이후 커넥션 평균 대기 시간 (ms, 풀별 최댓값, 타임아웃이 있었으면 무한대)
+    private double poolWaitMillis() {
+        double max = 0;
+        for (Counter timeouts : meterRegistry.find("hikaricp.connections.timeout").counters()) {
+            double count = timeouts.count();
+            Double previous = lastTimeouts.put(timeouts.getId(), count);
+            if (previous != null && count > previous) {
+                max = Double.POSITIVE_INFINITY;
+            }
+        }
+        for (Timer acquire : meterRegistry.find("hikaricp.connections.acquire").timers()) {
+            double[] current = {acquire.count(), acquire.totalTime(TimeUnit.MILLISECONDS)};
+            double[] previous = lastAcquire.put(acquire.getId(), current);
+            if (previous != null && current[0] > previous[0]) {
+                max = Math.max(max, (current[1] - previous[1]) / (current[0] - previous[0]));
+            }
+        }
+        return max;
+    }
+}
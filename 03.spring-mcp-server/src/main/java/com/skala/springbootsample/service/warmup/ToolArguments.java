@@ -0,0 +1,92 @@
+package com.skala.springbootsample.service.warmup;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * 도구 입력 스키마로 워밍업용 인자 JSON 생성
+ *
+ * 선택 항목을 포함한 모든 속성을 채운다. (선택 인자 분기까지 실행되도록)
+ * - 이름이 Id / Ids 로 끝나는 정수: 초기 데이터의 ID (1, 배열이면 1..3)
+ * - 그 외 정수 / 실수: 10, 불리언: true
+ * - 이름에 email 이 들어간 문자열: 항목마다 다른 warmup 주소, 그 외 문자열: "warmup"
+ * - 객체 배열: 항목 3개 (대량 등록 등)
+ * 스키마로 의미 있는 값을 만들 수 없는 도구는 warmup.tool-arguments 로 인자를 지정한다.
+ */
+class ToolArguments {
+
+    private static final int ARRAY_SIZE = 3;
+
+    private final ObjectMapper objectMapper;
+
+    ToolArguments(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    String generate(String inputSchema) throws JsonProcessingException {
+        JsonNode root = objectMapper.readTree(inputSchema);
+        return objectMapper.writeValueAsString(value(root, root, "", 0));
+    }
+
+    private JsonNode value(JsonNode root, JsonNode schema, String name, int index) {
+        schema = resolve(root, schema);
+        String type = type(schema);
+        String lower = name.toLowerCase(Locale.ROOT);
+        return switch (type) {
+            case "object" -> {
+                ObjectNode object = objectMapper.createObjectNode();
+                Iterator<Map.Entry<String, JsonNode>> properties = schema.path("properties").fields();
+                while (properties.hasNext()) {
+                    Map.Entry<String, JsonNode> property = properties.next();
+                    object.set(property.getKey(), value(root, property.getValue(), property.getKey(), index));
+                }
+                yield object;
+            }
+            case "array" -> {
+                ArrayNode array = objectMapper.createArrayNode();
+                for (int i = 0; i < ARRAY_SIZE; i++) {
+                    array.add(value(root, schema.path("items"), name, i));
+                }
+                yield array;
+            }
+            case "integer", "number" -> objectMapper.getNodeFactory()
+                    .numberNode(lower.endsWith("id") || lower.endsWith("ids") ? index + 1 : 10);
+            case "boolean" -> objectMapper.getNodeFactory().booleanNode(true);
+            default -> objectMapper.getNodeFactory()
+                    .textNode(lower.contains("email") ? "warmup" + index + "@warmup.invalid" : "warmup");
+        };
+    }
+
+    // "$ref": "#/$defs/X" 형태의 참조 해석
+    private static JsonNode resolve(JsonNode root, JsonNode schema) {
+        JsonNode ref = schema.get("$ref");
+        if (ref == null || !ref.asText().startsWith("#/")) {
+            return schema;
+        }
+        return root.at(ref.asText().substring(1));
+    }
+
+    private static String type(JsonNode schema) {
+        JsonNode type = schema.get("type");
+        if (type == null) {
+            return schema.has("properties") ? "object" : "string";
+        }
+        // ["integer", "null"] 처럼 여러 타입이면 null 이 아닌 첫 타입
+        if (type.isArray()) {
+            for (JsonNode candidate : type) {
+                if (!"null".equals(candidate.asText())) {
+                    return candidate.asText();
+                }
+            }
+            return "string";
+        }
+        return type.asText();
+    }
+}
@@ -0,0 +1,284 @@
+package com.skala.springbootsample.service.warmup;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggerConfiguration;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skala.springbootsample.config.WarmupProperties;
+import com.skala.springbootsample.repo.metrics.SlowQueryLog;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 준비 상태 전 JIT 워밍업 (warmup.enabled=true)
+ *
+ * ApplicationReadyEvent 의 마지막 리스너로 실행되어, 끝날 때까지 ReadinessState.ACCEPTING_TRAFFIC 발행이 미뤄진다.
+ * (초기 데이터 적재와 지역 캐시 / 통계 스냅샷 / 검색 색인 구성 이후)
+ * 한 라운드는 아래 작업을 iterations-per-round 번 반복하며, 호출마다 응답 시간을 기록해 라운드 p99 를 구한다.
+ * - 모든 @Tool 메서드 호출 (exclude-tools 제외): 기본으로 조회 도구만 호출한다.
+ *   쓰기 도구는 롤백해도 공유 primary 의 행 잠금과 IDENTITY 소모가 남으므로 모두 제외하고, 외부 API / 알람 설정도 제외한다.
+ *   제외 목록을 바꿔 쓰기 도구를 넣더라도 호출마다 롤백 전용 트랜잭션 안에서 실행하므로
+ *   변경과 커밋 후 처리(캐시 / 색인 / outbox 발행)는 남지 않는다.
+ * - rest-paths 의 GET 요청을 로컬 포트로 전송 (Tomcat / MVC / Jackson 직렬화 경로, 조회 전용)
+ * 라운드 p99 가 stable-rounds 라운드 연속 stability-tolerance 이내로 변하면 안정화로 보고 끝내고,
+ * budget 이나 max-rounds 를 넘으면 안정화 전이라도 끝낸다. 워밍업 오류는 기록만 하고 기동은 계속한다.
+ * 도구는 MCP 서버에 등록된 계측 콜백이 아니라 @Tool 빈으로 만든 콜백으로 호출하므로 mcp.tool.* 메트릭과
+ * 실행 중 호출 수(과부하 판단)에 반영되지 않고, 워밍업 동안에는 느린 쿼리도 기록하지 않는다.
+ * 워밍업 동안 quiet-loggers 를 WARN 으로 올려 도구 / 컨트롤러 호출 로그가 운영 로그에 섞이지 않게 한다.
+ * warmup.enabled 는 실행 시점에 확인한다. (AOT 빌드에서도 기동 인자로 끌 수 있도록)
+ * 메트릭: warmup.budget, warmup.duration, warmup.rounds, warmup.calls, warmup.stabilized (1|0),
+ *        warmup.latency.p99{round=first|last}
+ */
+@Slf4j
+@Component
+public class WarmupRunner {
+
+    private final WarmupProperties properties;
+    private final ApplicationContext applicationContext;
+    private final TransactionTemplate transactionTemplate;
+    private final ToolArguments toolArguments;
+    private final LoggingSystem loggingSystem;
+    private final SlowQueryLog slowQueryLog;
+
+    private volatile Result result;
+
+    public WarmupRunner(WarmupProperties properties, ApplicationContext applicationContext,
+                        TransactionTemplate transactionTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                        LoggingSystem loggingSystem, SlowQueryLog slowQueryLog) {
+        this.properties = properties;
+        this.applicationContext = applicationContext;
+        this.transactionTemplate = transactionTemplate;
+        this.toolArguments = new ToolArguments(objectMapper);
+        this.loggingSystem = loggingSystem;
+        this.slowQueryLog = slowQueryLog;
+
+        if (properties.isEnabled()) {
+            registerMeters(meterRegistry);
+        }
+    }
+
+    public Result getResult() {
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            result = run();
+            log.info("JIT 워밍업 완료: {}라운드 / {}회 호출, {}ms (예산 {}ms), p99 {}ms -> {}ms, {}",
+                    result.rounds(), result.calls(),
+                    TimeUnit.NANOSECONDS.toMillis(result.durationNanos()), properties.getBudget().toMillis(),
+                    String.format("%.1f", result.firstP99Nanos() / 1e6), String.format("%.1f", result.lastP99Nanos() / 1e6),
+                    result.stabilized() ? "안정화" : "안정화 전 종료");
+        } catch (Exception e) {
+            log.warn("JIT 워밍업 중 오류, 워밍업 없이 계속합니다: {}", e.toString());
+        }
+    }
+
+    Result run() throws Exception {
+        List<Call> workload = new ArrayList<>();
+        for (ToolCallback callback : toolCallbacks()) {
+            String name = callback.getToolDefinition().name();
+            if (properties.getExcludeTools().contains(name)) {
+                continue;
+            }
+            String arguments = properties.getToolArguments().containsKey(name)
+                    ? properties.getToolArguments().get(name)
+                    : toolArguments.generate(callback.getToolDefinition().inputSchema());
+            workload.add(() -> transactionTemplate.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                callback.call(arguments);
+            }));
+        }
+        int port = localPort();
+        if (port > 0 && !properties.getRestPaths().isEmpty()) {
+            HttpClient httpClient = HttpClient.newBuilder().connectTimeout(properties.getRequestTimeout()).build();
+            for (String path : properties.getRestPaths()) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                        .timeout(properties.getRequestTimeout())
+                        .GET()
+                        .build();
+                workload.add(() -> httpClient.send(request, HttpResponse.BodyHandlers.discarding()));
+            }
+        }
+        log.info("JIT 워밍업 시작: 작업 {}개, 예산 {}ms", workload.size(), properties.getBudget().toMillis());
+
+        Map<String, LogLevel> loggerLevels = quietLoggers();
+        slowQueryLog.suspend();
+        try {
+            return replay(workload);
+        } finally {
+            slowQueryLog.resume();
+            loggerLevels.forEach(loggingSystem::setLogLevel);
+        }
+    }
+
+    private Result replay(List<Call> workload) {
+        long start = System.nanoTime();
+        long deadline = start + properties.getBudget().toNanos();
+        long[] samples = new long[Math.max(1, workload.size() * properties.getIterationsPerRound())];
+        int rounds = 0;
+        long calls = 0;
+        int stable = 0;
+        long firstP99 = 0;
+        long previousP99 = 0;
+        int failures = 0;
+        while (rounds < properties.getMaxRounds() && System.nanoTime() < deadline && !workload.isEmpty()) {
+            int count = 0;
+            for (int i = 0; i < properties.getIterationsPerRound() && System.nanoTime() < deadline; i++) {
+                for (Call call : workload) {
+                    long callStart = System.nanoTime();
+                    try {
+                        call.run();
+                    } catch (Exception e) {
+                        if (failures++ == 0) {
+                            log.debug("JIT 워밍업 호출 실패 (이후 실패는 생략): {}", e.toString());
+                        }
+                    }
+                    samples[count++] = System.nanoTime() - callStart;
+                }
+            }
+            calls += count;
+            rounds++;
+            long p99 = p99(samples, count);
+            if (rounds == 1) {
+                firstP99 = p99;
+            } else if (Math.abs(p99 - previousP99) <= properties.getStabilityTolerance() * previousP99) {
+                stable++;
+            } else {
+                stable = 0;
+            }
+            log.debug("JIT 워밍업 {}라운드: p99 {}us", rounds, TimeUnit.NANOSECONDS.toMicros(p99));
+            previousP99 = p99;
+            if (stable >= properties.getStableRounds()) {
+                break;
+            }
+        }
+        return new Result(System.nanoTime() - start, rounds, calls, firstP99, previousP99,
+                stable >= properties.getStableRounds());
+    }
+
+    // quiet-loggers 를 WARN 으로 올리고 원래 설정된 레벨(없으면 null: 상위 로거 상속)을 반환
+    private Map<String, LogLevel> quietLoggers() {
+        Map<String, LogLevel> levels = new LinkedHashMap<>();
+        for (String name : properties.getQuietLoggers()) {
+            LoggerConfiguration configuration = loggingSystem.getLoggerConfiguration(name);
+            levels.put(name, configuration != null ? configuration.getConfiguredLevel() : null);
+            loggingSystem.setLogLevel(name, LogLevel.WARN);
+        }
+        return levels;
+    }
+
+    // @Tool 빈으로 만든 계측 없는 메서드 콜백 (SYNC / ASYNC 서버 모드 공통,
+    // 등록된 ToolCallbackProvider 는 ToolMetrics 로 감싸져 있고 AsyncToolSpecification 은 다른 스레드에서 실행되어
+    // 롤백 트랜잭션에 참여하지 못함)
+    private List<ToolCallback> toolCallbacks() {
+        Object[] toolObjects = Arrays.stream(applicationContext.getBeanNamesForType(Object.class, false, false))
+                .filter(name -> hasToolMethods(applicationContext.getType(name, false)))
+                .map(applicationContext::getBean)
+                .toArray();
+        if (toolObjects.length == 0) {
+            return List.of();
+        }
+        return List.of(MethodToolCallbackProvider.builder().toolObjects(toolObjects).build().getToolCallbacks());
+    }
+
+    private static boolean hasToolMethods(Class<?> type) {
+        return type != null && !MethodIntrospector.selectMethods(type,
+                (MethodIntrospector.MetadataLookup<Tool>) method ->
+                        AnnotatedElementUtils.findMergedAnnotation(method, Tool.class)).isEmpty();
+    }
+
+    private void registerMeters(MeterRegistry meterRegistry) {
+        Gauge.builder("warmup.budget", properties, p -> p.getBudget().toMillis() / 1000.0)
+                .baseUnit("seconds")
+                .description("JIT 워밍업 최대 시간")
+                .register(meterRegistry);
+        Gauge.builder("warmup.duration", this, runner -> runner.value(r -> r.durationNanos() / 1e9))
+                .baseUnit("seconds")
+                .description("JIT 워밍업에 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("warmup.rounds", this, runner -> runner.value(Result::rounds))
+                .description("JIT 워밍업 라운드 수")
+                .register(meterRegistry);
+        Gauge.builder("warmup.calls", this, runner -> runner.value(Result::calls))
+                .description("JIT 워밍업 호출 수")
+                .register(meterRegistry);
+        Gauge.builder("warmup.stabilized", this, runner -> runner.value(r -> r.stabilized() ? 1 : 0))
+                .description("워밍업 종료 시 응답 시간 안정화 여부 (1|0)")
+                .register(meterRegistry);
+        Gauge.builder("warmup.latency.p99", this, runner -> runner.value(r -> r.firstP99Nanos() / 1e9))
+                .tag("round", "first")
+                .baseUnit("seconds")
+                .description("JIT 워밍업 라운드 p99 응답 시간")
+                .register(meterRegistry);
+        Gauge.builder("warmup.latency.p99", this, runner -> runner.value(r -> r.lastP99Nanos() / 1e9))
+                .tag("round", "last")
+                .baseUnit("seconds")
+                .description("JIT 워밍업 라운드 p99 응답 시간")
+                .register(meterRegistry);
+    }
+
+    // 웹 서버 포트 (웹 서버 없이 실행 중이면 0, REST 워밍업 생략)
+    private int localPort() {
+        if (applicationContext instanceof WebServerApplicationContext context && context.getWebServer() != null) {
+            return context.getWebServer().getPort();
+        }
+        return 0;
+    }
+
+    private static long p99(long[] samples, int count) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return sorted[Math.min(count - 1, (int) Math.ceil(count * 0.99) - 1)];
+    }
+
+    private double value(ToDoubleFunction<Result> metric) {
+        Result current = result;
+        return current != null ? metric.applyAsDouble(current) : Double.NaN;
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        void run() throws Exception;
+    }
+
+    public record Result(long durationNanos, int rounds, long calls, long firstP99Nanos, long lastP99Nanos,
+                         boolean stabilized) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.skala.springbootsample.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.skala.springbootsample.repo.routing.ReplicaSet;
+import com.skala.springbootsample.service.UserExportService;
+import com.skala.springbootsample.service.outbox.OutboxRelay;
+
+import io.modelcontextprotocol.server.McpSyncServer;
+
+// fast-startup 프로필(지연 초기화)에서 기동 필수 빈만 미리 만들어지고 나머지는 처음 사용할 때 생성되는지 확인
+@SpringBootTest(properties = {
+        "weather.api.key=test",
+        "spring.datasource.url=jdbc:h2:mem:fast-startup-tests",
+        "db.routing.enabled=true",
+        "db.routing.replicas[0].url=jdbc:h2:mem:fast-startup-tests",
+        "db.routing.lag-check-interval=1h"
+})
+@ActiveProfiles({"local", "fast-startup"})
+class FastStartupConfigurationTests {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    private boolean created(Class<?> type) {
+        String[] names = beanFactory.getBeanNamesForType(type, false, false);
+        assertThat(names).isNotEmpty();
+        for (String name : names) {
+            if (!beanFactory.containsSingleton(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Test
+    void createsOnlyStartupCriticalBeansEagerly() {
+        assertThat(created(DataSource.class)).isTrue();
+        assertThat(created(McpSyncServer.class)).isTrue();
+        assertThat(created(OutboxRelay.class)).isTrue();
+        assertThat(created(ReplicaSet.class)).isTrue();
+
+        assertThat(created(UserExportService.class)).isFalse();
+        beanFactory.getBean(UserExportService.class);
+        assertThat(created(UserExportService.class)).isTrue();
+    }
+}
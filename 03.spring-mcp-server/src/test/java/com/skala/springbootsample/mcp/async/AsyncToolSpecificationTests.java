@@ -0,0 +1,66 @@
+package com.skala.springbootsample.mcp.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+
+// ASYNC 서버 모드: 도구 목록은 SYNC 모드와 같고, JDBC 도구는 전용 스케줄러에서 실행
+@SpringBootTest(properties = {
+        "weather.api.key=test",
+        "spring.ai.mcp.server.type=ASYNC"
+})
+class AsyncToolSpecificationTests {
+
+    @Autowired
+    private List<AsyncToolSpecification> asyncMcpTools;
+
+    @Autowired(required = false)
+    private ToolCallbackProvider commonMcpToolProvider;
+
+    private AsyncToolSpecification tool(String name) {
+        return asyncMcpTools.stream().filter(spec -> spec.tool().name().equals(name)).findFirst().orElseThrow();
+    }
+
+    private static String text(CallToolResult result) {
+        return ((McpSchema.TextContent) result.content().get(0)).text();
+    }
+
+    @Test
+    void registersAllToolsWithoutSyncProvider() {
+        assertThat(commonMcpToolProvider).isNull();
+        assertThat(asyncMcpTools).extracting(spec -> spec.tool().name())
+                .contains("getUsers", "getRegions", "getSystemStatus", "getCurrentDateTime", "getCurrentWeather");
+    }
+
+    @Test
+    void runsBlockingToolsOnJdbcScheduler() {
+        String[] thread = new String[1];
+        CallToolResult result = tool("getRegions").callHandler()
+                .apply(null, new McpSchema.CallToolRequest("getRegions", Map.of()))
+                .doOnNext(r -> thread[0] = Thread.currentThread().getName())
+                .block();
+
+        assertThat(result.isError()).isFalse();
+        assertThat(text(result)).contains("서울");
+        assertThat(thread[0]).startsWith("mcp-jdbc");
+    }
+
+    @Test
+    void reportsBindingFailureAsErrorResult() {
+        CallToolResult result = tool("getUserById").callHandler()
+                .apply(null, new McpSchema.CallToolRequest("getUserById", Map.of("userId", "not-a-number")))
+                .block();
+
+        assertThat(result.isError()).isTrue();
+    }
+}
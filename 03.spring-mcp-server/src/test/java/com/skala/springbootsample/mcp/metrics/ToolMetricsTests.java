@@ -0,0 +1,54 @@
+package com.skala.springbootsample.mcp.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest(properties = "weather.api.key=test")
+class ToolMetricsTests {
+
+    @Autowired
+    private ToolCallbackProvider commonMcpToolProvider;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ToolCallback callback(String name) {
+        return Arrays.stream(commonMcpToolProvider.getToolCallbacks())
+                .filter(cb -> cb.getToolDefinition().name().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    void recordsLatencyBindingAndResultSizePerTool() {
+        String result = callback("getRegions").call("{}");
+
+        assertThat(meterRegistry.get("mcp.tool.calls").tag("tool", "getRegions").tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mcp.tool.binding").tag("tool", "getRegions").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mcp.tool.result.size").tag("tool", "getRegions").summary().totalAmount())
+                .isEqualTo(result.length());
+        assertThat(meterRegistry.get("mcp.tool.active").tag("tool", "getRegions").gauge().value()).isZero();
+    }
+
+    @Test
+    void countsBindingFailuresAsErrors() {
+        ToolCallback getUserById = callback("getUserById");
+
+        assertThatThrownBy(() -> getUserById.call("{\"userId\":\"not-a-number\"}")).isInstanceOf(RuntimeException.class);
+
+        assertThat(meterRegistry.get("mcp.tool.calls").tag("tool", "getUserById").tag("outcome", "error")
+                .timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mcp.tool.errors").tag("tool", "getUserById").counter().count()).isEqualTo(1);
+    }
+}
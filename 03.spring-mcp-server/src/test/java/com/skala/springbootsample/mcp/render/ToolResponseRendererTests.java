@@ -0,0 +1,76 @@
+package com.skala.springbootsample.mcp.render;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.skala.springbootsample.config.ToolResponseProperties;
+
+class ToolResponseRendererTests {
+
+    private record Person(Long id, String name, String email) {
+    }
+
+    private static final RowTemplate<Person> ROW = RowTemplate.<Person>builder()
+            .field("id", Person::id)
+            .field("name", Person::name)
+            .field("email", Person::email)
+            .prose("- ID: {id}, 이름: {name}, 이메일: {email}\n")
+            .build();
+
+    private static final ListTemplate<Person> LIST = new ListTemplate<>(ROW, "{title} 사용자: {count}명\n\n", "region");
+
+    private static final List<Person> PEOPLE = List.of(
+            new Person(1L, "alice", "alice@example.com"),
+            new Person(2L, "bob \"b\"", "bob@example.com"));
+
+    private ToolResponseRenderer renderer(ResponseFormat format) {
+        ToolResponseProperties properties = new ToolResponseProperties();
+        properties.getFormats().put("tool", format);
+        return new ToolResponseRenderer(properties);
+    }
+
+    @Test
+    void proseMatchesPreviousStringBuilderOutput() {
+        String expected = "서울 사용자: 2명\n\n"
+                + "- ID: 1, 이름: alice, 이메일: alice@example.com\n"
+                + "- ID: 2, 이름: bob \"b\", 이메일: bob@example.com\n"
+                + "\n다음 페이지 커서(afterId): 2\n";
+
+        ToolResponseRenderer renderer = renderer(ResponseFormat.PROSE);
+
+        // 버퍼 재사용 후에도 같은 결과
+        assertThat(renderer.page("tool", LIST, PEOPLE, "서울", 2L)).isEqualTo(expected);
+        assertThat(renderer.page("tool", LIST, PEOPLE, "서울", 2L)).isEqualTo(expected);
+        assertThat(renderer.page("tool", LIST, PEOPLE, "서울", null)).endsWith("\n마지막 페이지입니다.\n");
+    }
+
+    @Test
+    void jsonListWithTitleAndCursor() {
+        assertThat(renderer(ResponseFormat.JSON).page("tool", LIST, PEOPLE, "서울", null)).isEqualTo(
+                "{\"region\":\"서울\",\"count\":2,\"items\":["
+                        + "{\"id\":1,\"name\":\"alice\",\"email\":\"alice@example.com\"},"
+                        + "{\"id\":2,\"name\":\"bob \\\"b\\\"\",\"email\":\"bob@example.com\"}"
+                        + "],\"nextAfterId\":null}");
+    }
+
+    @Test
+    void tsvItemHasHeaderAndSanitizedValues() {
+        assertThat(renderer(ResponseFormat.TSV).item("tool", ROW, new Person(3L, "tab\there", null)))
+                .isEqualTo("id\tname\temail\n3\ttab here\t\n");
+    }
+
+    @Test
+    void defaultFormatAppliesToUnlistedTools() {
+        assertThat(renderer(ResponseFormat.JSON).formatOf("other")).isEqualTo(ResponseFormat.PROSE);
+    }
+
+    @Test
+    void unknownPlaceholderFailsAtCompileTime() {
+        assertThatThrownBy(() -> RowTemplate.<Person>builder().field("id", Person::id).prose("{nope}").build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,171 @@
+package com.skala.springbootsample.repo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.skala.springbootsample.domain.User;
+import com.skala.springbootsample.mcp.UserMcpTools;
+import com.skala.springbootsample.service.BatchIds;
+import com.skala.springbootsample.service.UserService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// 사용자 조회 경로별 SQL 실행 횟수 회귀 테스트 (Hibernate Statistics 기반)
+// 초기 데이터: 사용자 3명이 서로 다른 지역 3곳에 속해 있으므로 N+1이 발생하면 횟수가 늘어난다.
+@SpringBootTest(properties = {
+        "weather.api.key=test",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+class UserFetchPlanTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserMcpTools userMcpTools;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getAllUsers() throws Exception {
+        mockMvc.perform(get("/api/users")).andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getAllUsersByName() throws Exception {
+        mockMvc.perform(get("/api/users").param("name", "ALICE")).andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getUserById() throws Exception {
+        mockMvc.perform(get("/api/users/1")).andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getUsersByRegionId() throws Exception {
+        mockMvc.perform(get("/api/users/region/1")).andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void getUsersByRegionName() throws Exception {
+        mockMvc.perform(get("/api/users/region-name/서울")).andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void mcpGetUsers() {
+        assertThat(userMcpTools.getUsers(null)).contains("조회된 사용자: 3명");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void mcpGetUsersByName() {
+        assertThat(userMcpTools.getUsers("alice")).contains("alice@example.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void mcpGetUserById() {
+        assertThat(userMcpTools.getUserById(1L)).contains("alice@example.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void mcpGetUsersByRegion() {
+        // 지역 존재 확인은 RegionCache에서 처리되므로 사용자 조회 1회
+        assertThat(userMcpTools.getUsersByRegion(1L)).contains("alice");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void mcpGetUsersPage() {
+        assertThat(userMcpTools.getUsersPage(null, 2, null)).contains("다음 페이지 커서(afterId): 2");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void mcpGetUsersByRegionPage() {
+        assertThat(userMcpTools.getUsersByRegionPage(1L, null, null)).contains("alice");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void mcpGetUsersByIds() {
+        String result = userMcpTools.getUsersByIds(List.of(1L, 3L, 99L));
+        assertThat(result).contains("조회된 사용자: 2명 (찾을 수 없는 ID: 99)", "alice", "charlie");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void mcpGetUsersByIdsRejectsTooManyIds() {
+        List<Long> ids = LongStream.rangeClosed(1, BatchIds.MAX_IDS + 1).boxed().toList();
+        assertThat(userMcpTools.getUsersByIds(ids)).contains("최대 " + BatchIds.MAX_IDS + "개");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void mcpGetUsersByRegions() {
+        // 지역은 RegionCache에서 확인하고 사용자는 IN 쿼리 1회
+        String result = userMcpTools.getUsersByRegions(List.of(1L, 2L), null, null);
+        assertThat(result).contains("alice", "bob").doesNotContain("charlie");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentGetUserByIdLookupsAreCoalesced() throws Exception {
+        int callers = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            List<Future<Optional<User>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                long id = i % 3 + 1;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return userService.findById(id);
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < callers; i++) {
+                assertThat(results.get(i).get().map(User::getId)).contains((long) (i % 3 + 1));
+            }
+        }
+        // 조회가 진행되는 동안 도착한 요청은 다음 IN 쿼리로 묶이므로 호출 수보다 적게 실행됨
+        assertThat(statistics.getPrepareStatementCount()).isBetween(1L, (long) callers);
+    }
+}
@@ -0,0 +1,91 @@
+package com.skala.springbootsample.repo.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.skala.springbootsample.config.QueryObservationProperties;
+import com.skala.springbootsample.repo.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 리포지토리 메서드 메트릭 / 느린 쿼리 기록 테스트 (임계값 0ms: 모든 문장을 느린 쿼리로 기록)
+// 초기 데이터: 사용자 3명 (alice, bob, charlie)
+@SpringBootTest(properties = {
+        "weather.api.key=test",
+        "db.observation.slow-threshold=0ms"
+})
+class RepositoryMetricsTests {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SlowQueryEndpoint slowQueryEndpoint;
+
+    @BeforeEach
+    void setUp() {
+        slowQueryEndpoint.clear();
+    }
+
+    @Test
+    void recordsInvocationTimeAndRowsPerRepositoryMethod() {
+        userRepository.findAll();
+        userRepository.findByNameKey("nobody");
+
+        assertThat(meterRegistry.get("repository.invocations").tag("repository", "UserRepository")
+                .tag("method", "findAll").tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("repository.rows").tag("repository", "UserRepository")
+                .tag("method", "findAll").summary().totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get("repository.rows").tag("repository", "UserRepository")
+                .tag("method", "findByNameKey").summary().totalAmount()).isZero();
+    }
+
+    @Test
+    void capturesSlowQueriesWithBoundParameters() {
+        userRepository.findByNameKey("alice");
+
+        List<SlowQuery> slowQueries = slowQueryEndpoint.slowQueries();
+        assertThat(slowQueries).isNotEmpty();
+        SlowQuery latest = slowQueries.get(0);
+        assertThat(latest.sql()).containsIgnoringCase("from users");
+        assertThat(latest.parameters()).containsExactly("alice");
+    }
+
+    @Test
+    void exposesHikariPoolMetrics() {
+        assertThat(meterRegistry.find("hikaricp.connections.acquire").timer()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.pending").gauge()).isNotNull();
+    }
+
+    @Test
+    void closesWrappedPoolWithTheContext() {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:observed-close");
+
+        // 래퍼가 종료 대상이 되어도 원본 풀까지 닫힘
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.registerBean(SlowQueryLog.class,
+                    () -> new SlowQueryLog(new SimpleMeterRegistry(), new QueryObservationProperties()));
+            context.registerBean(ObservedDataSourcePostProcessor.class);
+            context.registerBean("dataSource", DataSource.class, () -> pool);
+            context.refresh();
+            assertThat(context.getBean(DataSource.class)).isInstanceOf(ObservedDataSource.class);
+            assertThat(pool.isClosed()).isFalse();
+        }
+        assertThat(pool.isClosed()).isTrue();
+    }
+}
@@ -0,0 +1,96 @@
+package com.skala.springbootsample.repo.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.skala.springbootsample.domain.Region;
+import com.skala.springbootsample.domain.User;
+import com.skala.springbootsample.service.RegionService;
+import com.skala.springbootsample.service.UserLookupCoalescer;
+import com.skala.springbootsample.service.UserService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// JPA 서비스 트랜잭션이 readOnly 속성에 따라 replica / primary 풀로 라우팅되는지 확인
+// (replica 는 같은 H2 DB 를 가리키는 별도 풀, 라우팅 결과는 db.routing.connections 메트릭으로 구분)
+// outbox relay 의 발행 트랜잭션이 쓰기 커넥션 수에 섞이지 않도록 relay 는 끔
+@SpringBootTest(properties = {
+        "weather.api.key=test",
+        "spring.datasource.url=jdbc:h2:mem:routing-tests",
+        "db.routing.enabled=true",
+        "db.routing.replicas[0].url=jdbc:h2:mem:routing-tests",
+        "db.routing.lag-query=select 0 as Seconds_Behind_Master",
+        "db.routing.lag-check-interval=1h",
+        "outbox.relay.enabled=false"
+})
+class DataSourceRoutingTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private RegionService regionService;
+
+    @Autowired
+    private ReplicaSet replicaSet;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoSpyBean
+    private UserLookupCoalescer userLookupCoalescer;
+
+    private double connections(String route, String reason) {
+        var counter = meterRegistry.find("db.routing.connections").tag("route", route).tag("reason", reason).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    @Test
+    void routesServiceTransactionsByReadOnlyAttribute() {
+        replicaSet.checkLag();
+        assertThat(replicaSet.getReplicas()).allMatch(ReplicaSet.Replica::isAvailable);
+
+        double reads = connections("replica-1", "read");
+        assertThat(userService.findAll(Optional.empty())).isNotEmpty();
+        assertThat(connections("replica-1", "read")).isEqualTo(reads + 1);
+
+        double writes = connections("primary", "write");
+        Region region = regionService.create(new Region("routing-region"));
+        regionService.delete(region.getId());
+        assertThat(connections("primary", "write")).isEqualTo(writes + 2);
+
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "replica-1").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "primary").gauge()).isNotNull();
+    }
+
+    @Test
+    void readsOwnWriteFromPrimaryWithoutCoalescing() {
+        ReadYourWrites.begin("routing-session");
+        try {
+            User created = userService.create(new User("routing-user", "routing-user@example.com",
+                    regionService.findById(1L).orElseThrow()));
+
+            // 병합 조회는 다른 요청(리더)의 스레드에서 replica 로 라우팅될 수 있으므로 거치지 않음
+            double ownReads = connections("primary", "read-your-writes");
+            assertThat(userService.findById(created.getId())).map(User::getEmail)
+                    .contains("routing-user@example.com");
+            assertThat(connections("primary", "read-your-writes")).isEqualTo(ownReads + 1);
+            verify(userLookupCoalescer, never()).findById(anyLong());
+        } finally {
+            ReadYourWrites.end();
+        }
+
+        // 쓰기와 무관한 요청은 계속 병합
+        userService.findById(1L);
+        verify(userLookupCoalescer).findById(1L);
+    }
+}
@@ -0,0 +1,171 @@
+package com.skala.springbootsample.repo.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.skala.springbootsample.config.DataSourceRoutingProperties;
+import com.skala.springbootsample.config.QueryObservationProperties;
+import com.skala.springbootsample.repo.metrics.ObservedDataSource;
+import com.skala.springbootsample.repo.metrics.SlowQueryLog;
+import com.skala.springbootsample.support.MutableClock;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 로컬 H2 두 개(primary / replica)로 읽기 전용 트랜잭션 라우팅, 지연 기반 제외, read-your-writes 확인
+class ReadWriteRoutingDataSourceTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+    private SingleConnectionDataSource primary;
+    private SingleConnectionDataSource replica;
+    private ReplicaSet replicaSet;
+    private ReadYourWrites readYourWrites;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("routing-primary");
+        replica = database("routing-replica");
+        new JdbcTemplate(replica).execute("create table replica_status (Seconds_Behind_Master int)");
+        new JdbcTemplate(replica).update("insert into replica_status values (0)");
+
+        DataSourceRoutingProperties properties = new DataSourceRoutingProperties();
+        properties.setMaxLag(Duration.ofSeconds(5));
+        properties.setLagQuery("select Seconds_Behind_Master from replica_status");
+        replicaSet = new ReplicaSet(List.of(new ReplicaSet.Replica("replica-1", replica)), properties, meterRegistry);
+
+        readYourWrites = new ReadYourWrites(Duration.ofSeconds(5), 100, clock);
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replicaSet, readYourWrites, meterRegistry));
+
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.end();
+        primary.destroy();
+        replica.destroy();
+    }
+
+    private static SingleConnectionDataSource database(String name) {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "", true);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("drop all objects");
+        jdbc.execute("create table route_marker (name varchar(32))");
+        jdbc.update("insert into route_marker values (?)", name);
+        return dataSource;
+    }
+
+    private String readOnlyRoute() {
+        return readOnly.execute(status -> jdbcTemplate.queryForObject("select name from route_marker", String.class));
+    }
+
+    private String readWriteRoute() {
+        return readWrite.execute(status -> jdbcTemplate.queryForObject("select name from route_marker", String.class));
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToHealthyReplica() {
+        // 첫 지연 확인 전에는 primary
+        assertThat(readOnlyRoute()).isEqualTo("routing-primary");
+
+        replicaSet.checkLag();
+        assertThat(readOnlyRoute()).isEqualTo("routing-replica");
+        assertThat(readWriteRoute()).isEqualTo("routing-primary");
+        assertThat(jdbcTemplate.queryForObject("select name from route_marker", String.class)).isEqualTo("routing-primary");
+
+        assertThat(meterRegistry.get("db.routing.connections").tag("route", "replica-1").tag("reason", "read")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("db.routing.connections").tag("route", "primary").tag("reason", "replica-unavailable")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("db.replica.available").tag("replica", "replica-1").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaLagsOrStopsReplicating() {
+        new JdbcTemplate(replica).update("update replica_status set Seconds_Behind_Master = 30");
+        replicaSet.checkLag();
+        assertThat(readOnlyRoute()).isEqualTo("routing-primary");
+        assertThat(meterRegistry.get("db.replica.lag").tag("replica", "replica-1").gauge().value()).isEqualTo(30);
+
+        new JdbcTemplate(replica).update("update replica_status set Seconds_Behind_Master = null");
+        replicaSet.checkLag();
+        assertThat(readOnlyRoute()).isEqualTo("routing-primary");
+        assertThat(meterRegistry.get("db.replica.lag").tag("replica", "replica-1").gauge().value()).isNaN();
+
+        new JdbcTemplate(replica).update("update replica_status set Seconds_Behind_Master = 1");
+        replicaSet.checkLag();
+        assertThat(readOnlyRoute()).isEqualTo("routing-replica");
+    }
+
+    @Test
+    void readsOwnWritesWithinTheSameSession() {
+        replicaSet.checkLag();
+
+        ReadYourWrites.begin("Mcp-Session-Id:a");
+        readWriteRoute();
+        assertThat(readOnlyRoute()).isEqualTo("routing-primary");
+        ReadYourWrites.end();
+
+        // 같은 세션의 다음 요청도 window 동안 primary
+        ReadYourWrites.begin("Mcp-Session-Id:a");
+        assertThat(readOnlyRoute()).isEqualTo("routing-primary");
+        ReadYourWrites.end();
+
+        // 다른 세션은 replica
+        ReadYourWrites.begin("Mcp-Session-Id:b");
+        assertThat(readOnlyRoute()).isEqualTo("routing-replica");
+        ReadYourWrites.end();
+
+        clock.advance(Duration.ofSeconds(6));
+        ReadYourWrites.begin("Mcp-Session-Id:a");
+        assertThat(readOnlyRoute()).isEqualTo("routing-replica");
+        assertThat(meterRegistry.get("db.routing.connections").tag("route", "primary").tag("reason", "read-your-writes")
+                .counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void closesPrimaryPoolWithTheContext() {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:routing-close");
+        SlowQueryLog slowQueryLog = new SlowQueryLog(meterRegistry, new QueryObservationProperties());
+
+        // 운영과 같이 ObservedDataSource 로 감싼 빈도 종료 시 primary 풀까지 닫힘
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.registerBean("dataSource", DataSource.class, () -> new ObservedDataSource(
+                    new LazyConnectionDataSourceProxy(
+                            new ReadWriteRoutingDataSource(pool, replicaSet, readYourWrites, meterRegistry)),
+                    slowQueryLog));
+            context.refresh();
+            assertThat(new JdbcTemplate(context.getBean(DataSource.class)).queryForObject("select 1", Integer.class))
+                    .isEqualTo(1);
+            assertThat(pool.isClosed()).isFalse();
+        }
+        assertThat(pool.isClosed()).isTrue();
+    }
+}
@@ -0,0 +1,51 @@
+package com.skala.springbootsample.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.skala.springbootsample.domain.Region;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// read-through 적재 중에 무효화된 지역은 캐시에 남지 않는지 확인
+class RegionCacheTests {
+
+    private final RegionCache regionCache = new RegionCache(new SimpleMeterRegistry(), true, 100);
+
+    private static Region region(Long id, String name) {
+        Region region = new Region(name);
+        region.setId(id);
+        return region;
+    }
+
+    @Test
+    void discardsLoadsThatOverlapAnEviction() {
+        // 적재가 변경 전 행을 읽은 뒤 수정 커밋(afterCommit evict)이 먼저 끝남
+        Optional<Region> loaded = regionCache.getById(1L, () -> {
+            Region stale = region(1L, "서울");
+            regionCache.evict(1L);
+            return Optional.of(stale);
+        });
+        assertThat(loaded).map(Region::getName).contains("서울");
+        assertThat(regionCache.size()).isZero();
+
+        // 다음 조회는 다시 DB에서 읽어 변경된 값을 캐시
+        assertThat(regionCache.getById(1L, () -> Optional.of(region(1L, "서울특별시"))))
+                .map(Region::getName).contains("서울특별시");
+        assertThat(regionCache.getById(1L, Optional::empty)).map(Region::getName).contains("서울특별시");
+
+        regionCache.getByName("부산", () -> {
+            regionCache.evict(2L);
+            return Optional.of(region(2L, "부산"));
+        });
+        regionCache.getAllById(List.of(3L), ids -> {
+            regionCache.clear();
+            return List.of(region(3L, "대구"));
+        });
+        assertThat(regionCache.size()).isZero();
+    }
+}
@@ -0,0 +1,81 @@
+package com.skala.springbootsample.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.skala.springbootsample.dto.RegionUserCount;
+import com.skala.springbootsample.repo.RegionRepository;
+import com.skala.springbootsample.repo.UserRepository;
+
+// refresh 중에 커밋된 변경분이 새 스냅샷에 다시 적용되고, 집계에 이미 포함된 변경분은 중복 반영되지 않는지 확인
+class StatisticsServiceTests {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final RegionRepository regionRepository = mock(RegionRepository.class);
+    private final StatisticsService statisticsService = new StatisticsService(userRepository, regionRepository, true);
+
+    @Test
+    void replaysDeltasCommittedDuringRefresh() {
+        // 집계 쿼리가 실행되는 동안 다른 트랜잭션의 등록 / 이동이 커밋됨 (집계 결과에는 포함되지 않음)
+        when(userRepository.countGroupByRegion()).thenAnswer(invocation -> {
+            statisticsService.onUserCreated(1L);
+            statisticsService.onUserMoved(1L, 2L);
+            return List.of(new RegionUserCount(1L, 2), new RegionUserCount(2L, 1));
+        }).thenReturn(List.of(new RegionUserCount(1L, 2), new RegionUserCount(2L, 2)));
+        when(regionRepository.count()).thenAnswer(invocation -> {
+            statisticsService.onRegionCreated();
+            return 2L;
+        }).thenReturn(3L);
+
+        statisticsService.refresh();
+
+        assertThat(statisticsService.countUsers()).isEqualTo(4);
+        assertThat(statisticsService.countUsersByRegion(1L)).isEqualTo(2);
+        assertThat(statisticsService.countUsersByRegion(2L)).isEqualTo(2);
+        assertThat(statisticsService.countRegions()).isEqualTo(3);
+
+        // refresh 이후 변경분은 바로 적용
+        statisticsService.onUserDeleted(2L);
+        assertThat(statisticsService.countUsers()).isEqualTo(3);
+        assertThat(statisticsService.countUsersByRegion(2L)).isEqualTo(1);
+    }
+
+    @Test
+    void recountsWhenAReplayedDeltaWasAlreadyCounted() {
+        // 집계 전에 커밋되어 집계에 포함된 등록의 커밋 후 처리가 집계 중에 도착 (재적용하면 중복)
+        when(userRepository.countGroupByRegion()).thenAnswer(invocation -> {
+            statisticsService.onUserCreated(1L);
+            return List.of(new RegionUserCount(1L, 3), new RegionUserCount(2L, 1));
+        }).thenReturn(List.of(new RegionUserCount(1L, 3), new RegionUserCount(2L, 1)));
+        when(regionRepository.count()).thenReturn(2L);
+
+        statisticsService.refresh();
+
+        // 검증 집계와 달라 다시 집계한 결과 사용
+        assertThat(statisticsService.countUsers()).isEqualTo(4);
+        assertThat(statisticsService.countUsersByRegion(1L)).isEqualTo(3);
+        verify(userRepository, times(4)).countGroupByRegion();
+    }
+
+    @Test
+    void answersFromDatabaseWhenTheSnapshotNeverVerifies() {
+        // 집계할 때마다 다른 쓰기가 겹침
+        when(userRepository.countGroupByRegion()).thenAnswer(invocation -> {
+            statisticsService.onUserCreated(1L);
+            return List.of(new RegionUserCount(1L, 3));
+        });
+        when(regionRepository.count()).thenReturn(1L);
+        when(userRepository.count()).thenReturn(7L);
+
+        statisticsService.refresh();
+
+        assertThat(statisticsService.countUsers()).isEqualTo(7);
+    }
+}
@@ -0,0 +1,83 @@
+package com.skala.springbootsample.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.skala.springbootsample.dto.BulkImportReport;
+import com.skala.springbootsample.dto.BulkImportReport.RowResult;
+
+// 청크 실패 시 행 단위 재시도, 형식 오류 시 부분 보고서, 내보내기 CSV 재등록 확인
+@SpringBootTest(properties = {
+        "weather.api.key=test",
+        "spring.datasource.url=jdbc:h2:mem:bulk-import-tests",
+        "user.bulk.batch-size=3"
+})
+class UserBulkImportServiceTests {
+
+    @Autowired
+    private UserBulkImportService userBulkImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String nameOf(String email) {
+        return jdbcTemplate.queryForList("select name from users where email = ?", String.class, email)
+                .stream().findFirst().orElse(null);
+    }
+
+    @Test
+    void reimportsExportedCsvAndReportsOnlyTheRowsThatFailed() throws Exception {
+        // 내보내기 CSV 형식 (따옴표 / 쉼표 / 줄바꿈이 포함된 필드), 두 번째 행은 컬럼 길이 초과로 DB 저장 실패
+        String csv = "id,name,email,regionId,regionName\n"
+                + "10,\"Kim, Jr.\",kim@csv.test,1,서울\n"
+                + "11," + "x".repeat(300) + ",long@csv.test,2,부산\n"
+                + "\n"
+                + "12,\"Lee \"\"the\"\"\nSecond\",lee@csv.test,3,대구\n";
+
+        BulkImportReport report = userBulkImportService.importCsv(new StringReader(csv));
+
+        assertThat(report.error()).isNull();
+        assertThat(report.total()).isEqualTo(3);
+        assertThat(report.created()).isEqualTo(2);
+        assertThat(report.rows()).extracting(RowResult::row, RowResult::email, RowResult::success)
+                .containsExactly(
+                        tuple(1, "kim@csv.test", true),
+                        tuple(2, "long@csv.test", false),
+                        tuple(3, "lee@csv.test", true));
+        assertThat(nameOf("kim@csv.test")).isEqualTo("Kim, Jr.");
+        assertThat(nameOf("lee@csv.test")).isEqualTo("Lee \"the\"\nSecond");
+        assertThat(nameOf("long@csv.test")).isNull();
+    }
+
+    @Test
+    void returnsPartialReportWhenJsonIsMalformed() throws Exception {
+        String json = "[{\"name\":\"j1\",\"email\":\"j1@json.test\",\"regionId\":1},"
+                + "42,"
+                + "{\"name\":\"j2\",\"email\":\"j2@json.test\",\"regionId\":\"busan\"},"
+                + "{\"name\":\"j3\",\"email\":\"j3@json.test\",\"regionId\":2},"
+                + "{\"name\":\"j4\",\"email\":\"j4@json.test\",\"regionId\":3},"
+                + "{\"name\":\"j5\",\"email\":\"j5@json.test\",\"regionId\":1},"
+                + "{\"name\":\"j6\", \"email\" 1}";
+
+        BulkImportReport report = userBulkImportService.importJson(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(report.error()).startsWith("JSON 파싱 오류");
+        assertThat(report.total()).isEqualTo(6);
+        assertThat(report.created()).isEqualTo(4);
+        assertThat(report.rows()).extracting(RowResult::row, RowResult::success)
+                .containsExactly(tuple(1, true), tuple(2, false), tuple(3, false),
+                        tuple(4, true), tuple(5, true), tuple(6, true));
+        assertThat(report.rows().get(2).email()).isEqualTo("j2@json.test");
+        assertThat(nameOf("j5@json.test")).isEqualTo("j5");
+    }
+}
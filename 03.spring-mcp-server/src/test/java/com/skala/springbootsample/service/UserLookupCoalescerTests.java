@@ -0,0 +1,74 @@
+package com.skala.springbootsample.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.skala.springbootsample.domain.Region;
+import com.skala.springbootsample.domain.User;
+import com.skala.springbootsample.repo.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 샤드별 병합 조회가 서로를 막지 않고, 호출자마다 분리된 사본을 받는지 확인
+class UserLookupCoalescerTests {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserLookupCoalescer coalescer = new UserLookupCoalescer(userRepository, new SimpleMeterRegistry(),
+            true, Duration.ZERO, 100, 4);
+
+    private static User user(Long id) {
+        Region region = new Region("서울");
+        region.setId(1L);
+        return new User(id, "user" + id, "user" + id, "user" + id + "@example.com", region);
+    }
+
+    @Test
+    void slowBatchDoesNotBlockOtherShards() throws Exception {
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            if (ids.contains(1L)) {
+                slowStarted.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            }
+            return ids.stream().map(UserLookupCoalescerTests::user).toList();
+        });
+
+        CompletableFuture<Optional<User>> slow = CompletableFuture.supplyAsync(() -> coalescer.findById(1L));
+        assertThat(slowStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 다른 샤드의 ID는 느린 조회가 끝나기 전에 응답
+        assertThat(CompletableFuture.supplyAsync(() -> coalescer.findById(2L)).get(5, TimeUnit.SECONDS))
+                .map(User::getName).contains("user2");
+        assertThat(slow).isNotDone();
+
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS)).map(User::getName).contains("user1");
+    }
+
+    @Test
+    void handsEachCallerADetachedCopy() {
+        User loaded = user(3L);
+        when(userRepository.findByIdIn(anyCollection())).thenReturn(List.of(loaded));
+
+        User first = coalescer.findById(3L).orElseThrow();
+        User second = coalescer.findById(3L).orElseThrow();
+
+        assertThat(first).isNotSameAs(loaded).isNotSameAs(second);
+        assertThat(first.getRegion()).isNotSameAs(loaded.getRegion());
+        assertThat(first).usingRecursiveComparison().isEqualTo(loaded);
+    }
+}
@@ -0,0 +1,91 @@
+package com.skala.springbootsample.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.skala.springbootsample.domain.Region;
+import com.skala.springbootsample.domain.User;
+import com.skala.springbootsample.dto.UserSearchHit;
+import com.skala.springbootsample.mcp.UserMcpTools;
+
+// 사용자 이름 검색: 완전 일치 > 접두어 > 유사도 순위, 생성/수정/삭제 커밋 시 색인 반영
+// 초기 데이터: alice / bob / charlie
+@SpringBootTest(properties = "weather.api.key=test")
+class UserSearchIndexTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserSearchIndex userSearchIndex;
+
+    @Autowired
+    private UserMcpTools userMcpTools;
+
+    @Autowired
+    private RegionService regionService;
+
+    @Test
+    void ranksExactPrefixAndFuzzyMatches() {
+        assertThat(userSearchIndex.isReady()).isTrue();
+
+        assertThat(userService.search("  ALICE ", null)).extracting(UserSearchHit::name, UserSearchHit::match)
+                .containsExactly(tuple("alice", UserSearchIndex.EXACT));
+        assertThat(userService.search("char", null)).extracting(UserSearchHit::name, UserSearchHit::match)
+                .containsExactly(tuple("charlie", UserSearchIndex.PREFIX));
+
+        List<UserSearchHit> fuzzy = userService.search("charly", null);
+        assertThat(fuzzy).extracting(UserSearchHit::name).containsExactly("charlie");
+        assertThat(fuzzy.get(0).match()).isEqualTo(UserSearchIndex.FUZZY);
+        assertThat(fuzzy.get(0).score()).isLessThan(0.8);
+
+        assertThatThrownBy(() -> userService.search(" ", null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void keepsIndexInSyncWithUserWrites() {
+        Region region = new Region();
+        region.setId(1L);
+        User created = userService.create(new User("Search Target", "search-target@example.com", region));
+        try {
+            assertThat(userService.findAll(Optional.of("SEARCH   target"))).hasSize(1);
+            assertThat(userService.search("search targ", 5)).extracting(UserSearchHit::id).containsExactly(created.getId());
+
+            userService.update(created.getId(), new User("Renamed Target", "search-target@example.com", region));
+            assertThat(userService.search("search targ", 5)).extracting(UserSearchHit::id).doesNotContain(created.getId());
+            assertThat(userService.search("renamed target", 5)).extracting(UserSearchHit::match)
+                    .containsExactly(UserSearchIndex.EXACT);
+        } finally {
+            userService.delete(created.getId());
+        }
+        assertThat(userService.search("renamed target", 5)).isEmpty();
+    }
+
+    @Test
+    void showsCurrentRegionNameAfterRegionRename() {
+        assertThat(userService.search("bob", 1)).extracting(UserSearchHit::regionName).containsExactly("부산");
+        regionService.update(2L, new Region("부산광역시"));
+        try {
+            assertThat(userService.search("bob", 1)).extracting(UserSearchHit::regionName).containsExactly("부산광역시");
+            assertThat(userMcpTools.getUsers("bobb")).contains("부산광역시");
+        } finally {
+            regionService.update(2L, new Region("부산"));
+        }
+    }
+
+    @Test
+    void suggestsSimilarNamesWhenNoExactMatch() {
+        assertThat(userMcpTools.searchUsers("alise", 3)).startsWith("'alise' 검색 결과: 1명").contains("alice");
+        assertThat(userMcpTools.getUsers("charly"))
+                .startsWith("'charly'과 일치하는 사용자가 없습니다.")
+                .contains("charlie@example.com");
+    }
+}
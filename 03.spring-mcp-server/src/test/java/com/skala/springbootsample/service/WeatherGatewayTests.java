@@ -0,0 +1,162 @@
+package com.skala.springbootsample.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.skala.springbootsample.config.WeatherProperties;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * WeatherGateway를 로컬 stub HTTP 서버에 붙여서 캐시 / 요청 병합 / 타임아웃 / 서킷 브레이커 동작을 검증한다.
+ */
+class WeatherGatewayTests {
+
+    private HttpServer server;
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private volatile int status = 200;
+    private volatile long delayMillis = 0;
+
+    private WeatherProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/data/2.5/weather", exchange -> {
+            upstreamCalls.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "{\"name\":\"Seoul\",\"main\":{\"temp\":21.5}}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        properties = new WeatherProperties();
+        properties.setKey("test");
+        properties.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        properties.setPath("/data/2.5/weather");
+        properties.setReadTimeout(Duration.ofMillis(500));
+        properties.setFailureThreshold(3);
+        properties.setOpenDuration(Duration.ofMinutes(1));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    private WeatherGateway gateway() {
+        return new WeatherGateway(WebClient.builder(), properties, meterRegistry);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("weather.gateway.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    void cachedWithinTtl() {
+        WeatherGateway gateway = gateway();
+
+        String first = gateway.getCurrentWeather("Seoul").block();
+        String second = gateway.getCurrentWeather(" seoul ").block();
+
+        assertThat(first).contains("Seoul");
+        assertThat(second).isEqualTo(first);
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(requests("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentRequestsShareOneUpstreamCall() {
+        delayMillis = 200;
+        WeatherGateway gateway = gateway();
+
+        List<String> results = Mono.zip(
+                IntStream.range(0, 20).mapToObj(i -> gateway.getCurrentWeather("Seoul")).toList(),
+                values -> List.of(values).stream().map(String.class::cast).toList())
+                .block();
+
+        assertThat(results).hasSize(20).allMatch(r -> r.contains("Seoul"));
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(requests("coalesced")).isEqualTo(19);
+    }
+
+    @Test
+    void slowUpstreamTimesOutWithErrorJson() {
+        delayMillis = 1500;
+        WeatherGateway gateway = gateway();
+
+        long started = System.nanoTime();
+        String result = gateway.getCurrentWeather("Seoul").block();
+
+        assertThat(result).startsWith("{\"error\":");
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(1400));
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailures() {
+        status = 503;
+        WeatherGateway gateway = gateway();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(gateway.getCurrentWeather("Seoul").block()).startsWith("{\"error\":");
+        }
+
+        assertThat(upstreamCalls.get()).isEqualTo(3);
+        assertThat(requests("rejected")).isEqualTo(2);
+        assertThat(meterRegistry.get("weather.gateway.circuit.open").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void clientErrorsDoNotOpenCircuit() {
+        status = 404;
+        WeatherGateway gateway = gateway();
+
+        for (int i = 0; i < 5; i++) {
+            gateway.getCurrentWeather("Nowhere").block();
+        }
+
+        assertThat(upstreamCalls.get()).isEqualTo(5);
+        assertThat(meterRegistry.get("weather.gateway.circuit.open").gauge().value()).isZero();
+    }
+
+    @Test
+    void servesStaleValueWhenUpstreamFails() throws InterruptedException {
+        properties.setCacheTtl(Duration.ofMillis(50));
+        properties.setStaleTtl(Duration.ofMillis(100));
+        WeatherGateway gateway = gateway();
+
+        String fresh = gateway.getCurrentWeather("Seoul").block();
+        status = 500;
+        Thread.sleep(150);
+
+        // stale-ttl이 지나 upstream을 호출하지만 실패하므로 마지막 값을 응답
+        assertThat(gateway.getCurrentWeather("Seoul").block()).isEqualTo(fresh);
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+}
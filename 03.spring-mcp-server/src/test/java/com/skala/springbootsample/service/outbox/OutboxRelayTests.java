@@ -0,0 +1,206 @@
+package com.skala.springbootsample.service.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skala.springbootsample.config.OutboxProperties;
+import com.skala.springbootsample.domain.Region;
+import com.skala.springbootsample.domain.User;
+import com.skala.springbootsample.dto.BulkUserRow;
+import com.skala.springbootsample.repo.OutboxEventRepository;
+import com.skala.springbootsample.service.RegionService;
+import com.skala.springbootsample.service.UserBulkImportService;
+import com.skala.springbootsample.service.UserService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 사용자/지역 변경 outbox 기록과 relay 발행 (주기 실행은 끄고 relay() 직접 호출)
+// 다른 테스트 컨텍스트의 relay 가 이벤트를 가져가지 않도록 별도 H2 DB 사용
+@SpringBootTest(properties = {
+        "weather.api.key=test",
+        "outbox.relay.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:outbox-tests"
+})
+@AutoConfigureMockMvc
+class OutboxRelayTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private RegionService regionService;
+
+    @Autowired
+    private UserBulkImportService userBulkImportService;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryChangeEventSink sink;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay.relay();
+        sink.clear();
+    }
+
+    @Test
+    void publishesUserAndRegionChangesInCommitOrder() {
+        Region region = regionService.create(new Region("outbox-region"));
+        User user = userService.create(new User("outbox user", "outbox-user@example.com", region));
+        userService.update(user.getId(), new User("outbox renamed", "outbox-user@example.com", region));
+        userService.delete(user.getId());
+        regionService.delete(region.getId());
+
+        assertThat(sink.events()).isEmpty();
+        assertThat(outboxRelay.relay()).isEqualTo(5);
+        assertThat(outboxEventRepository.count()).isZero();
+
+        List<ChangeEvent> events = sink.events();
+        assertThat(events).extracting(ChangeEvent::aggregateType, ChangeEvent::aggregateId, ChangeEvent::eventType)
+                .containsExactly(
+                        tuple("region", region.getId(), "CREATED"),
+                        tuple("user", user.getId(), "CREATED"),
+                        tuple("user", user.getId(), "UPDATED"),
+                        tuple("user", user.getId(), "DELETED"),
+                        tuple("region", region.getId(), "DELETED"));
+        assertThat(events).extracting(ChangeEvent::id).isSorted();
+        assertThat(events.get(2).payload()).contains("\"name\":\"outbox renamed\"").contains("\"regionName\":\"outbox-region\"");
+        assertThat(sink.eventsAfter(events.get(2).id(), 10)).hasSize(2);
+    }
+
+    @Test
+    void servesPublishedEventsAfterTheLastSeenId() throws Exception {
+        Region region = regionService.create(new Region("outbox-feed"));
+        regionService.update(region.getId(), new Region("outbox-feed-renamed"));
+        regionService.delete(region.getId());
+        outboxRelay.relay();
+        List<ChangeEvent> events = sink.events();
+
+        mockMvc.perform(get("/api/changes").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Changes-Evicted", "false"))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].eventType").value("CREATED"))
+                .andExpect(jsonPath("$[0].payload.name").value("outbox-feed"))
+                .andExpect(jsonPath("$[1].eventType").value("UPDATED"));
+        mockMvc.perform(get("/api/changes").param("afterId", String.valueOf(events.get(1).id())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].eventType").value("DELETED"));
+        mockMvc.perform(get("/api/changes").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rolledBackWritesLeaveNoEvents() {
+        Region region = new Region();
+        region.setId(1L);
+        transactionTemplate.executeWithoutResult(status -> {
+            userService.create(new User("rolled back", "rolled-back@example.com", region));
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxEventRepository.count()).isZero();
+        assertThat(outboxRelay.relay()).isZero();
+    }
+
+    @Test
+    void recordsBulkImportedUsers() {
+        userBulkImportService.importRows(List.of(
+                new BulkUserRow("bulk outbox 1", "bulk-outbox-1@example.com", 1L),
+                new BulkUserRow("bulk outbox 2", "bulk-outbox-2@example.com", 2L)));
+
+        outboxRelay.relay();
+        assertThat(sink.events()).extracting(ChangeEvent::eventType).containsExactly("CREATED", "CREATED");
+        assertThat(sink.events().get(1).payload()).contains("bulk-outbox-2@example.com");
+    }
+
+    @Test
+    void retriesTheSameBatchWhenSinkFails() {
+        Region region = regionService.create(new Region("outbox-retry"));
+        regionService.delete(region.getId());
+
+        OutboxProperties properties = new OutboxProperties();
+        properties.getRelay().setBatchSize(1);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OutboxRelay failing = new OutboxRelay(jdbcTemplate, List.of(events -> {
+            throw new IllegalStateException("broker unavailable");
+        }), transactionTemplate, meterRegistry, properties);
+
+        assertThatThrownBy(failing::relay).hasMessageContaining("broker unavailable");
+        assertThat(outboxEventRepository.count()).isEqualTo(2);
+        assertThat(meterRegistry.get("outbox.publish.errors").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox.pending").gauge().value()).isEqualTo(2);
+
+        OutboxRelay recovered = new OutboxRelay(jdbcTemplate, List.of(sink), transactionTemplate,
+                meterRegistry, properties);
+        assertThat(recovered.relay()).isEqualTo(2);
+        assertThat(sink.events()).extracting(ChangeEvent::eventType).containsExactly("CREATED", "DELETED");
+        assertThat(meterRegistry.get("outbox.relay.batch.size").summary().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("outbox.publish.lag").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void reportsEventsEvictedFromMemory() {
+        InMemoryChangeEventSink small = new InMemoryChangeEventSink(2);
+        small.publish(List.of(
+                new ChangeEvent(1L, "region", 7L, "CREATED", "{}", null),
+                new ChangeEvent(2L, "region", 7L, "UPDATED", "{}", null),
+                new ChangeEvent(3L, "region", 7L, "DELETED", "{}", null)));
+
+        assertThat(small.eventsAfter(0, 10)).extracting(ChangeEvent::id).containsExactly(2L, 3L);
+        assertThat(small.evictedAfter(0)).isTrue();
+        assertThat(small.evictedAfter(1)).isFalse();
+    }
+
+    @Test
+    void fileSinkAppendsJsonLines(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("events/changes.jsonl");
+        FileChangeEventSink fileSink = new FileChangeEventSink(file, objectMapper);
+        fileSink.publish(List.of(new ChangeEvent(1L, "region", 7L, "CREATED", "{\"id\":7,\"name\":\"제주\"}", null)));
+        fileSink.publish(List.of(new ChangeEvent(2L, "region", 7L, "DELETED", "{\"id\":7,\"name\":null}", null)));
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines.get(0)).get("payload").get("name").asText()).isEqualTo("제주");
+        assertThat(objectMapper.readTree(lines.get(1)).get("eventType").asText()).isEqualTo("DELETED");
+    }
+}
@@ -0,0 +1,120 @@
+package com.skala.springbootsample.service.overload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.skala.springbootsample.config.LoadSheddingProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 동시성 제한의 거절 / 제한값 조정과 필터의 503 응답 확인
+class AdaptiveConcurrencyLimiterTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AdaptiveConcurrencyLimiter limiter(int initial) {
+        LoadSheddingProperties.Limit settings = new LoadSheddingProperties.Limit();
+        settings.setInitial(initial);
+        settings.setMin(1);
+        settings.setMax(100);
+        settings.setWindowSize(5);
+        return new AdaptiveConcurrencyLimiter(settings, meterRegistry);
+    }
+
+    // 제한값만큼 동시에 실행한 뒤 같은 응답 시간으로 모두 완료
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, long rttMillis, boolean dropped) {
+        int acquired = 0;
+        while (limiter.tryAcquire("test")) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(Duration.ofMillis(rttMillis).toNanos(), dropped);
+        }
+    }
+
+    @Test
+    void rejectsRequestsBeyondTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+
+        assertThat(limiter.tryAcquire("api")).isTrue();
+        assertThat(limiter.tryAcquire("mcp")).isTrue();
+        assertThat(limiter.tryAcquire("mcp")).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(meterRegistry.get("load.shedding.rejections").tag("endpoint", "mcp").counter().count()).isEqualTo(1);
+
+        limiter.release(Duration.ofMillis(5).toNanos(), false);
+        assertThat(limiter.tryAcquire("mcp")).isTrue();
+        assertThat(meterRegistry.get("load.shedding.in.flight").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void growsWhileLatencyIsStableAndShrinksOnQueueingOrFailures() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+        for (int i = 0; i < 5; i++) {
+            saturate(limiter, 10, false);
+        }
+        int grown = limiter.getLimit();
+        assertThat(grown).isGreaterThan(10);
+        assertThat(meterRegistry.get("load.shedding.limit").gauge().value()).isEqualTo(grown);
+
+        // 응답 시간이 평소의 10배로 늘면 (대기 발생) 제한을 줄임
+        saturate(limiter, 100, false);
+        int shrunk = limiter.getLimit();
+        assertThat(shrunk).isLessThan(grown);
+
+        // 5xx 실패가 있으면 backoff-ratio 만큼 줄임
+        saturate(limiter, 10, true);
+        assertThat(limiter.getLimit()).isLessThan(shrunk);
+    }
+
+    @Test
+    void doesNotGrowWhenUnderused() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+        for (int i = 0; i < 50; i++) {
+            assertThat(limiter.tryAcquire("test")).isTrue();
+            limiter.release(Duration.ofMillis(10).toNanos(), false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void filterRejectsWithRetryableErrorWhenLimitIsReached() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(1);
+        LoadSheddingFilter filter = new LoadSheddingFilter(limiter, List.of("/mcp", "/api/**"),
+                List.of("/api/probe"), Duration.ofSeconds(2));
+        assertThat(limiter.tryAcquire("api")).isTrue();
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("POST", "/mcp"), rejected, chain);
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(chain.getRequest()).isNull();
+
+        // 제외 경로, GET 이벤트 스트림, 대상이 아닌 경로는 제한하지 않음
+        MockHttpServletRequest stream = new MockHttpServletRequest("GET", "/mcp");
+        stream.addHeader("Accept", "text/event-stream");
+        for (MockHttpServletRequest request : List.of(new MockHttpServletRequest("POST", "/api/probe"), stream,
+                new MockHttpServletRequest("GET", "/actuator/health"))) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+
+        limiter.release(Duration.ofMillis(5).toNanos(), false);
+        MockHttpServletResponse accepted = new MockHttpServletResponse();
+        chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/users"), accepted, chain);
+        assertThat(accepted.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+}
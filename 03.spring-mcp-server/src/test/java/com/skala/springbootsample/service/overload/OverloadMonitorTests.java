@@ -0,0 +1,119 @@
+package com.skala.springbootsample.service.overload;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.skala.springbootsample.config.LoadSheddingProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// 커넥션 대기 / 실행 중 도구 호출 수에 따른 readiness 자동 전환과 복구 확인
+class OverloadMonitorTests {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ApplicationAvailabilityBean availability = new ApplicationAvailabilityBean();
+    private final AtomicInteger toolCalls = new AtomicInteger();
+    private final Timer acquire = Timer.builder("hikaricp.connections.acquire").tag("pool", "test").register(meterRegistry);
+    private final Counter timeouts = Counter.builder("hikaricp.connections.timeout").tag("pool", "test").register(meterRegistry);
+    private OverloadMonitor monitor;
+    private ApplicationEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        LoadSheddingProperties.Readiness settings = new LoadSheddingProperties.Readiness();
+        settings.setMaxPoolWait(Duration.ofMillis(100));
+        settings.setMaxInFlightToolCalls(10);
+        settings.setRecoverAfter(Duration.ofSeconds(10));
+        publisher = event -> {
+            availability.onApplicationEvent((AvailabilityChangeEvent<?>) event);
+            @SuppressWarnings("unchecked")
+            AvailabilityChangeEvent<ReadinessState> readiness = (AvailabilityChangeEvent<ReadinessState>) event;
+            monitor.onReadinessChange(readiness);
+        };
+        monitor = new OverloadMonitor(settings, publisher, availability, meterRegistry, toolCalls::get);
+        AvailabilityChangeEvent.publish(publisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        monitor.check(0);
+    }
+
+    private double transitions(ReadinessState state, String reason) {
+        Counter counter = meterRegistry.find("load.shedding.readiness.transitions")
+                .tag("state", state.name()).tag("reason", reason).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    @Test
+    void refusesTrafficWhilePoolWaitIsHighAndRecoversAfterCoolDown() {
+        acquire.record(Duration.ofMillis(10));
+        monitor.check(SECOND);
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+
+        acquire.record(Duration.ofMillis(400));
+        acquire.record(Duration.ofMillis(200));
+        monitor.check(2 * SECOND);
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+        assertThat(monitor.isRefusing()).isTrue();
+        assertThat(transitions(ReadinessState.REFUSING_TRAFFIC, "pool-wait")).isEqualTo(1);
+        assertThat(meterRegistry.get("load.shedding.overloaded").gauge().value()).isEqualTo(1);
+
+        // 회복 상태가 recover-after 동안 유지되어야 복구 (중간에 다시 높아지면 처음부터)
+        monitor.check(3 * SECOND);
+        acquire.record(Duration.ofMillis(80));
+        monitor.check(9 * SECOND);
+        monitor.check(14 * SECOND);
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+
+        monitor.check(24 * SECOND);
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+        assertThat(transitions(ReadinessState.ACCEPTING_TRAFFIC, "recovered")).isEqualTo(1);
+        assertThat(meterRegistry.get("load.shedding.overloaded").gauge().value()).isZero();
+    }
+
+    @Test
+    void refusesTrafficOnConnectionTimeoutsAndToolCallBacklog() {
+        timeouts.increment();
+        monitor.check(SECOND);
+        assertThat(transitions(ReadinessState.REFUSING_TRAFFIC, "pool-wait")).isEqualTo(1);
+
+        monitor.check(12 * SECOND);
+        monitor.check(23 * SECOND);
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+
+        toolCalls.set(11);
+        monitor.check(24 * SECOND);
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+        assertThat(transitions(ReadinessState.REFUSING_TRAFFIC, "tool-calls")).isEqualTo(1);
+    }
+
+    @Test
+    void leavesReadinessSetByOthersAlone() {
+        // 기동 중(REFUSING_TRAFFIC)에는 전환하지 않음
+        AvailabilityChangeEvent.publish(publisher, this, ReadinessState.REFUSING_TRAFFIC);
+        toolCalls.set(11);
+        monitor.check(SECOND);
+        assertThat(monitor.isRefusing()).isFalse();
+
+        // 수동으로 바꾼 REFUSING_TRAFFIC 은 부하가 회복되어도 복구하지 않음
+        AvailabilityChangeEvent.publish(publisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        monitor.check(2 * SECOND);
+        assertThat(monitor.isRefusing()).isTrue();
+        AvailabilityChangeEvent.publish(publisher, this, ReadinessState.REFUSING_TRAFFIC);
+        toolCalls.set(0);
+        monitor.check(3 * SECOND);
+        monitor.check(20 * SECOND);
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+        assertThat(transitions(ReadinessState.ACCEPTING_TRAFFIC, "recovered")).isZero();
+    }
+}
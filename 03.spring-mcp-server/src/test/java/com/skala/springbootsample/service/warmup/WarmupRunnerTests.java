@@ -0,0 +1,104 @@
+package com.skala.springbootsample.service.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.skala.springbootsample.mcp.UserMcpTools;
+import com.skala.springbootsample.repo.metrics.SlowQuery;
+import com.skala.springbootsample.repo.metrics.SlowQueryLog;
+import com.skala.springbootsample.service.outbox.InMemoryChangeEventSink;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 준비 상태 전 워밍업이 제외 도구(쓰기 도구 포함) 외의 모든 도구 / REST 경로를 호출하고, DB 변경과
+// 호출 로그 / 도구 메트릭 / 느린 쿼리는 남지 않는지 확인 (워밍업은 컨텍스트 기동 중 ApplicationReadyEvent 에서 실행됨)
+// 느린 쿼리 임계값 0ms: 모든 쿼리가 느린 쿼리 대상
+@ExtendWith(OutputCaptureExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "weather.api.key=test",
+        "spring.datasource.url=jdbc:h2:mem:warmup-tests",
+        "warmup.enabled=true",
+        "warmup.budget=20s",
+        "warmup.iterations-per-round=2",
+        "warmup.max-rounds=3",
+        "warmup.stable-rounds=5",
+        "db.observation.slow-threshold=0ms"
+})
+class WarmupRunnerTests {
+
+    @Autowired
+    private WarmupRunner warmupRunner;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private InMemoryChangeEventSink changeEventSink;
+
+    @Autowired
+    private LoggingSystem loggingSystem;
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @MockitoSpyBean
+    private UserMcpTools userMcpTools;
+
+    @Test
+    void replaysToolsAndRestPathsInRolledBackTransactionsBeforeReady(CapturedOutput output) {
+        WarmupRunner.Result result = warmupRunner.getResult();
+        assertThat(result).isNotNull();
+        assertThat(result.rounds()).isEqualTo(3);
+        assertThat(result.stabilized()).isFalse();
+        assertThat(result.lastP99Nanos()).isPositive();
+
+        // 제외 도구(외부 API / 쓰기 / 알람) 외의 모든 도구가 호출되고, 제외 도구는 호출되지 않음
+        verify(userMcpTools, times(6)).getUserById(anyLong());
+        verify(userMcpTools, times(6)).searchUsers(anyString(), anyInt());
+        verify(userMcpTools, never()).createUser(anyString(), anyString(), anyLong());
+        verify(userMcpTools, never()).deleteUser(anyLong());
+
+        // 계측 없는 콜백으로 호출하므로 운영 도구 메트릭 / 실행 중 호출 수와 느린 쿼리 기록에 남지 않음
+        assertThat(meterRegistry.find("mcp.tool.calls").timers()).allMatch(timer -> timer.count() == 0);
+        assertThat(meterRegistry.find("mcp.tool.errors").counters()).isEmpty();
+        assertThat(slowQueryLog.recent()).extracting(SlowQuery::thread).noneMatch(thread -> thread.startsWith("http-nio"));
+        assertThat(meterRegistry.get("http.server.requests").tag("uri", "/api/regions/{id}").timer().count())
+                .isEqualTo(6);
+
+        // 변경 / outbox 이벤트는 남지 않음
+        assertThat(jdbcTemplate.queryForObject("select count(*) from users", Long.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from regions", Long.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("select name from regions where id = 1", String.class)).isEqualTo("서울");
+        assertThat(jdbcTemplate.queryForObject("select count(*) from outbox_events", Long.class)).isZero();
+        assertThat(changeEventSink.events()).isEmpty();
+
+        // 도구 / 컨트롤러 호출 로그와 알람 콘솔 출력이 없고, 끝난 뒤 로그 레벨은 원래대로
+        assertThat(output).doesNotContain("MCP Tool 호출").doesNotContain("알람이 설정되었습니다").contains("JIT 워밍업 완료");
+        assertThat(loggingSystem.getLoggerConfiguration("com.skala.springbootsample.mcp").getEffectiveLevel())
+                .isEqualTo(LogLevel.INFO);
+        assertThat(loggingSystem.getLoggerConfiguration("com.skala.springbootsample.mcp").getConfiguredLevel()).isNull();
+
+        assertThat(meterRegistry.get("warmup.rounds").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("warmup.budget").gauge().value()).isEqualTo(20);
+        assertThat(meterRegistry.get("warmup.latency.p99").tag("round", "last").gauge().value()).isPositive();
+    }
+}
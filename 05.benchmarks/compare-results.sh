@@ -0,0 +1,39 @@
+#!/bin/bash
+
+# 두 JMH JSON 결과 비교 (벤치마크 + 파라미터별 점수 변화율)
+# 임계치(기본 10%)보다 느려진 항목이 있으면 종료 코드 1을 반환합니다.
+#
+# 사용법: ./compare-results.sh <기준.json> <비교.json> [임계치%]
+
+BASE=$1
+CURRENT=$2
+THRESHOLD=${3:-10}
+
+if [ -z "$BASE" ] || [ -z "$CURRENT" ]; then
+  echo "사용법: $0 <기준.json> <비교.json> [임계치%]"
+  exit 2
+fi
+
+exec python3 - "$BASE" "$CURRENT" "$THRESHOLD" <<'PY'
+import json, sys
+
+def load(path):
+    rows = {}
+    for r in json.load(open(path, encoding="utf-8")):
+        params = ",".join(f"{k}={v}" for k, v in sorted((r.get("params") or {}).items()))
+        key = f"{r['benchmark'].rsplit('.', 2)[-2]}.{r['benchmark'].rsplit('.', 1)[-1]}" + (f" [{params}]" if params else "")
+        rows[key] = (r["primaryMetric"]["score"], r["primaryMetric"]["scoreUnit"], r["mode"])
+    return rows
+
+base, current, threshold = load(sys.argv[1]), load(sys.argv[2]), float(sys.argv[3])
+regressed = False
+print(f"{'benchmark':<70} {'base':>14} {'current':>14} {'change':>9}")
+for key in sorted(base.keys() & current.keys()):
+    (b, unit, mode), (c, _, _) = base[key], current[key]
+    # avgt/sample/ss 는 낮을수록, thrpt 는 높을수록 좋음
+    change = (c - b) / b * 100 if b else 0.0
+    worse = change > threshold if mode != "thrpt" else -change > threshold
+    regressed |= worse
+    print(f"{key:<70} {b:>14.3f} {c:>14.3f} {change:>+8.1f}% {unit}{'  << REGRESSION' if worse else ''}")
+sys.exit(1 if regressed else 0)
+PY
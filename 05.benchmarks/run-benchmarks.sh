@@ -0,0 +1,23 @@
+#!/bin/bash
+
+# JMH 벤치마크 실행
+# 결과는 results/<버전>-<시각>.json (JMH JSON 형식)으로 저장되어 릴리스 간 비교에 사용합니다.
+#
+# 사용법: ./run-benchmarks.sh [JMH 옵션...]
+#   ./run-benchmarks.sh                                   # 전체 실행
+#   ./run-benchmarks.sh ToolRenderingBenchmark -prof gc   # 렌더링 + 호출당 할당량
+#   ./run-benchmarks.sh RepositoryBenchmark -p rows=1000,100000
+
+set -e
+cd "$(dirname "$0")"
+
+VERSION=${VERSION:-$(git describe --tags --always 2>/dev/null || echo dev)}
+mkdir -p results
+RESULT_FILE="results/${VERSION}-$(date +%Y%m%d-%H%M%S).json"
+
+if [ ! -f target/benchmarks.jar ]; then
+  mvn -B -q package
+fi
+
+java -jar target/benchmarks.jar -rf json -rff "$RESULT_FILE" "$@"
+echo "결과 저장: $RESULT_FILE"
@@ -0,0 +1,177 @@
+package com.skala.springbootsample.bench;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.skala.springbootsample.config.ToolResponseProperties;
+import com.skala.springbootsample.domain.Region;
+import com.skala.springbootsample.domain.User;
+import com.skala.springbootsample.dto.UserPage;
+import com.skala.springbootsample.dto.UserSearchHit;
+import com.skala.springbootsample.dto.UserSummary;
+import com.skala.springbootsample.mcp.RegionMcpTools;
+import com.skala.springbootsample.mcp.UserMcpTools;
+import com.skala.springbootsample.mcp.render.ResponseFormat;
+import com.skala.springbootsample.mcp.render.ToolResponseRenderer;
+import com.skala.springbootsample.service.RegionService;
+import com.skala.springbootsample.service.StatisticsService;
+import com.skala.springbootsample.service.UserService;
+
+/**
+ * DB 없이 MCP 도구의 문자열 렌더링 / 도구 디스패치만 측정하기 위한 인메모리 서비스 대역
+ *
+ * 서비스 클래스를 상속하여 조회 메서드만 재정의한다 (의존성은 사용하지 않으므로 null).
+ */
+public final class BenchmarkFixtures {
+
+    private static final String[] REGION_NAMES = {"서울", "부산", "대구", "인천", "광주", "대전", "울산", "세종"};
+
+    private BenchmarkFixtures() {
+    }
+
+    public static List<Region> regions() {
+        List<Region> regions = new ArrayList<>(REGION_NAMES.length);
+        for (int i = 0; i < REGION_NAMES.length; i++) {
+            Region region = new Region(REGION_NAMES[i]);
+            region.setId((long) i + 1);
+            regions.add(region);
+        }
+        return regions;
+    }
+
+    public static List<User> users(int count, List<Region> regions) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            User user = new User("user" + i, "user" + i + "@example.com", regions.get(i % regions.size()));
+            user.setId((long) i);
+            users.add(user);
+        }
+        return users;
+    }
+
+    public static ToolResponseRenderer renderer(ResponseFormat format) {
+        ToolResponseProperties properties = new ToolResponseProperties();
+        properties.setDefaultFormat(format);
+        return new ToolResponseRenderer(properties);
+    }
+
+    public static UserMcpTools userMcpTools(List<User> users, List<Region> regions) {
+        return userMcpTools(users, regions, ResponseFormat.PROSE);
+    }
+
+    public static UserMcpTools userMcpTools(List<User> users, List<Region> regions, ResponseFormat format) {
+        return new UserMcpTools(new InMemoryUserService(users), new InMemoryRegionService(regions), null,
+                renderer(format));
+    }
+
+    public static RegionMcpTools regionMcpTools(List<User> users, List<Region> regions) {
+        return regionMcpTools(users, regions, ResponseFormat.PROSE);
+    }
+
+    public static RegionMcpTools regionMcpTools(List<User> users, List<Region> regions, ResponseFormat format) {
+        return new RegionMcpTools(new InMemoryRegionService(regions), new InMemoryStatisticsService(users),
+                renderer(format));
+    }
+
+    static final class InMemoryUserService extends UserService {
+
+        private final List<User> users;
+        private final Map<Long, User> byId = new HashMap<>();
+        private final Map<Long, List<User>> byRegion = new HashMap<>();
+
+        InMemoryUserService(List<User> users) {
+            super(null, null, null, null, null, null, null);
+            this.users = users;
+            for (User user : users) {
+                byId.put(user.getId(), user);
+                byRegion.computeIfAbsent(user.getRegion().getId(), id -> new ArrayList<>()).add(user);
+            }
+        }
+
+        @Override
+        public List<User> findAll(Optional<String> name) {
+            if (name.isPresent()) {
+                return users.stream().filter(u -> u.getName().equalsIgnoreCase(name.get())).toList();
+            }
+            return users;
+        }
+
+        @Override
+        public List<UserSearchHit> search(String query, Integer limit) {
+            return List.of();
+        }
+
+        @Override
+        public Optional<User> findById(Long id) {
+            return Optional.ofNullable(byId.get(id));
+        }
+
+        @Override
+        public List<User> findByRegionId(Long regionId) {
+            return byRegion.getOrDefault(regionId, List.of());
+        }
+
+        @Override
+        public UserPage findPage(Long afterId, Integer limit, Optional<String> name) {
+            int from = afterId != null ? afterId.intValue() : 0;
+            int size = limit != null ? limit : DEFAULT_PAGE_LIMIT;
+            int to = Math.min(users.size(), from + size);
+            List<UserSummary> page = new ArrayList<>(Math.max(0, to - from));
+            for (User user : users.subList(Math.min(from, to), to)) {
+                page.add(new UserSummary(user.getId(), user.getName(), user.getEmail(),
+                        user.getRegion().getId(), user.getRegion().getName()));
+            }
+            return new UserPage(page, size, to < users.size() ? (long) to : null);
+        }
+    }
+
+    static final class InMemoryRegionService extends RegionService {
+
+        private final List<Region> regions;
+
+        InMemoryRegionService(List<Region> regions) {
+            super(null, null, null, null, null);
+            this.regions = regions;
+        }
+
+        @Override
+        public List<Region> findAll() {
+            return regions;
+        }
+
+        @Override
+        public Optional<Region> findById(Long id) {
+            return regions.stream().filter(r -> r.getId().equals(id)).findFirst();
+        }
+
+        @Override
+        public Optional<Region> findByName(String name) {
+            return regions.stream().filter(r -> r.getName().equals(name)).findFirst();
+        }
+    }
+
+    static final class InMemoryStatisticsService extends StatisticsService {
+
+        private final Map<Long, Long> countByRegion = new HashMap<>();
+
+        InMemoryStatisticsService(List<User> users) {
+            super(null, null, false);
+            for (User user : users) {
+                countByRegion.merge(user.getRegion().getId(), 1L, Long::sum);
+            }
+        }
+
+        @Override
+        public long countUsersByRegion(Long regionId) {
+            return countByRegion.getOrDefault(regionId, 0L);
+        }
+
+        @Override
+        public boolean hasUsers(Long regionId) {
+            return countUsersByRegion(regionId) > 0;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.skala.springbootsample.bench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.skala.springbootsample.HttpRequestJpaApplication;
+import com.skala.springbootsample.domain.User;
+import com.skala.springbootsample.dto.UserSummary;
+import com.skala.springbootsample.repo.RegionRepository;
+import com.skala.springbootsample.repo.UserRepository;
+
+/**
+ * H2(in-memory) 위에서 UserRepository 조회 비용을 데이터 규모별(1k / 100k / 1M)로 측정
+ *
+ * 실제 애플리케이션 컨텍스트(local 프로파일, 웹 서버 제외)를 띄우고 JDBC batch로 사용자를 적재한 뒤
+ * 무작위 ID/이름/지역으로 조회한다. SQL 로그는 끈다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx3g"})
+public class RepositoryBenchmark {
+
+    private static final int INSERT_BATCH = 10_000;
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"1000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private List<Long> regionIds;
+    private long maxUserId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HttpRequestJpaApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "--weather.api.key=bench");
+        userRepository = context.getBean(UserRepository.class);
+        regionIds = context.getBean(RegionRepository.class).findAll().stream().map(r -> r.getId()).toList();
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        long existing = userRepository.count();
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH);
+        for (long i = existing + 1; i <= rows; i++) {
+            batch.add(new Object[]{"user" + i, "user" + i, "user" + i + "@example.com", regionIds.get((int) (i % regionIds.size()))});
+            if (batch.size() == INSERT_BATCH) {
+                jdbcTemplate.batchUpdate("insert into users (name, name_key, email, region_id) values (?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into users (name, name_key, email, region_id) values (?, ?, ?, ?)", batch);
+        }
+        maxUserId = jdbcTemplate.queryForObject("select max(id) from users", Long.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(1, maxUserId + 1);
+    }
+
+    @Benchmark
+    public Optional<User> findById() {
+        return userRepository.findById(randomUserId());
+    }
+
+    // 정규화된 name_key 인덱스 조회 (대소문자 무시 검색)
+    @Benchmark
+    public List<User> findByNameKey() {
+        return userRepository.findByNameKey(User.normalizeName("USER" + randomUserId()));
+    }
+
+    @Benchmark
+    public List<UserSummary> findSummariesAfter() {
+        return userRepository.findSummariesAfter(randomUserId(), null, PageRequest.of(0, PAGE_SIZE + 1));
+    }
+
+    @Benchmark
+    public List<UserSummary> findSummariesByRegionIdAfter() {
+        Long regionId = regionIds.get(ThreadLocalRandom.current().nextInt(regionIds.size()));
+        return userRepository.findSummariesByRegionIdAfter(regionId, randomUserId(), PageRequest.of(0, PAGE_SIZE + 1));
+    }
+
+    @Benchmark
+    public long countByRegionId() {
+        return userRepository.countByRegionId(regionIds.get(ThreadLocalRandom.current().nextInt(regionIds.size())));
+    }
+}
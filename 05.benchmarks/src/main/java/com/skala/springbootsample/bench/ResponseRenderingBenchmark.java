@@ -0,0 +1,107 @@
+package com.skala.springbootsample.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.skala.springbootsample.domain.Region;
+import com.skala.springbootsample.domain.User;
+import com.skala.springbootsample.mcp.UserMcpTools;
+import com.skala.springbootsample.mcp.render.ResponseFormat;
+
+/**
+ * ToolResponseRenderer 도입 전후 비교
+ *
+ * legacy* 는 렌더러 도입 전 UserMcpTools 의 StringBuilder / String.format 코드를 그대로 옮긴 기준값이고,
+ * 나머지는 현재 도구를 형식별(PROSE / JSON / TSV)로 호출한다.
+ * -prof gc 로 실행하여 gc.alloc.rate.norm(호출당 할당 바이트)을 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx1g"})
+public class ResponseRenderingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Data {
+
+        @Param({"10", "100"})
+        public int userCount;
+
+        List<Region> regions;
+        List<User> users;
+
+        @Setup
+        public void setUp() {
+            regions = BenchmarkFixtures.regions();
+            users = BenchmarkFixtures.users(userCount, regions);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Tools {
+
+        @Param({"PROSE", "JSON", "TSV"})
+        public ResponseFormat format;
+
+        UserMcpTools userMcpTools;
+
+        @Setup
+        public void setUp(Data data) {
+            userMcpTools = BenchmarkFixtures.userMcpTools(data.users, data.regions, format);
+        }
+    }
+
+    @Benchmark
+    public String legacyGetUsers(Data data) {
+        List<User> users = data.users;
+        StringBuilder result = new StringBuilder();
+        result.append("조회된 사용자: ").append(users.size()).append("명\n\n");
+
+        for (User user : users) {
+            result.append("- ID: ").append(user.getId())
+                    .append(", 이름: ").append(user.getName())
+                    .append(", 이메일: ").append(user.getEmail())
+                    .append(", 지역: ").append(user.getRegion().getName())
+                    .append("\n");
+        }
+
+        return result.toString();
+    }
+
+    @Benchmark
+    public String legacyGetUserById(Data data) {
+        User user = data.users.get(0);
+        return String.format("""
+            사용자 정보:
+            - ID: %d
+            - 이름: %s
+            - 이메일: %s
+            - 지역: %s (ID: %d)
+            """,
+                user.getId(), user.getName(), user.getEmail(),
+                user.getRegion().getName(), user.getRegion().getId());
+    }
+
+    @Benchmark
+    public String getUsers(Tools tools) {
+        return tools.userMcpTools.getUsers(null);
+    }
+
+    @Benchmark
+    public String getUserById(Tools tools) {
+        return tools.userMcpTools.getUserById(1L);
+    }
+}
@@ -0,0 +1,94 @@
+package com.skala.springbootsample.bench;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+
+import com.skala.springbootsample.domain.Region;
+import com.skala.springbootsample.domain.User;
+import com.skala.springbootsample.mcp.RegionMcpTools;
+import com.skala.springbootsample.mcp.UserMcpTools;
+
+/**
+ * MethodToolCallbackProvider 디스패치 비용
+ *
+ * 같은 도구를 직접 호출한 경우와 ToolCallback.call(JSON 인자) 경로를 비교하여
+ * 이름 조회 + JSON 인자 바인딩 + 리플렉션 호출 + 결과 직렬화의 오버헤드를 측정한다.
+ * MCP 서버와 같이 콜백은 기동 시 한 번 만들어 이름으로 찾는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx1g"})
+public class ToolDispatchBenchmark {
+
+    private UserMcpTools userMcpTools;
+    private Map<String, ToolCallback> callbacks;
+
+    @Setup
+    public void setUp() {
+        List<Region> regions = BenchmarkFixtures.regions();
+        List<User> users = BenchmarkFixtures.users(100, regions);
+        userMcpTools = BenchmarkFixtures.userMcpTools(users, regions);
+        RegionMcpTools regionMcpTools = BenchmarkFixtures.regionMcpTools(users, regions);
+
+        ToolCallbackProvider provider = MethodToolCallbackProvider.builder()
+                .toolObjects(userMcpTools, regionMcpTools)
+                .build();
+        callbacks = Arrays.stream(provider.getToolCallbacks())
+                .collect(Collectors.toMap(cb -> cb.getToolDefinition().name(), Function.identity()));
+    }
+
+    @Benchmark
+    public String getUserByIdDirect() {
+        return userMcpTools.getUserById(1L);
+    }
+
+    @Benchmark
+    public String getUserByIdCallback() {
+        return callbacks.get("getUserById").call("{\"userId\":1}");
+    }
+
+    @Benchmark
+    public String getUsersPageDirect() {
+        return userMcpTools.getUsersPage(10L, 20, null);
+    }
+
+    @Benchmark
+    public String getUsersPageCallback() {
+        return callbacks.get("getUsersPage").call("{\"afterId\":10,\"limit\":20,\"name\":null}");
+    }
+
+    @Benchmark
+    public String getRegionByNameCallback() {
+        return callbacks.get("getRegionByName").call("{\"regionName\":\"부산\"}");
+    }
+
+    // 도구 목록 구성 비용 (tools/list 응답이나 Provider 재생성 시 발생)
+    @Benchmark
+    public ToolCallback[] buildToolCallbacks() {
+        return MethodToolCallbackProvider.builder()
+                .toolObjects(userMcpTools)
+                .build()
+                .getToolCallbacks();
+    }
+}
@@ -0,0 +1,80 @@
+package com.skala.springbootsample.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.skala.springbootsample.domain.Region;
+import com.skala.springbootsample.domain.User;
+import com.skala.springbootsample.mcp.RegionMcpTools;
+import com.skala.springbootsample.mcp.UserMcpTools;
+
+/**
+ * MCP 도구 응답 문자열 생성 비용 (StringBuilder 목록 렌더링, String.format 텍스트 블록)
+ *
+ * 서비스는 인메모리 대역을 사용하므로 DB 비용은 포함되지 않는다.
+ * 호출당 할당량은 -prof gc 의 gc.alloc.rate.norm 으로 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx1g"})
+public class ToolRenderingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int userCount;
+
+    private UserMcpTools userMcpTools;
+    private RegionMcpTools regionMcpTools;
+
+    @Setup
+    public void setUp() {
+        List<Region> regions = BenchmarkFixtures.regions();
+        List<User> users = BenchmarkFixtures.users(userCount, regions);
+        userMcpTools = BenchmarkFixtures.userMcpTools(users, regions);
+        regionMcpTools = BenchmarkFixtures.regionMcpTools(users, regions);
+    }
+
+    @Benchmark
+    public String getUsers() {
+        return userMcpTools.getUsers(null);
+    }
+
+    @Benchmark
+    public String getUsersPage() {
+        return userMcpTools.getUsersPage(null, 50, null);
+    }
+
+    @Benchmark
+    public String getUserById() {
+        return userMcpTools.getUserById(1L);
+    }
+
+    @Benchmark
+    public String getRegions() {
+        return regionMcpTools.getRegions();
+    }
+
+    @Benchmark
+    public String getRegionById() {
+        return regionMcpTools.getRegionById(1L);
+    }
+
+    @Benchmark
+    public String getRegionByName() {
+        return regionMcpTools.getRegionByName("부산");
+    }
+}